@@ -0,0 +1,93 @@
+package com.beeja.api.accounts.cache;
+
+import com.beeja.api.accounts.config.properties.OrganizationCacheProperties;
+import com.beeja.api.accounts.model.User;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * Display names of every user of an organization by employee ID, for decorating list pages in the
+ * other services. An organization's names are read in one projected scan on first use and then
+ * updated in place as users are created or renamed. Deactivated users keep their names, since
+ * their past records are still listed.
+ */
+@Component
+public class EmployeeNameDirectory {
+
+  private final MongoTemplate mongoTemplate;
+
+  /** Organization ID to its display names by employee ID. */
+  private final LoadingCache<String, Map<String, String>> names;
+
+  public EmployeeNameDirectory(
+      MongoTemplate mongoTemplate,
+      OrganizationCacheProperties properties,
+      MeterRegistry meterRegistry) {
+    this.mongoTemplate = mongoTemplate;
+    this.names =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTimeToLive())
+            .recordStats()
+            .build(this::loadNames);
+    CaffeineCacheMetrics.monitor(meterRegistry, names, "employeeNames");
+  }
+
+  /**
+   * @return the display names of those employees that exist, by employee ID, in request order
+   */
+  public Map<String, String> getNames(String organizationId, Collection<String> employeeIds) {
+    Map<String, String> organizationNames = names.get(organizationId);
+    Map<String, String> found = new LinkedHashMap<>();
+    for (String employeeId : employeeIds) {
+      String name = employeeId == null ? null : organizationNames.get(employeeId);
+      if (name != null) {
+        found.put(employeeId, name);
+      }
+    }
+    return found;
+  }
+
+  /** Records the name of a saved user, if the user's organization is loaded. */
+  public void put(User user) {
+    if (user.getOrganizations() == null || user.getEmployeeId() == null) {
+      return;
+    }
+    Map<String, String> organizationNames = names.getIfPresent(user.getOrganizations().getId());
+    if (organizationNames != null) {
+      organizationNames.put(user.getEmployeeId(), displayName(user));
+    }
+  }
+
+  public void evict(String organizationId) {
+    names.invalidate(organizationId);
+  }
+
+  private Map<String, String> loadNames(String organizationId) {
+    Query query = new Query(Criteria.where("organizations._id").is(organizationId));
+    query.fields().include("employeeId").include("firstName").include("lastName");
+    Map<String, String> organizationNames = new ConcurrentHashMap<>();
+    for (User user : mongoTemplate.find(query, User.class)) {
+      if (user.getEmployeeId() != null) {
+        organizationNames.put(user.getEmployeeId(), displayName(user));
+      }
+    }
+    return organizationNames;
+  }
+
+  private static String displayName(User user) {
+    String firstName = user.getFirstName() == null ? "" : user.getFirstName();
+    String lastName = user.getLastName() == null ? "" : user.getLastName();
+    return (firstName + " " + lastName).trim();
+  }
+}
@@ -0,0 +1,139 @@
+package com.beeja.api.accounts.cache;
+
+import com.beeja.api.accounts.config.properties.OrganizationCacheProperties;
+import com.beeja.api.accounts.model.Organization.OrgDefaults;
+import com.beeja.api.accounts.model.Organization.OrganizationPattern;
+import com.beeja.api.accounts.model.featureFlags.FeatureToggle;
+import com.beeja.api.accounts.repository.FeatureToggleRepository;
+import com.beeja.api.accounts.repository.OrgDefaultsRepository;
+import com.beeja.api.accounts.repository.OrganizationPatternsRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * Organization-level reference data that the other services ask accounts for on hot paths:
+ * defaults, active ID patterns and feature toggles. Each organization's data is loaded on first
+ * use, kept current by the services that change it, and evicted one organization at a time.
+ *
+ * <p>Returned objects are shared with other readers and must not be modified; services that
+ * update this data read it from the repositories instead.
+ */
+@Component
+public class OrganizationReferenceCache {
+
+  private final OrgDefaultsRepository orgDefaultsRepository;
+  private final OrganizationPatternsRepository organizationPatternsRepository;
+  private final FeatureToggleRepository featureToggleRepository;
+
+  /** Organization ID to its defaults by key. */
+  private final LoadingCache<String, Map<String, OrgDefaults>> orgDefaults;
+
+  /** Organization ID to its active pattern by pattern type. */
+  private final LoadingCache<String, Map<String, OrganizationPattern>> activePatterns;
+
+  private final Cache<String, FeatureToggle> featureToggles;
+
+  public OrganizationReferenceCache(
+      OrgDefaultsRepository orgDefaultsRepository,
+      OrganizationPatternsRepository organizationPatternsRepository,
+      FeatureToggleRepository featureToggleRepository,
+      OrganizationCacheProperties properties,
+      MeterRegistry meterRegistry) {
+    this.orgDefaultsRepository = orgDefaultsRepository;
+    this.organizationPatternsRepository = organizationPatternsRepository;
+    this.featureToggleRepository = featureToggleRepository;
+    this.orgDefaults = newCache(properties).build(this::loadOrgDefaults);
+    this.activePatterns = newCache(properties).build(this::loadActivePatterns);
+    this.featureToggles = newCache(properties).build();
+    CaffeineCacheMetrics.monitor(meterRegistry, orgDefaults, "orgDefaults");
+    CaffeineCacheMetrics.monitor(meterRegistry, activePatterns, "organizationPatterns");
+    CaffeineCacheMetrics.monitor(meterRegistry, featureToggles, "featureToggles");
+  }
+
+  public OrgDefaults getOrgDefaults(String organizationId, String key) {
+    return orgDefaults.get(organizationId).get(key);
+  }
+
+  public List<OrgDefaults> getOrgDefaults(String organizationId, Collection<String> keys) {
+    Map<String, OrgDefaults> byKey = orgDefaults.get(organizationId);
+    return keys.stream().distinct().map(byKey::get).filter(Objects::nonNull).toList();
+  }
+
+  /** Writes saved defaults through to the organization's entry, if it is cached. */
+  public void putOrgDefaults(OrgDefaults savedOrgDefaults) {
+    orgDefaults
+        .asMap()
+        .computeIfPresent(
+            savedOrgDefaults.getOrganizationId(),
+            (organizationId, byKey) -> {
+              Map<String, OrgDefaults> updated = new HashMap<>(byKey);
+              updated.put(savedOrgDefaults.getKey(), savedOrgDefaults);
+              return Map.copyOf(updated);
+            });
+  }
+
+  public void evictOrgDefaults(String organizationId) {
+    orgDefaults.invalidate(organizationId);
+  }
+
+  public OrganizationPattern getActivePattern(String organizationId, String patternType) {
+    return activePatterns.get(organizationId).get(patternType);
+  }
+
+  public void evictPatterns(String organizationId) {
+    activePatterns.invalidate(organizationId);
+  }
+
+  /**
+   * @return the organization's feature toggles, or {@code null} when it has none; that answer is
+   *     not cached, since toggles can be created outside this service
+   */
+  public FeatureToggle getFeatureToggle(String organizationId) {
+    return featureToggles.get(organizationId, featureToggleRepository::findByOrganizationId);
+  }
+
+  public void putFeatureToggle(FeatureToggle savedFeatureToggle) {
+    featureToggles.put(savedFeatureToggle.getOrganizationId(), savedFeatureToggle);
+  }
+
+  private Map<String, OrgDefaults> loadOrgDefaults(String organizationId) {
+    return orgDefaultsRepository.findByOrganizationId(organizationId).stream()
+        .filter(defaults -> defaults.getKey() != null)
+        .collect(
+            Collectors.collectingAndThen(
+                Collectors.toMap(
+                    OrgDefaults::getKey, defaults -> defaults, (first, second) -> first),
+                Map::copyOf));
+  }
+
+  private Map<String, OrganizationPattern> loadActivePatterns(String organizationId) {
+    return organizationPatternsRepository
+        .findByOrganizationIdAndActive(organizationId, true)
+        .stream()
+        .filter(pattern -> pattern.getPatternType() != null)
+        .collect(
+            Collectors.collectingAndThen(
+                Collectors.toMap(
+                    pattern -> String.valueOf(pattern.getPatternType()),
+                    pattern -> pattern,
+                    (first, second) -> first),
+                Map::copyOf));
+  }
+
+  private static Caffeine<Object, Object> newCache(OrganizationCacheProperties properties) {
+    return Caffeine.newBuilder()
+        .maximumSize(properties.getMaximumSize())
+        .expireAfterWrite(properties.getTimeToLive())
+        .recordStats();
+  }
+}
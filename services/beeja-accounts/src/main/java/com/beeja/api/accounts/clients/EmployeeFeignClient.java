@@ -1,6 +1,9 @@
 package com.beeja.api.accounts.clients;
 
+import com.beeja.api.accounts.requests.AccountChangesRequest;
 import com.beeja.api.accounts.response.EmployeeValuesDTO;
+import com.beeja.api.accounts.utils.Constants;
+import java.util.List;
 import java.util.Map;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +20,14 @@ public interface EmployeeFeignClient {
   @PostMapping("/v1/users")
   void createEmployee(@RequestBody Map<String, Object> employee);
 
+  @PostMapping("/v1/users/bulk")
+  List<Map<String, Object>> createEmployees(@RequestBody List<Map<String, Object>> employees);
+
+  @PostMapping("/v1/users/accounts/changes")
+  void accountsChanged(
+      @RequestBody AccountChangesRequest changedAccounts,
+      @RequestHeader(Constants.COOKIE_ACCESS_TOKEN) String authorization);
+
   @DeleteMapping("/v1/users/organizations/{organizationId}")
   ResponseEntity<String> deleteAllEmployeesByOrganizationId(@PathVariable String organizationId);
 
@@ -1,7 +1,11 @@
 package com.beeja.api.accounts.config;
 
 import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -10,13 +14,26 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
 
+  private static final int MAX_CONCURRENT_TASKS = 10;
+
+  @Autowired UserContextTaskDecorator userContextTaskDecorator;
+
+  @Autowired Environment environment;
+
   @Override
   public Executor getAsyncExecutor() {
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
     executor.setCorePoolSize(5);
-    executor.setMaxPoolSize(10);
+    executor.setMaxPoolSize(MAX_CONCURRENT_TASKS);
     executor.setQueueCapacity(100);
     executor.setThreadNamePrefix("AsyncExecutor-");
+    if (Threading.VIRTUAL.isActive(environment)) {
+      // Same pool size and queue as on platform threads, so callers still hand tasks off without
+      // waiting and downstream load stays the same; only the workers are virtual.
+      executor.setThreadFactory(
+          new VirtualThreadTaskExecutor("AsyncExecutor-").getVirtualThreadFactory());
+    }
+    executor.setTaskDecorator(userContextTaskDecorator);
     executor.initialize();
     return executor;
   }
@@ -1,6 +1,7 @@
 package com.beeja.api.accounts.config;
 
 import com.beeja.api.accounts.utils.Constants;
+import com.beeja.api.accounts.utils.UserContext;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
 import org.springframework.stereotype.Component;
@@ -12,6 +13,10 @@ public class FeignClientInterceptor implements RequestInterceptor {
 
   @Override
   public void apply(RequestTemplate template) {
+    // Calls made with the internal endpoint token set it themselves.
+    if (template.headers().containsKey(Constants.COOKIE_ACCESS_TOKEN)) {
+      return;
+    }
     String token = getRequestToken();
     if (token != null) {
       template.header(Constants.COOKIE_ACCESS_TOKEN, token);
@@ -24,6 +29,8 @@ public class FeignClientInterceptor implements RequestInterceptor {
     if (attributes != null) {
       return attributes.getRequest().getHeader(Constants.COOKIE_ACCESS_TOKEN);
     }
-    return null;
+    // Outside a request thread, e.g. in @Async work, fall back to the propagated user's token.
+    String accessToken = UserContext.getAccessToken();
+    return accessToken == null ? null : "Bearer " + accessToken;
   }
 }
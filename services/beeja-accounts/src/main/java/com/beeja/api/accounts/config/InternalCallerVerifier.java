@@ -0,0 +1,40 @@
+package com.beeja.api.accounts.config;
+
+import com.beeja.api.accounts.config.properties.SecretProperties;
+import com.beeja.api.accounts.enums.ErrorCode;
+import com.beeja.api.accounts.enums.ErrorType;
+import com.beeja.api.accounts.exceptions.CustomAccessDenied;
+import com.beeja.api.accounts.utils.BuildErrorMessage;
+import com.beeja.api.accounts.utils.Constants;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/** Admits the other services, which call internal endpoints with the internal endpoint token. */
+@Component
+public class InternalCallerVerifier {
+
+  @Autowired SecretProperties secretProperties;
+
+  /**
+   * @throws CustomAccessDenied unless the header carries the internal endpoint token
+   */
+  public void verify(String authorization) {
+    String openEndpointToken = secretProperties.getOpenEndpointToken();
+    boolean internalCaller =
+        openEndpointToken != null
+            && !openEndpointToken.isBlank()
+            && authorization != null
+            && MessageDigest.isEqual(
+                ("Bearer " + openEndpointToken).getBytes(StandardCharsets.UTF_8),
+                authorization.getBytes(StandardCharsets.UTF_8));
+    if (!internalCaller) {
+      throw new CustomAccessDenied(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.AUTHORIZATION_ERROR,
+              ErrorCode.PERMISSION_MISSING,
+              Constants.NO_REQUIRED_PERMISSIONS));
+    }
+  }
+}
@@ -1,29 +1,182 @@
 package com.beeja.api.accounts.config;
 
+import com.beeja.api.accounts.config.properties.MongoIndexProperties;
 import com.beeja.api.accounts.utils.MongoIndexes;
 import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
 
+/**
+ * The indexes behind every accounts query, declared in one place. At startup each missing index is
+ * created; an index that exists under the same name or keys but differs in keys or uniqueness is
+ * reported, and so is an index that cannot be created (for example a unique index over duplicate
+ * data). Reports are warnings unless {@code mongo-indexes.on-mismatch} is {@code FAIL}.
+ */
+@Slf4j
 @Configuration
 public class MongoIndexConfig {
+
+  public static final List<ManifestIndex> MANIFEST =
+      List.of(
+          new ManifestIndex(
+              "users",
+              new Index().on("email", Sort.Direction.ASC).unique().named(MongoIndexes.USERS_EMAIL)),
+          new ManifestIndex(
+              "users",
+              new Index()
+                  .on("employeeId", Sort.Direction.ASC)
+                  .unique()
+                  .named(MongoIndexes.USERS_EMPLOYEE_ID)),
+          new ManifestIndex(
+              "users",
+              new Index()
+                  .on("organizations._id", Sort.Direction.ASC)
+                  .on("isActive", Sort.Direction.ASC)
+                  .named(MongoIndexes.USERS_ORGANIZATION_ACTIVE)),
+          new ManifestIndex(
+              "users",
+              new Index().on("roles._id", Sort.Direction.ASC).named(MongoIndexes.USERS_ROLE)),
+          new ManifestIndex(
+              "roles",
+              new Index()
+                  .on("organizationId", Sort.Direction.ASC)
+                  .on("name", Sort.Direction.ASC)
+                  .unique()
+                  .named(MongoIndexes.ROLES_ORGANIZATION_NAME)),
+          new ManifestIndex(
+              "roles", new Index().on("name", Sort.Direction.ASC).named(MongoIndexes.ROLES_NAME)),
+          new ManifestIndex(
+              "organization-values",
+              new Index()
+                  .on("key", Sort.Direction.ASC)
+                  .on("organizationId", Sort.Direction.ASC)
+                  .unique()
+                  .named(MongoIndexes.UNIQUE_DEFAULT_TYPE_IS_REQUIRED)),
+          new ManifestIndex(
+              "organization-values",
+              new Index()
+                  .on("organizationId", Sort.Direction.ASC)
+                  .named(MongoIndexes.ORG_DEFAULTS_ORGANIZATION)),
+          new ManifestIndex(
+              "organization-patterns",
+              new Index()
+                  .on("organizationId", Sort.Direction.ASC)
+                  .on("patternType", Sort.Direction.ASC)
+                  .on("active", Sort.Direction.ASC)
+                  .named(MongoIndexes.PATTERNS_ORGANIZATION_TYPE_ACTIVE)),
+          new ManifestIndex(
+              "organizations",
+              new Index()
+                  .on("emailDomain", Sort.Direction.ASC)
+                  .named(MongoIndexes.ORGANIZATIONS_EMAIL_DOMAIN)),
+          new ManifestIndex(
+              "permissions",
+              new Index().on("name", Sort.Direction.ASC).named(MongoIndexes.PERMISSIONS_NAME)),
+          new ManifestIndex(
+              "featureToggle",
+              new Index()
+                  .on("organizationId", Sort.Direction.ASC)
+                  .unique()
+                  .named(MongoIndexes.FEATURE_TOGGLES_ORGANIZATION)),
+          new ManifestIndex(
+              "principal_invalidations",
+              new Index()
+                  .on("version", Sort.Direction.ASC)
+                  .unique()
+                  .named(MongoIndexes.PRINCIPAL_INVALIDATIONS_VERSION)));
+
   private final MongoTemplate mongoTemplate;
+  private final MongoIndexProperties properties;
 
-  public MongoIndexConfig(MongoTemplate mongoTemplate) {
+  public MongoIndexConfig(MongoTemplate mongoTemplate, MongoIndexProperties properties) {
     this.mongoTemplate = mongoTemplate;
+    this.properties = properties;
   }
 
   @PostConstruct
   public void ensureIndexes() {
-    mongoTemplate
-        .indexOps("organization-values")
-        .ensureIndex(
-            new Index()
-                .on("key", Sort.Direction.ASC)
-                .on("organizationId", Sort.Direction.ASC)
-                .unique()
-                .named(MongoIndexes.UNIQUE_DEFAULT_TYPE_IS_REQUIRED));
+    List<String> mismatches = new ArrayList<>();
+    for (ManifestIndex wanted : MANIFEST) {
+      String mismatch = ensureIndex(wanted);
+      if (mismatch != null) {
+        mismatches.add(mismatch);
+      }
+    }
+    if (mismatches.isEmpty()) {
+      return;
+    }
+    if (properties.getOnMismatch() == MongoIndexProperties.MismatchAction.FAIL) {
+      throw new IllegalStateException("Mongo indexes do not match the manifest: " + mismatches);
+    }
+    mismatches.forEach(
+        mismatch -> log.warn("Mongo index does not match the manifest: {}", mismatch));
   }
+
+  /**
+   * @return why the index does not match, or {@code null} if it is in place
+   */
+  private String ensureIndex(ManifestIndex wanted) {
+    IndexOperations indexOperations = mongoTemplate.indexOps(wanted.collection());
+    Document keys = wanted.index().getIndexKeys();
+    String name = wanted.index().getIndexOptions().getString("name");
+    boolean unique = wanted.index().getIndexOptions().getBoolean("unique", false);
+
+    for (IndexInfo existing : indexOperations.getIndexInfo()) {
+      boolean sameName = name.equals(existing.getName());
+      boolean sameKeys = hasKeys(existing, keys);
+      if (!sameName && !sameKeys) {
+        continue;
+      }
+      if (!sameKeys || existing.isUnique() != unique) {
+        return String.format(
+            "%s.%s is %s%s, the manifest wants %s%s",
+            wanted.collection(),
+            existing.getName(),
+            existing.isUnique() ? "unique " : "",
+            existing.getIndexFields().stream().map(IndexField::getKey).toList(),
+            unique ? "unique " : "",
+            keys.keySet());
+      }
+      return null;
+    }
+
+    try {
+      indexOperations.ensureIndex(wanted.index());
+      log.info("Created Mongo index {}.{}", wanted.collection(), name);
+      return null;
+    } catch (Exception e) {
+      return String.format(
+          "%s.%s could not be created: %s", wanted.collection(), name, e.getMessage());
+    }
+  }
+
+  private static boolean hasKeys(IndexInfo existing, Document keys) {
+    List<IndexField> fields = existing.getIndexFields();
+    if (fields.size() != keys.size()) {
+      return false;
+    }
+    int i = 0;
+    for (Map.Entry<String, Object> key : keys.entrySet()) {
+      IndexField field = fields.get(i++);
+      Sort.Direction direction =
+          ((Number) key.getValue()).intValue() > 0 ? Sort.Direction.ASC : Sort.Direction.DESC;
+      if (!key.getKey().equals(field.getKey()) || direction != field.getDirection()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** An index of the manifest and the collection it belongs to. */
+  public record ManifestIndex(String collection, Index index) {}
 }
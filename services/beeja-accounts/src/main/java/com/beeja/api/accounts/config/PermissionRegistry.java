@@ -0,0 +1,79 @@
+package com.beeja.api.accounts.config;
+
+import com.beeja.api.accounts.serviceImpl.SuperAdminPermissionUpdater;
+import jakarta.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gives every permission code a fixed bit so that permission checks are bitwise operations on
+ * {@code long[]} masks instead of string lookups. A code keeps its bit for the life of the process;
+ * codes are numbered the first time they are seen, starting with those in
+ * permissions/AllPermissions.json.
+ */
+@Component
+public class PermissionRegistry {
+
+  private final Map<String, Integer> bits = new ConcurrentHashMap<>();
+  private final AtomicInteger nextBit = new AtomicInteger();
+
+  @Autowired SuperAdminPermissionUpdater superAdminPermissionUpdater;
+
+  /** Numbers the codes listed in permissions/AllPermissions.json first, in a stable order. */
+  @PostConstruct
+  public void seedKnownPermissions() {
+    new TreeSet<>(superAdminPermissionUpdater.getAllPermissions()).forEach(this::bitOf);
+  }
+
+  public int bitOf(String permission) {
+    Integer bit = bits.get(permission);
+    return bit != null ? bit : bits.computeIfAbsent(permission, key -> nextBit.getAndIncrement());
+  }
+
+  /** Compiles the permissions into a mask with the bit of each one set. */
+  public long[] compile(Collection<String> permissions) {
+    if (permissions == null || permissions.isEmpty()) {
+      return new long[0];
+    }
+    int[] permissionBits = new int[permissions.size()];
+    int highestBit = 0;
+    int i = 0;
+    for (String permission : permissions) {
+      permissionBits[i] = bitOf(permission);
+      highestBit = Math.max(highestBit, permissionBits[i]);
+      i++;
+    }
+    long[] mask = new long[(highestBit >>> 6) + 1];
+    for (int bit : permissionBits) {
+      mask[bit >>> 6] |= 1L << bit;
+    }
+    return mask;
+  }
+
+  /** Returns whether the granted mask holds at least one of the required permissions. */
+  public static boolean intersects(long[] granted, long[] required) {
+    int words = Math.min(granted.length, required.length);
+    for (int i = 0; i < words; i++) {
+      if ((granted[i] & required[i]) != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Returns whether the granted mask holds every one of the required permissions. */
+  public static boolean containsAll(long[] granted, long[] required) {
+    for (int i = 0; i < required.length; i++) {
+      long grantedWord = i < granted.length ? granted[i] : 0L;
+      if ((required[i] & ~grantedWord) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -30,8 +30,6 @@ public class AuthUserFilter extends OncePerRequestFilter {
 
   @Autowired SecretProperties secretProperties;
 
-  private static String responseMessage;
-
   @Override
   protected void doFilterInternal(
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -56,7 +54,8 @@ public class AuthUserFilter extends OncePerRequestFilter {
     }
 
     accessToken = accessToken.substring(7);
-    if (isValidAccessToken(accessToken)) {
+    String failureReason = authenticate(accessToken);
+    if (failureReason == null) {
       filterChain.doFilter(request, response);
     } else {
       Cookie cookie = new Cookie("SESSION", "");
@@ -64,14 +63,15 @@ public class AuthUserFilter extends OncePerRequestFilter {
       cookie.setMaxAge(0);
       response.addCookie(cookie);
       response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-      response.getWriter().write(Constants.ACCESS_DENIED + ", " + responseMessage);
+      response.getWriter().write(Constants.ACCESS_DENIED + ", " + failureReason);
     }
   }
 
-  private boolean isValidAccessToken(String accessToken) {
+  /** Sets the logged-in user from the token, returning why it was rejected if it was. */
+  private String authenticate(String accessToken) {
     try {
       if (accessToken.equals(secretProperties.getOpenEndpointToken())) {
-        return true;
+        return null;
       }
       Claims claims = JwtUtils.decodeJWT(accessToken, jwtProperties.getSecret());
       String email = claims.get("sub").toString();
@@ -92,14 +92,12 @@ public class AuthUserFilter extends OncePerRequestFilter {
             user.getRoles(),
             permissions,
             accessToken);
-        return true;
+        return null;
       } else {
-        responseMessage = "Invalid User";
-        return false;
+        return "Invalid User";
       }
     } catch (Exception e) {
-      responseMessage = e.getMessage();
-      return false;
+      return e.getMessage();
     }
   }
 }
@@ -0,0 +1,32 @@
+package com.beeja.api.accounts.config.filters;
+
+import com.beeja.api.accounts.utils.UserContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Outermost filter, so the user set while authorizing a request is removed from the worker
+ * thread however the request ends and cannot be seen by the next request served on that thread.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UserContextCleanupFilter extends OncePerRequestFilter {
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      UserContext.clear();
+    }
+  }
+}
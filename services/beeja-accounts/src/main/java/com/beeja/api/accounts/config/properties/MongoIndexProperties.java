@@ -0,0 +1,23 @@
+package com.beeja.api.accounts.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "mongo-indexes")
+public class MongoIndexProperties {
+  /**
+   * What to do when an index of the manifest exists with other keys or uniqueness, or cannot be
+   * created: log a warning and keep starting, or refuse to start.
+   */
+  private MismatchAction onMismatch = MismatchAction.WARN;
+
+  public enum MismatchAction {
+    WARN,
+    FAIL
+  }
+}
@@ -0,0 +1,18 @@
+package com.beeja.api.accounts.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "org-bootstrap")
+public class OrgBootstrapProperties {
+  /** Organizations whose defaults are generated at the same time. */
+  private int concurrency = 2;
+
+  /** Generations waiting for a free slot before further requests are rejected. */
+  private int queueCapacity = 50;
+}
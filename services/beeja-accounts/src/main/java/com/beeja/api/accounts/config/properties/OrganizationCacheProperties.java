@@ -0,0 +1,23 @@
+package com.beeja.api.accounts.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "organization-cache")
+public class OrganizationCacheProperties {
+  /** Organizations whose reference data is kept in memory. */
+  private long maximumSize = 1_000;
+
+  /**
+   * How long an organization's data is served before it is read again. Changes made through this
+   * instance apply immediately, so this only bounds how long changes made through another accounts
+   * instance go unseen.
+   */
+  private Duration timeToLive = Duration.ofMinutes(10);
+}
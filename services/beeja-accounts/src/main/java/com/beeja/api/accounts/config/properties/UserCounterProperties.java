@@ -0,0 +1,16 @@
+package com.beeja.api.accounts.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "user-counters")
+public class UserCounterProperties {
+  /** How often every organization's user counters are recounted from the users collection. */
+  private Duration reconcileInterval = Duration.ofHours(6);
+}
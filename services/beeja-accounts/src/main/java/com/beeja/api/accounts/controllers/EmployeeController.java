@@ -1,7 +1,10 @@
 package com.beeja.api.accounts.controllers;
 
 import com.beeja.api.accounts.annotations.HasPermission;
+import com.beeja.api.accounts.config.InternalCallerVerifier;
 import com.beeja.api.accounts.constants.PermissionConstants;
+import com.beeja.api.accounts.enums.ErrorCode;
+import com.beeja.api.accounts.enums.ErrorType;
 import com.beeja.api.accounts.exceptions.BadRequestException;
 import com.beeja.api.accounts.model.User;
 import com.beeja.api.accounts.model.dto.EmployeeNameDTO;
@@ -11,17 +14,22 @@ import com.beeja.api.accounts.requests.ChangeEmailAndPasswordRequest;
 import com.beeja.api.accounts.requests.EmployeeOrgRequest;
 import com.beeja.api.accounts.requests.UpdateUserRequest;
 import com.beeja.api.accounts.requests.UpdateUserRoleRequest;
+import com.beeja.api.accounts.response.BulkOnboardingResponse;
 import com.beeja.api.accounts.response.CreatedUserResponse;
 import com.beeja.api.accounts.response.EmployeeCount;
+import com.beeja.api.accounts.service.BulkOnboardingService;
 import com.beeja.api.accounts.service.EmployeeService;
+import com.beeja.api.accounts.utils.BuildErrorMessage;
 import com.beeja.api.accounts.utils.Constants;
 import com.beeja.api.accounts.utils.UserContext;
 import jakarta.validation.Valid;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.ObjectError;
@@ -30,17 +38,26 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 @RestController
 @RequestMapping("/v1/users")
 public class EmployeeController {
 
+  private static final int MAX_EMPLOYEE_NAMES = 10_000;
+
   @Autowired private EmployeeService employeeService;
 
   @Autowired UserRepository userRepository;
 
+  @Autowired BulkOnboardingService bulkOnboardingService;
+
+  @Autowired InternalCallerVerifier internalCallerVerifier;
+
   @GetMapping("/me")
   @HasPermission(PermissionConstants.READ_EMPLOYEE)
   public ResponseEntity<User> getLoggedInUser() throws Exception {
@@ -61,6 +78,21 @@ public class EmployeeController {
     }
   }
 
+  /** Names for list pages: accepts thousands of IDs and answers from memory. */
+  @PostMapping("/names/batch")
+  @HasPermission(PermissionConstants.READ_EMPLOYEE)
+  public ResponseEntity<Map<String, String>> getEmployeeNameMap(
+      @RequestBody List<String> employeeIds) {
+    if (employeeIds.size() > MAX_EMPLOYEE_NAMES) {
+      throw new BadRequestException(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.VALIDATION_ERROR,
+              ErrorCode.BAD_REQUEST,
+              Constants.EMPLOYEE_NAMES_LIMIT_EXCEEDED + MAX_EMPLOYEE_NAMES));
+    }
+    return ResponseEntity.ok(employeeService.getEmployeeNameMap(employeeIds));
+  }
+
   @GetMapping("/{employeeId}")
   @HasPermission(PermissionConstants.READ_EMPLOYEE)
   public ResponseEntity<User> getUserByEmployeeId(@PathVariable String employeeId)
@@ -83,6 +115,17 @@ public class EmployeeController {
         HttpStatus.OK);
   }
 
+  /** Used by the other services to refresh cached principals, with the internal endpoint token. */
+  @GetMapping("/organizations/{organizationId}/email/{email}")
+  public ResponseEntity<User> getUserOfOrganizationByEmail(
+      @RequestHeader(Constants.COOKIE_ACCESS_TOKEN) String authorization,
+      @PathVariable String organizationId,
+      @PathVariable String email)
+      throws Exception {
+    internalCallerVerifier.verify(authorization);
+    return ResponseEntity.ok(employeeService.getUserOfOrganizationByEmail(organizationId, email));
+  }
+
   /*
    * Below End Point is used to check whether email is already registered or  not while updating from Employee Service
    * */
@@ -121,6 +164,24 @@ public class EmployeeController {
     return new ResponseEntity<>(createdUser, HttpStatus.CREATED);
   }
 
+  @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+  @HasPermission(PermissionConstants.CREATE_EMPLOYEE)
+  public ResponseEntity<BulkOnboardingResponse> createEmployees(
+      @RequestBody List<AddEmployeeRequest> employees) throws Exception {
+    return new ResponseEntity<>(
+        bulkOnboardingService.onboardEmployees(employees), HttpStatus.MULTI_STATUS);
+  }
+
+  @PostMapping(value = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  @HasPermission(PermissionConstants.CREATE_EMPLOYEE)
+  public ResponseEntity<BulkOnboardingResponse> createEmployeesFromCsv(
+      @RequestParam("file") MultipartFile file) throws Exception {
+    List<AddEmployeeRequest> employees =
+        bulkOnboardingService.readEmployeesCsv(file.getInputStream());
+    return new ResponseEntity<>(
+        bulkOnboardingService.onboardEmployees(employees), HttpStatus.MULTI_STATUS);
+  }
+
   @PutMapping("/{employeeId}")
   @HasPermission(PermissionConstants.UPDATE_EMPLOYEE)
   public ResponseEntity<User> updateUser(
@@ -180,6 +241,19 @@ public class EmployeeController {
     return new ResponseEntity<>(users, HttpStatus.OK);
   }
 
+  /** For the other services, which call with the internal endpoint token and no user. */
+  @PostMapping("/organizations/{organizationId}/emp-ids")
+  public ResponseEntity<List<User>> getUsersOfOrganizationByEmployeeIds(
+      @RequestHeader(Constants.COOKIE_ACCESS_TOKEN) String authorization,
+      @PathVariable String organizationId,
+      @RequestBody EmployeeOrgRequest employeeOrgRequest)
+      throws Exception {
+    internalCallerVerifier.verify(authorization);
+    return ResponseEntity.ok(
+        employeeService.getUsersOfOrganizationByEmployeeIds(
+            organizationId, employeeOrgRequest.getEmployeeIds()));
+  }
+
   @PutMapping("/change-email-password")
   public ResponseEntity<String> changeEmailAndPassword(
       @Valid @RequestBody ChangeEmailAndPasswordRequest changeEmailAndPasswordRequest) {
@@ -0,0 +1,35 @@
+package com.beeja.api.accounts.controllers;
+
+import com.beeja.api.accounts.config.InternalCallerVerifier;
+import com.beeja.api.accounts.response.PrincipalInvalidationsResponse;
+import com.beeja.api.accounts.service.PrincipalInvalidationService;
+import com.beeja.api.accounts.utils.Constants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Read by the other services, with the internal endpoint token, to learn which cached principals
+ * to evict. Pass {@code after=-1} to get only the latest version.
+ */
+@RestController
+@RequestMapping("/v1/principal-invalidations")
+public class PrincipalInvalidationController {
+
+  @Autowired PrincipalInvalidationService principalInvalidationService;
+
+  @Autowired InternalCallerVerifier internalCallerVerifier;
+
+  @GetMapping
+  public ResponseEntity<PrincipalInvalidationsResponse> getInvalidationsAfter(
+      @RequestHeader(Constants.COOKIE_ACCESS_TOKEN) String authorization,
+      @RequestParam long after,
+      @RequestParam(defaultValue = "500") int limit) {
+    internalCallerVerifier.verify(authorization);
+    return ResponseEntity.ok(principalInvalidationService.getInvalidationsAfter(after, limit));
+  }
+}
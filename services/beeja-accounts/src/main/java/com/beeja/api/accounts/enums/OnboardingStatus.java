@@ -0,0 +1,8 @@
+package com.beeja.api.accounts.enums;
+
+public enum OnboardingStatus {
+  CREATED,
+  FAILED,
+  /** The account exists but the employee service could not confirm the employee record. */
+  UNCONFIRMED
+}
@@ -0,0 +1,35 @@
+package com.beeja.api.accounts.model;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Running user counts of one organization, kept in step with {@code $inc} as users are created,
+ * activated, deactivated or given other roles, and recounted from the users collection
+ * periodically.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "organization_user_counters")
+public class OrganizationUserCounters {
+  /** The organization ID. */
+  @Id private String id;
+
+  private long total;
+
+  private long active;
+
+  private long inactive;
+
+  /** Users holding each role, by role ID. */
+  private Map<String, Long> roleHolders = new HashMap<>();
+
+  private Instant reconciledAt;
+}
@@ -0,0 +1,30 @@
+package com.beeja.api.accounts.model;
+
+import java.time.Instant;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Tells the other services that the principals of these users changed (roles, permissions or
+ * status) and must be dropped from their caches. Versions increase by one per event.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "principal_invalidations")
+public class PrincipalInvalidation {
+  @Id private String id;
+
+  @Indexed(unique = true)
+  private long version;
+
+  private Set<String> emails;
+
+  @Indexed(expireAfter = "1d")
+  private Instant createdAt;
+}
@@ -15,7 +15,6 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.index.Indexed;
-import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -37,7 +36,11 @@ public class User {
   @Indexed(unique = true)
   private String email;
 
-  @DBRef private Set<Role> roles = new HashSet<>();
+  /**
+   * Copies of the user's roles, embedded so that loading a user takes one read. Kept in step with
+   * the roles collection by {@link com.beeja.api.accounts.service.UserSnapshotService}.
+   */
+  private Set<Role> roles = new HashSet<>();
 
   @Indexed(unique = true)
   @NotBlank(message = "EmployeeID is mandatory")
@@ -45,7 +48,8 @@ public class User {
 
   private String employmentType;
 
-  @DBRef private Organization organizations;
+  /** Embedded copy of the user's organization, kept in step like {@link #roles}. */
+  private Organization organizations;
 
   private UserPreferences userPreferences;
 
@@ -53,6 +57,9 @@ public class User {
 
   private boolean isActive = true;
 
+  /** Incremented whenever the user's roles, permissions or status change. */
+  private long permissionVersion;
+
   private String createdBy;
   private String modifiedBy;
 
@@ -0,0 +1,31 @@
+package com.beeja.api.accounts.mongo;
+
+import com.beeja.api.accounts.service.UserCounterService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recounts every organization's users now and then, correcting counters that missed an update
+ * (a failed write, or a change made outside this service).
+ */
+@Slf4j
+@Component
+public class UserCounterReconciliation {
+  private final UserCounterService userCounterService;
+
+  public UserCounterReconciliation(UserCounterService userCounterService) {
+    this.userCounterService = userCounterService;
+  }
+
+  @Scheduled(
+      initialDelayString = "#{@userCounterProperties.reconcileInterval.toMillis()}",
+      fixedDelayString = "#{@userCounterProperties.reconcileInterval.toMillis()}")
+  public void reconcileUserCounters() {
+    try {
+      userCounterService.reconcileAll();
+    } catch (Exception e) {
+      log.error("Error recounting organization users", e);
+    }
+  }
+}
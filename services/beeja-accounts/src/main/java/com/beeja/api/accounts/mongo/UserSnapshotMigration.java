@@ -0,0 +1,33 @@
+package com.beeja.api.accounts.mongo;
+
+import com.beeja.api.accounts.service.UserSnapshotService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+
+/**
+ * Moves users from role and organization references to embedded snapshots once the service is
+ * serving requests. Sign-in looks users up by email, which works for both shapes, so the service
+ * stays available while this runs; organization-wide listings pick a user up once it is moved.
+ */
+@Configuration
+@Slf4j
+public class UserSnapshotMigration {
+  private final UserSnapshotService userSnapshotService;
+
+  public UserSnapshotMigration(UserSnapshotService userSnapshotService) {
+    this.userSnapshotService = userSnapshotService;
+  }
+
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void migrateUserSnapshots() {
+    try {
+      userSnapshotService.migrateAndResyncAll();
+    } catch (Exception e) {
+      log.error("Error embedding roles and organizations into users", e);
+    }
+  }
+}
@@ -22,4 +22,6 @@ public interface OrganizationPatternsRepository
 
   OrganizationPattern findByOrganizationIdAndPatternTypeAndActive(
       String organizationId, String patternType, boolean active);
+
+  List<OrganizationPattern> findByOrganizationIdAndActive(String organizationId, boolean active);
 }
@@ -0,0 +1,14 @@
+package com.beeja.api.accounts.repository;
+
+import com.beeja.api.accounts.model.PrincipalInvalidation;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PrincipalInvalidationRepository
+    extends MongoRepository<PrincipalInvalidation, String> {
+  List<PrincipalInvalidation> findByVersionGreaterThanOrderByVersionAsc(
+      long version, Pageable pageable);
+}
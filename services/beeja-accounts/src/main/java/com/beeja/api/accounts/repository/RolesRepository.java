@@ -1,6 +1,7 @@
 package com.beeja.api.accounts.repository;
 
 import com.beeja.api.accounts.model.Organization.Role;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
@@ -10,6 +11,8 @@ public interface RolesRepository extends MongoRepository<Role, String> {
 
   Role findByNameAndOrganizationId(String name, String organizationId);
 
+  List<Role> findByNameInAndOrganizationId(Collection<String> names, String organizationId);
+
   Role findByIdAndOrganizationId(String id, String organizationId);
 
   List<Role> findByOrganizationId(String organizationId);
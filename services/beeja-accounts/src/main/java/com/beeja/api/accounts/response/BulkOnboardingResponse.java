@@ -0,0 +1,20 @@
+package com.beeja.api.accounts.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOnboardingResponse {
+  private int total;
+  private int created;
+  private int failed;
+
+  /** Rows whose account was created but whose employee record may or may not exist. */
+  private int unconfirmed;
+
+  private List<OnboardingRowResult> rows;
+}
@@ -0,0 +1,23 @@
+package com.beeja.api.accounts.response;
+
+import com.beeja.api.accounts.enums.OnboardingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OnboardingRowResult {
+  /** 1-based position of the employee in the request, or of the data line in the CSV. */
+  private int row;
+
+  private String email;
+  private String employeeId;
+  private OnboardingStatus status;
+
+  /** Generated password of a created user, shared once as in single user creation. */
+  private String password;
+
+  private String error;
+}
@@ -0,0 +1,19 @@
+package com.beeja.api.accounts.response;
+
+import com.beeja.api.accounts.model.PrincipalInvalidation;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PrincipalInvalidationsResponse {
+  private long latestVersion;
+
+  /** Set when events after the requested version have expired, so every principal is stale. */
+  private boolean reset;
+
+  private List<PrincipalInvalidation> invalidations;
+}
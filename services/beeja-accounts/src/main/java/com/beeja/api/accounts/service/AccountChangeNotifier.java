@@ -0,0 +1,19 @@
+package com.beeja.api.accounts.service;
+
+import java.util.Collection;
+
+/**
+ * Tells employee-management which accounts changed, so that it can refresh the copies it keeps
+ * next to its employees. Delivery is best effort; employee-management resyncs periodically to
+ * recover from missed changes.
+ */
+public interface AccountChangeNotifier {
+  /** Reports changed accounts of the organization in the background. */
+  void accountsChanged(String organizationId, Collection<String> employeeIds);
+
+  /** Reports every holder of the organization's role as changed. */
+  void roleChanged(String organizationId, String roleId);
+
+  /** Reports every account of the organization as changed, as each carries the organization. */
+  void organizationChanged(String organizationId);
+}
@@ -0,0 +1,16 @@
+package com.beeja.api.accounts.service;
+
+import com.beeja.api.accounts.requests.AddEmployeeRequest;
+import com.beeja.api.accounts.response.BulkOnboardingResponse;
+import java.io.InputStream;
+import java.util.List;
+
+public interface BulkOnboardingService {
+  BulkOnboardingResponse onboardEmployees(List<AddEmployeeRequest> employees) throws Exception;
+
+  /**
+   * Reads employees from a CSV whose header row names the {@link AddEmployeeRequest} fields, in any
+   * order and case.
+   */
+  List<AddEmployeeRequest> readEmployeesCsv(InputStream csv) throws Exception;
+}
@@ -10,18 +10,25 @@ import com.beeja.api.accounts.requests.UpdateUserRoleRequest;
 import com.beeja.api.accounts.response.CreatedUserResponse;
 import com.beeja.api.accounts.response.EmployeeCount;
 import java.util.List;
+import java.util.Map;
 
 public interface EmployeeService {
   CreatedUserResponse createEmployee(AddEmployeeRequest user) throws Exception;
 
   List<EmployeeNameDTO> getEmployeeNamesByIds(List<String> employeeIds) throws Exception;
 
+  /** Display names by employee ID, for the employees of the caller's organization that exist. */
+  Map<String, String> getEmployeeNameMap(List<String> employeeIds);
+
   void changeEmployeeStatus(String userId) throws Exception;
 
   List<User> getAllEmployees() throws Exception;
 
   User getEmployeeByEmail(String email, Organization organization) throws Exception;
 
+  /** Reads the organization's user without a logged-in user, for internal callers. */
+  User getUserOfOrganizationByEmail(String organizationId, String email) throws Exception;
+
   User getEmployeeByEmployeeId(String employeeId, Organization organization) throws Exception;
 
   User updateEmployeeRolesDyEmployeeId(String empId, UpdateUserRoleRequest updateRequest)
@@ -37,5 +44,9 @@ public interface EmployeeService {
 
   List<User> getUsersByEmployeeIds(List<String> employeeIds) throws Exception;
 
+  /** Reads the organization's users without a logged-in user, for internal callers. */
+  List<User> getUsersOfOrganizationByEmployeeIds(String organizationId, List<String> employeeIds)
+      throws Exception;
+
   String changeEmailAndPassword(ChangeEmailAndPasswordRequest changeEmailAndPasswordRequest);
 }
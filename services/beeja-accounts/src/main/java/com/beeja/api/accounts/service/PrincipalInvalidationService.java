@@ -0,0 +1,10 @@
+package com.beeja.api.accounts.service;
+
+import com.beeja.api.accounts.response.PrincipalInvalidationsResponse;
+import java.util.Collection;
+
+public interface PrincipalInvalidationService {
+  void invalidate(Collection<String> emails);
+
+  PrincipalInvalidationsResponse getInvalidationsAfter(long version, int limit);
+}
@@ -0,0 +1,38 @@
+package com.beeja.api.accounts.service;
+
+import com.beeja.api.accounts.model.Organization.Role;
+import com.beeja.api.accounts.model.OrganizationUserCounters;
+import com.beeja.api.accounts.model.User;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Keeps a counters document per organization so that user counts are a single read instead of a
+ * scan of the users collection. Every change to who exists, who is active or who holds which role
+ * must be reported here.
+ */
+public interface UserCounterService {
+  /** Counts newly saved users; users of several organizations may be mixed. */
+  void usersCreated(Collection<User> users);
+
+  /** Uncounts users that were deleted. */
+  void usersRemoved(Collection<User> users);
+
+  /** Moves a user between the active and inactive counts. */
+  void statusChanged(String organizationId, boolean active);
+
+  /** Moves a user's count from the roles it held to the roles it holds now. */
+  void rolesChanged(String organizationId, Set<Role> previousRoles, Set<Role> currentRoles);
+
+  /** Drops the count of a deleted role. */
+  void roleRemoved(String organizationId, String roleId);
+
+  /** Returns the organization's counters, counting its users first if it has none yet. */
+  OrganizationUserCounters getCounters(String organizationId);
+
+  /** Recounts the organization's users and replaces its counters. */
+  OrganizationUserCounters reconcile(String organizationId);
+
+  /** Recounts the users of every organization. */
+  void reconcileAll();
+}
@@ -0,0 +1,22 @@
+package com.beeja.api.accounts.service;
+
+import com.beeja.api.accounts.model.Organization.Organization;
+import com.beeja.api.accounts.model.Organization.Role;
+
+/**
+ * Maintains the copies of roles and organizations embedded in user documents, so that reading a
+ * user never has to follow references into other collections.
+ */
+public interface UserSnapshotService {
+  /** Rewrites the embedded copy of the role on every user who holds it. */
+  void resyncRole(Role role);
+
+  /** Rewrites the embedded copy of the organization on every user who belongs to it. */
+  void resyncOrganization(Organization organization);
+
+  /**
+   * Embeds the roles and organization of users still stored with references, then rewrites every
+   * snapshot from the roles and organizations collections.
+   */
+  void migrateAndResyncAll();
+}
@@ -0,0 +1,78 @@
+package com.beeja.api.accounts.serviceImpl;
+
+import com.beeja.api.accounts.clients.EmployeeFeignClient;
+import com.beeja.api.accounts.config.properties.SecretProperties;
+import com.beeja.api.accounts.model.User;
+import com.beeja.api.accounts.requests.AccountChangesRequest;
+import com.beeja.api.accounts.service.AccountChangeNotifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class AccountChangeNotifierImpl implements AccountChangeNotifier {
+
+  /** Employee ids reported to employee-management in one request. */
+  private static final int BATCH_SIZE = 500;
+
+  @Autowired EmployeeFeignClient employeeFeignClient;
+
+  @Autowired MongoTemplate mongoTemplate;
+
+  @Autowired SecretProperties secretProperties;
+
+  @Async
+  @Override
+  public void accountsChanged(String organizationId, Collection<String> employeeIds) {
+    notify(organizationId, new ArrayList<>(employeeIds));
+  }
+
+  @Async
+  @Override
+  public void roleChanged(String organizationId, String roleId) {
+    notify(organizationId, employeeIdsOf(new Query(Criteria.where("roles._id").is(roleId))));
+  }
+
+  @Async
+  @Override
+  public void organizationChanged(String organizationId) {
+    notify(
+        organizationId,
+        employeeIdsOf(new Query(Criteria.where("organizations._id").is(organizationId))));
+  }
+
+  private List<String> employeeIdsOf(Query users) {
+    users.fields().include("employeeId");
+    return mongoTemplate.find(users, User.class).stream().map(User::getEmployeeId).toList();
+  }
+
+  /**
+   * Sends the changes with the internal endpoint token rather than the acting user's, who may
+   * be changing their own account without any permission to read employees.
+   */
+  private void notify(String organizationId, List<String> employeeIds) {
+    String openEndpointToken = secretProperties.getOpenEndpointToken();
+    if (openEndpointToken == null || openEndpointToken.isBlank()) {
+      log.warn("No internal endpoint token, {} changed accounts not reported", employeeIds.size());
+      return;
+    }
+    for (int from = 0; from < employeeIds.size(); from += BATCH_SIZE) {
+      List<String> batch =
+          employeeIds.subList(from, Math.min(from + BATCH_SIZE, employeeIds.size()));
+      try {
+        employeeFeignClient.accountsChanged(
+            new AccountChangesRequest(organizationId, batch), "Bearer " + openEndpointToken);
+      } catch (Exception e) {
+        log.warn("Could not report {} changed accounts: {}", batch.size(), e.getMessage());
+      }
+    }
+  }
+}
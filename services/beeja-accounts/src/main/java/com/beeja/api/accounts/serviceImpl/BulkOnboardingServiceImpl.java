@@ -0,0 +1,428 @@
+package com.beeja.api.accounts.serviceImpl;
+
+import com.beeja.api.accounts.cache.EmployeeNameDirectory;
+import com.beeja.api.accounts.cache.OrganizationReferenceCache;
+import com.beeja.api.accounts.clients.EmployeeFeignClient;
+import com.beeja.api.accounts.enums.ErrorCode;
+import com.beeja.api.accounts.enums.ErrorType;
+import com.beeja.api.accounts.enums.OnboardingStatus;
+import com.beeja.api.accounts.exceptions.BadRequestException;
+import com.beeja.api.accounts.model.Organization.OrgDefaults;
+import com.beeja.api.accounts.model.Organization.Organization;
+import com.beeja.api.accounts.model.Organization.Role;
+import com.beeja.api.accounts.model.User;
+import com.beeja.api.accounts.repository.RolesRepository;
+import com.beeja.api.accounts.requests.AddEmployeeRequest;
+import com.beeja.api.accounts.response.BulkOnboardingResponse;
+import com.beeja.api.accounts.response.OnboardingRowResult;
+import com.beeja.api.accounts.service.AccountChangeNotifier;
+import com.beeja.api.accounts.service.BulkOnboardingService;
+import com.beeja.api.accounts.service.UserCounterService;
+import com.beeja.api.accounts.utils.BuildErrorMessage;
+import com.beeja.api.accounts.utils.Constants;
+import com.beeja.api.accounts.utils.CsvUtils;
+import com.beeja.api.accounts.utils.SecretsGenerator;
+import com.beeja.api.accounts.utils.UserContext;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import feign.FeignException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+/**
+ * Onboards many employees in a fixed number of round trips: every row is validated against one
+ * lookup of existing users, valid users are inserted with one unordered bulk write, and their
+ * employee records are created with one call to the employee service. Rows fail independently and
+ * are reported individually.
+ */
+@Slf4j
+@Service
+public class BulkOnboardingServiceImpl implements BulkOnboardingService {
+
+  /** Largest batch accepted in one request; bigger onboardings are split by the caller. */
+  public static final int MAX_BATCH_SIZE = 1_000;
+
+  private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+  @Autowired MongoTemplate mongoTemplate;
+
+  @Autowired RolesRepository rolesRepository;
+
+  @Autowired EmployeeFeignClient employeeFeignClient;
+
+  @Autowired OrganizationReferenceCache organizationReferenceCache;
+
+  @Autowired UserCounterService userCounterService;
+
+  @Autowired EmployeeNameDirectory employeeNameDirectory;
+
+  @Autowired AccountChangeNotifier accountChangeNotifier;
+
+  @Override
+  public BulkOnboardingResponse onboardEmployees(List<AddEmployeeRequest> employees)
+      throws Exception {
+    if (employees == null || employees.isEmpty()) {
+      throw new BadRequestException(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.VALIDATION_ERROR,
+              ErrorCode.FIELD_VALIDATION_MISSING,
+              Constants.BULK_ONBOARDING_EMPTY));
+    }
+    if (employees.size() > MAX_BATCH_SIZE) {
+      throw new BadRequestException(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.VALIDATION_ERROR,
+              ErrorCode.FIELD_VALIDATION_MISSING,
+              Constants.BULK_ONBOARDING_LIMIT_EXCEEDED + MAX_BATCH_SIZE));
+    }
+    Organization organization = UserContext.getLoggedInUserOrganization();
+    OnboardingRowResult[] results = new OnboardingRowResult[employees.size()];
+
+    List<Integer> validRows = validate(employees, organization.getId(), results);
+    List<User> users = buildUsers(employees, validRows, organization);
+    Map<Integer, String> passwords = new HashMap<>();
+    for (int i = 0; i < users.size(); i++) {
+      // buildUsers leaves the plain password in place of the hash until it is reported.
+      passwords.put(validRows.get(i), users.get(i).getPassword());
+    }
+    hashPasswords(users);
+
+    Map<String, String> insertErrors = insertUsers(users);
+    List<Integer> insertedRows = new ArrayList<>();
+    List<User> insertedUsers = new ArrayList<>();
+    for (int i = 0; i < users.size(); i++) {
+      int row = validRows.get(i);
+      String insertError = insertErrors.get(users.get(i).getId());
+      if (insertError == null) {
+        insertedRows.add(row);
+        insertedUsers.add(users.get(i));
+      } else {
+        results[row] = failed(row, employees.get(row), insertError);
+      }
+    }
+
+    Set<String> employeeRecordIds = createEmployeeRecords(employees, insertedRows, insertedUsers);
+    List<String> orphanedUserIds = new ArrayList<>();
+    for (int i = 0; i < insertedUsers.size(); i++) {
+      User user = insertedUsers.get(i);
+      int row = insertedRows.get(i);
+      if (employeeRecordIds == null) {
+        results[row] =
+            new OnboardingRowResult(
+                row + 1,
+                user.getEmail(),
+                user.getEmployeeId(),
+                OnboardingStatus.UNCONFIRMED,
+                passwords.get(row),
+                Constants.EMPLOYEE_RECORD_UNCONFIRMED);
+      } else if (employeeRecordIds.contains(user.getEmployeeId())) {
+        results[row] =
+            new OnboardingRowResult(
+                row + 1,
+                user.getEmail(),
+                user.getEmployeeId(),
+                OnboardingStatus.CREATED,
+                passwords.get(row),
+                null);
+      } else {
+        orphanedUserIds.add(user.getId());
+        results[row] = failed(row, employees.get(row), Constants.EMPLOYEE_FEIGN_CLIENT_ERROR);
+      }
+    }
+    if (!orphanedUserIds.isEmpty()) {
+      mongoTemplate.remove(new Query(Criteria.where("_id").in(orphanedUserIds)), User.class);
+    }
+    List<User> createdUsers =
+        insertedUsers.stream().filter(user -> !orphanedUserIds.contains(user.getId())).toList();
+    userCounterService.usersCreated(createdUsers);
+    createdUsers.forEach(employeeNameDirectory::put);
+    accountChangeNotifier.accountsChanged(
+        organization.getId(), createdUsers.stream().map(User::getEmployeeId).toList());
+
+    List<OnboardingRowResult> rows = List.of(results);
+    int created =
+        (int) rows.stream().filter(r -> r.getStatus() == OnboardingStatus.CREATED).count();
+    int unconfirmed =
+        (int) rows.stream().filter(r -> r.getStatus() == OnboardingStatus.UNCONFIRMED).count();
+    return new BulkOnboardingResponse(
+        rows.size(), created, rows.size() - created - unconfirmed, unconfirmed, rows);
+  }
+
+  @Override
+  public List<AddEmployeeRequest> readEmployeesCsv(InputStream csv) throws Exception {
+    List<List<String>> records;
+    try (Reader reader = new InputStreamReader(csv, StandardCharsets.UTF_8)) {
+      records = CsvUtils.read(reader);
+    } catch (IOException e) {
+      throw new BadRequestException(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.VALIDATION_ERROR,
+              ErrorCode.FIELD_VALIDATION_MISSING,
+              Constants.BULK_ONBOARDING_INVALID_CSV + e.getMessage()));
+    }
+    if (records.isEmpty()) {
+      return List.of();
+    }
+    Map<String, Integer> columns = new HashMap<>();
+    List<String> header = records.get(0);
+    for (int i = 0; i < header.size(); i++) {
+      String name = header.get(i).replace("﻿", "").trim().toLowerCase(Locale.ROOT);
+      columns.putIfAbsent(name, i);
+    }
+    List<AddEmployeeRequest> employees = new ArrayList<>();
+    for (List<String> record : records.subList(1, records.size())) {
+      if (record.stream().allMatch(String::isBlank)) {
+        continue;
+      }
+      AddEmployeeRequest employee = new AddEmployeeRequest();
+      employee.setFirstName(column(record, columns, "firstname"));
+      employee.setLastName(column(record, columns, "lastname"));
+      employee.setEmail(column(record, columns, "email"));
+      employee.setEmploymentType(column(record, columns, "employmenttype"));
+      employee.setDepartment(column(record, columns, "department"));
+      employee.setEmployeeId(column(record, columns, "employeeid"));
+      employees.add(employee);
+    }
+    return employees;
+  }
+
+  /**
+   * Checks every row before anything is written, recording failures in {@code results}.
+   *
+   * @return the indexes of the rows that passed
+   */
+  private List<Integer> validate(
+      List<AddEmployeeRequest> employees, String organizationId, OnboardingRowResult[] results) {
+    OrgDefaults employeeTypes =
+        organizationReferenceCache.getOrgDefaults(organizationId, "employeeTypes");
+    if (employeeTypes == null
+        || employeeTypes.getValues() == null
+        || employeeTypes.getValues().isEmpty()) {
+      throw new BadRequestException(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.RESOURCE_NOT_FOUND_ERROR,
+              ErrorCode.INVALID_EMPLOYMENT_TYPE_CODE,
+              Constants.NO_EMPLOYEE_TYPES_DEFINED));
+    }
+    Set<String> validEmploymentTypes =
+        employeeTypes.getValues().stream()
+            .map(value -> value.getValue())
+            .filter(Objects::nonNull)
+            .map(value -> value.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toSet());
+
+    // Emails and employee IDs are unique across organizations, so check them all in one query.
+    Query existingUsersQuery =
+        new Query(
+            new Criteria()
+                .orOperator(
+                    Criteria.where("email")
+                        .in(employees.stream().map(AddEmployeeRequest::getEmail).toList()),
+                    Criteria.where("employeeId")
+                        .in(employees.stream().map(this::normalizedEmployeeId).toList())));
+    existingUsersQuery.fields().include("email").include("employeeId");
+    Set<String> existingEmails = new HashSet<>();
+    Set<String> existingEmployeeIds = new HashSet<>();
+    for (User user : mongoTemplate.find(existingUsersQuery, User.class)) {
+      existingEmails.add(user.getEmail());
+      existingEmployeeIds.add(user.getEmployeeId());
+    }
+
+    Set<String> batchEmails = new HashSet<>();
+    Set<String> batchEmployeeIds = new HashSet<>();
+    List<Integer> validRows = new ArrayList<>();
+    for (int row = 0; row < employees.size(); row++) {
+      AddEmployeeRequest employee = employees.get(row);
+      String error = missingField(employee);
+      String employeeId = normalizedEmployeeId(employee);
+      if (error != null) {
+        // Reported below.
+      } else if (!EMAIL_PATTERN.matcher(employee.getEmail()).matches()) {
+        error = Constants.INVALID_EMAIL + employee.getEmail();
+      } else if (!validEmploymentTypes.contains(
+          employee.getEmploymentType().toLowerCase(Locale.ROOT))) {
+        error = Constants.INVALID_EMPLOYMENT_TYPE + employee.getEmploymentType();
+      } else if (existingEmails.contains(employee.getEmail())) {
+        error = Constants.USER_ALREADY_FOUND + employee.getEmail();
+      } else if (existingEmployeeIds.contains(employeeId)) {
+        error = Constants.EMPLOYEE_ID_ALREADY_FOUND + employeeId;
+      } else if (!batchEmails.add(employee.getEmail())) {
+        error = Constants.DUPLICATE_IN_BATCH + employee.getEmail();
+      } else if (!batchEmployeeIds.add(employeeId)) {
+        error = Constants.DUPLICATE_IN_BATCH + employeeId;
+      }
+      if (error == null) {
+        validRows.add(row);
+      } else {
+        results[row] = failed(row, employee, error);
+      }
+    }
+    return validRows;
+  }
+
+  /** Builds the users of the valid rows, holding their plain generated passwords for now. */
+  private List<User> buildUsers(
+      List<AddEmployeeRequest> employees, List<Integer> validRows, Organization organization) {
+    Set<Role> defaultRoles = new HashSet<>();
+    List<Role> roles =
+        rolesRepository.findAllByOrganizationIdAndIsDefaultRole(organization.getId(), true);
+    if (roles != null) {
+      defaultRoles.addAll(roles);
+    }
+    List<User> users = new ArrayList<>();
+    for (int row : validRows) {
+      AddEmployeeRequest employee = employees.get(row);
+      User user = new User();
+      // Assigned here so that failures reported by the bulk write can be matched to rows.
+      user.setId(new ObjectId().toHexString());
+      user.setFirstName(employee.getFirstName());
+      user.setLastName(employee.getLastName());
+      user.setEmail(employee.getEmail());
+      user.setEmploymentType(employee.getEmploymentType());
+      user.setEmployeeId(normalizedEmployeeId(employee));
+      user.setRoles(new HashSet<>(defaultRoles));
+      user.setCreatedBy(UserContext.getLoggedInUserEmail());
+      user.setOrganizations(organization);
+      user.setPassword(SecretsGenerator.generateSecret());
+      users.add(user);
+    }
+    return users;
+  }
+
+  /** BCrypt is deliberately slow, so a large batch is hashed on all cores. */
+  private void hashPasswords(List<User> users) {
+    List<String> hashes =
+        users.parallelStream()
+            .map(user -> SecretsGenerator.hashWithBcrypt(user.getPassword()))
+            .toList();
+    for (int i = 0; i < users.size(); i++) {
+      users.get(i).setPassword(hashes.get(i));
+    }
+  }
+
+  /**
+   * @return the error of each user the write rejected, by user ID
+   */
+  private Map<String, String> insertUsers(List<User> users) throws Exception {
+    if (users.isEmpty()) {
+      return Map.of();
+    }
+    try {
+      mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class).insert(users).execute();
+      return Map.of();
+    } catch (BulkOperationException e) {
+      Map<String, String> errors = new HashMap<>();
+      for (BulkWriteError error : e.getErrors()) {
+        User user = users.get(error.getIndex());
+        errors.put(
+            user.getId(),
+            ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY
+                ? Constants.USER_ALREADY_FOUND + user.getEmail()
+                : Constants.USER_CREATE_ERROR + error.getMessage());
+      }
+      return errors;
+    } catch (Exception e) {
+      log.error(e.getMessage());
+      throw new Exception(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.API_ERROR, ErrorCode.RESOURCE_CREATING_ERROR, Constants.USER_CREATE_ERROR));
+    }
+  }
+
+  /**
+   * @return employee IDs whose employee records now exist, or {@code null} when the employee
+   *     service failed in a way that leaves unknown which records were written
+   */
+  private Set<String> createEmployeeRecords(
+      List<AddEmployeeRequest> employees, List<Integer> rows, List<User> users) {
+    if (users.isEmpty()) {
+      return Set.of();
+    }
+    List<Map<String, Object>> newEmployees = new ArrayList<>();
+    for (int i = 0; i < users.size(); i++) {
+      User user = users.get(i);
+      Map<String, Object> newEmployee = new HashMap<>();
+      newEmployee.put("id", user.getId());
+      newEmployee.put("employeeId", user.getEmployeeId());
+      newEmployee.put("email", user.getEmail());
+      newEmployee.put("organizations", user.getOrganizations());
+      newEmployee.put("department", employees.get(rows.get(i)).getDepartment());
+      newEmployee.put("employmentType", user.getEmploymentType());
+      newEmployees.add(newEmployee);
+    }
+    try {
+      return employeeFeignClient.createEmployees(newEmployees).stream()
+          .map(employee -> (String) employee.get("employeeId"))
+          .collect(Collectors.toSet());
+    } catch (FeignException.FeignClientException e) {
+      // The request was rejected as a whole, so none of the records were written.
+      log.error("Employee Service rejected the employees: {}", e.getMessage());
+      return Set.of();
+    } catch (FeignException e) {
+      // A timeout or server error can come after some records were written; deleting the users
+      // then would leave employees without accounts, so they are kept and reported unconfirmed.
+      log.error("Could not confirm employees created in Employee Service: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  private String missingField(AddEmployeeRequest employee) {
+    Map<String, String> required = new LinkedHashMap<>();
+    required.put("firstName", employee.getFirstName());
+    required.put("lastName", employee.getLastName());
+    required.put("email", employee.getEmail());
+    required.put("employmentType", employee.getEmploymentType());
+    required.put("employeeId", employee.getEmployeeId());
+    return required.entrySet().stream()
+        .filter(field -> field.getValue() == null || field.getValue().isBlank())
+        .map(field -> Constants.MISSING_REQUIRED_FIELD + field.getKey())
+        .findFirst()
+        .orElse(null);
+  }
+
+  private String normalizedEmployeeId(AddEmployeeRequest employee) {
+    return employee.getEmployeeId() == null ? null : employee.getEmployeeId().toUpperCase();
+  }
+
+  private static OnboardingRowResult failed(int row, AddEmployeeRequest employee, String error) {
+    return new OnboardingRowResult(
+        row + 1,
+        employee.getEmail(),
+        employee.getEmployeeId(),
+        OnboardingStatus.FAILED,
+        null,
+        error);
+  }
+
+  private static String column(List<String> record, Map<String, Integer> columns, String name) {
+    Integer index = columns.get(name);
+    if (index == null || index >= record.size()) {
+      return null;
+    }
+    String value = record.get(index).trim();
+    return value.isEmpty() ? null : value;
+  }
+}
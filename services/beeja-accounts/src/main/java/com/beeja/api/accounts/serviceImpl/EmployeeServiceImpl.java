@@ -2,6 +2,7 @@ package com.beeja.api.accounts.serviceImpl;
 
 import static com.beeja.api.accounts.utils.SecretsGenerator.hashWithBcrypt;
 
+import com.beeja.api.accounts.cache.EmployeeNameDirectory;
 import com.beeja.api.accounts.clients.EmployeeFeignClient;
 import com.beeja.api.accounts.constants.PermissionConstants;
 import com.beeja.api.accounts.enums.ErrorCode;
@@ -14,6 +15,7 @@ import com.beeja.api.accounts.exceptions.UserNotFoundException;
 import com.beeja.api.accounts.model.Organization.OrgDefaults;
 import com.beeja.api.accounts.model.Organization.Organization;
 import com.beeja.api.accounts.model.Organization.Role;
+import com.beeja.api.accounts.model.OrganizationUserCounters;
 import com.beeja.api.accounts.model.User;
 import com.beeja.api.accounts.model.dto.EmployeeNameDTO;
 import com.beeja.api.accounts.repository.OrgDefaultsRepository;
@@ -26,7 +28,10 @@ import com.beeja.api.accounts.requests.UpdateUserRequest;
 import com.beeja.api.accounts.requests.UpdateUserRoleRequest;
 import com.beeja.api.accounts.response.CreatedUserResponse;
 import com.beeja.api.accounts.response.EmployeeCount;
+import com.beeja.api.accounts.service.AccountChangeNotifier;
 import com.beeja.api.accounts.service.EmployeeService;
+import com.beeja.api.accounts.service.PrincipalInvalidationService;
+import com.beeja.api.accounts.service.UserCounterService;
 import com.beeja.api.accounts.utils.BuildErrorMessage;
 import com.beeja.api.accounts.utils.Constants;
 import com.beeja.api.accounts.utils.SecretsGenerator;
@@ -41,6 +46,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -63,6 +69,14 @@ public class EmployeeServiceImpl implements EmployeeService {
 
   @Autowired MongoTemplate mongoTemplate;
 
+  @Autowired PrincipalInvalidationService principalInvalidationService;
+
+  @Autowired UserCounterService userCounterService;
+
+  @Autowired EmployeeNameDirectory employeeNameDirectory;
+
+  @Autowired AccountChangeNotifier accountChangeNotifier;
+
   @Autowired OrgDefaultsRepository orgDefaultsRepository;
 
   @Autowired OrganizationPatternsRepository patternsRepository;
@@ -84,8 +98,8 @@ public class EmployeeServiceImpl implements EmployeeService {
     user.setEmploymentType(addEmployeeRequest.getEmploymentType());
 
     String userEmail = user.getEmail();
-    if (userRepository.findByEmailAndOrganizations(
-            userEmail, UserContext.getLoggedInUserOrganization())
+    if (userRepository.findByEmailAndOrganizations_Id(
+            userEmail, UserContext.getLoggedInUserOrganization().getId())
         != null) {
       throw new ResourceAlreadyFoundException(
           BuildErrorMessage.buildErrorMessage(
@@ -192,6 +206,10 @@ public class EmployeeServiceImpl implements EmployeeService {
               ErrorCode.RESOURCE_CREATING_ERROR,
               Constants.EMPLOYEE_FEIGN_CLIENT_ERROR));
     }
+    userCounterService.usersCreated(List.of(createdUser));
+    employeeNameDirectory.put(createdUser);
+    accountChangeNotifier.accountsChanged(
+        UserContext.getLoggedInUserOrganization().getId(), List.of(createdUser.getEmployeeId()));
     CreatedUserResponse createdUserResponse = new CreatedUserResponse();
     createdUserResponse.setPassword(password);
     createdUserResponse.setUser(createdUser);
@@ -202,8 +220,8 @@ public class EmployeeServiceImpl implements EmployeeService {
   public void changeEmployeeStatus(String employeeId) throws Exception {
     employeeId = employeeId.toUpperCase();
     User optionalUser =
-        userRepository.findByEmployeeIdAndOrganizations(
-            employeeId, UserContext.getLoggedInUserOrganization());
+        userRepository.findByEmployeeIdAndOrganizations_Id(
+            employeeId, UserContext.getLoggedInUserOrganization().getId());
     if (optionalUser == null) {
       throw new ResourceAlreadyFoundException(
           BuildErrorMessage.buildErrorMessage(
@@ -221,6 +239,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     optionalUser.setActive(!optionalUser.isActive());
+    optionalUser.setPermissionVersion(optionalUser.getPermissionVersion() + 1);
     try {
       userRepository.save(optionalUser);
     } catch (Exception e) {
@@ -228,12 +247,24 @@ public class EmployeeServiceImpl implements EmployeeService {
           BuildErrorMessage.buildErrorMessage(
               ErrorType.DB_ERROR, ErrorCode.CANNOT_SAVE_CHANGES, Constants.USER_UPDATE_ERROR));
     }
+    userCounterService.statusChanged(
+        UserContext.getLoggedInUserOrganization().getId(), optionalUser.isActive());
+    principalInvalidationService.invalidate(List.of(optionalUser.getEmail()));
+    accountChangeNotifier.accountsChanged(
+        UserContext.getLoggedInUserOrganization().getId(), List.of(optionalUser.getEmployeeId()));
   }
 
   @Override
   public List<EmployeeNameDTO> getEmployeeNamesByIds(List<String> employeeIds) {
-    return userRepository.findEmployeeNamesByEmployeeIdInAndOrganizations_Id(
-        employeeIds, UserContext.getLoggedInUserOrganization().getId());
+    return getEmployeeNameMap(employeeIds).entrySet().stream()
+        .map(name -> new EmployeeNameDTO(name.getKey(), name.getValue()))
+        .toList();
+  }
+
+  @Override
+  public Map<String, String> getEmployeeNameMap(List<String> employeeIds) {
+    return employeeNameDirectory.getNames(
+        UserContext.getLoggedInUserOrganization().getId(), employeeIds);
   }
 
   @Override
@@ -244,8 +275,8 @@ public class EmployeeServiceImpl implements EmployeeService {
         return userRepository.findByOrganizationsId(
             UserContext.getLoggedInUserOrganization().getId());
       } else {
-        return userRepository.findByOrganizationsAndIsActive(
-            UserContext.getLoggedInUserOrganization(), true);
+        return userRepository.findByOrganizations_IdAndIsActive(
+            UserContext.getLoggedInUserOrganization().getId(), true);
       }
     } catch (Exception e) {
       throw new Exception(
@@ -258,9 +289,14 @@ public class EmployeeServiceImpl implements EmployeeService {
 
   @Override
   public User getEmployeeByEmail(String email, Organization organization) throws Exception {
+    return getUserOfOrganizationByEmail(organization.getId(), email);
+  }
+
+  @Override
+  public User getUserOfOrganizationByEmail(String organizationId, String email) throws Exception {
     User user;
     try {
-      user = userRepository.findByEmailAndOrganizations(email, organization);
+      user = userRepository.findByEmailAndOrganizations_Id(email, organizationId);
     } catch (Exception e) {
       throw new Exception(
           BuildErrorMessage.buildErrorMessage(
@@ -283,7 +319,7 @@ public class EmployeeServiceImpl implements EmployeeService {
       throws Exception {
     User user;
     try {
-      user = userRepository.findByEmployeeIdAndOrganizations(employeeId, organization);
+      user = userRepository.findByEmployeeIdAndOrganizations_Id(employeeId, organization.getId());
     } catch (Exception e) {
       throw new Exception(
           BuildErrorMessage.buildErrorMessage(
@@ -308,8 +344,8 @@ public class EmployeeServiceImpl implements EmployeeService {
     User user;
     try {
       user =
-          userRepository.findByEmployeeIdAndOrganizations(
-              empId, UserContext.getLoggedInUserOrganization());
+          userRepository.findByEmployeeIdAndOrganizations_Id(
+              empId, UserContext.getLoggedInUserOrganization().getId());
     } catch (Exception e) {
       throw new Exception(
           BuildErrorMessage.buildErrorMessage(
@@ -333,14 +369,14 @@ public class EmployeeServiceImpl implements EmployeeService {
               ErrorCode.CANNOT_CHANGE_SELF_ROLES,
               Constants.CANT_UPDATE_ROLES_SELF));
     }
-    Set<Role> updatedRoles = new HashSet<>();
+    Set<Role> updatedRoles =
+        new HashSet<>(
+            rolesRepository.findByNameInAndOrganizationId(
+                updateRequest.getRoles(), UserContext.getLoggedInUserOrganization().getId()));
+    Set<String> foundRoleNames =
+        updatedRoles.stream().map(Role::getName).collect(Collectors.toSet());
     for (String role : updateRequest.getRoles()) {
-      Role roleToBeAddedToEmployee =
-          rolesRepository.findByNameAndOrganizationId(
-              role, UserContext.getLoggedInUserOrganization().getId());
-      if (roleToBeAddedToEmployee != null) {
-        updatedRoles.add(roleToBeAddedToEmployee);
-      } else {
+      if (!foundRoleNames.contains(role)) {
         throw new ResourceNotFoundException(
             BuildErrorMessage.buildErrorMessage(
                 ErrorType.RESOURCE_NOT_FOUND_ERROR,
@@ -348,9 +384,12 @@ public class EmployeeServiceImpl implements EmployeeService {
                 Constants.ROLE_NOT_FOUND + role));
       }
     }
+    Set<Role> previousRoles = user.getRoles() == null ? Set.of() : user.getRoles();
     user.setRoles(updatedRoles);
+    user.setPermissionVersion(user.getPermissionVersion() + 1);
+    User savedUser;
     try {
-      return userRepository.save(user);
+      savedUser = userRepository.save(user);
     } catch (Exception e) {
       throw new Exception(
           BuildErrorMessage.buildErrorMessage(
@@ -358,13 +397,19 @@ public class EmployeeServiceImpl implements EmployeeService {
               ErrorCode.CANNOT_SAVE_CHANGES,
               Constants.ERROR_IN_ASSIGNING_ROLE));
     }
+    userCounterService.rolesChanged(
+        UserContext.getLoggedInUserOrganization().getId(), previousRoles, updatedRoles);
+    principalInvalidationService.invalidate(List.of(user.getEmail()));
+    accountChangeNotifier.accountsChanged(
+        UserContext.getLoggedInUserOrganization().getId(), List.of(user.getEmployeeId()));
+    return savedUser;
   }
 
   @Override
   public User updateEmployeeByEmployeeId(String employeeId, UpdateUserRequest updatedUser) {
     User existingUser =
-        userRepository.findByEmployeeIdAndOrganizations(
-            employeeId, UserContext.getLoggedInUserOrganization());
+        userRepository.findByEmployeeIdAndOrganizations_Id(
+            employeeId, UserContext.getLoggedInUserOrganization().getId());
 
     if (existingUser == null) {
       throw new ResourceNotFoundException(
@@ -378,7 +423,11 @@ public class EmployeeServiceImpl implements EmployeeService {
     BeanUtils.copyProperties(updatedUser, existingUser, nullProperties);
     existingUser.setModifiedAt(new Date());
     existingUser.setModifiedBy(UserContext.getLoggedInUserEmail());
-    return userRepository.save(existingUser);
+    User savedUser = userRepository.save(existingUser);
+    employeeNameDirectory.put(savedUser);
+    accountChangeNotifier.accountsChanged(
+        UserContext.getLoggedInUserOrganization().getId(), List.of(savedUser.getEmployeeId()));
+    return savedUser;
   }
 
   @Override
@@ -390,28 +439,29 @@ public class EmployeeServiceImpl implements EmployeeService {
               .in(permission.toUpperCase())
               .and("organizationId")
               .is(UserContext.getLoggedInUserOrganization().getId()));
-      roleQuery.fields().include("permissions");
-      List<Role> roles = mongoTemplate.find(roleQuery, Role.class);
-      Set<User> userSet = new HashSet<>();
-
-      for (Role role : roles) {
-        Query userQuery = new Query();
-        userQuery.addCriteria(
-            Criteria.where("roles")
-                .in(role.getId())
-                .and("isActive")
-                .is(true)
-                .and("organizations")
-                .is(UserContext.getLoggedInUserOrganization()));
-        userQuery
-            .fields()
-            .include("firstName")
-            .include("lastName")
-            .include("employeeId")
-            .include("email");
-        userSet.addAll(mongoTemplate.find(userQuery, User.class));
+      roleQuery.fields().include("_id");
+      List<String> roleIds =
+          mongoTemplate.find(roleQuery, Role.class).stream().map(Role::getId).toList();
+      if (roleIds.isEmpty()) {
+        return new ArrayList<>();
       }
-      return new ArrayList<>(userSet);
+
+      // A user holding several matching roles is still a single document, so $in de-duplicates.
+      Query userQuery = new Query();
+      userQuery.addCriteria(
+          Criteria.where("roles._id")
+              .in(roleIds)
+              .and("isActive")
+              .is(true)
+              .and("organizations._id")
+              .is(UserContext.getLoggedInUserOrganization().getId()));
+      userQuery
+          .fields()
+          .include("firstName")
+          .include("lastName")
+          .include("employeeId")
+          .include("email");
+      return mongoTemplate.find(userQuery, User.class);
     } catch (Exception e) {
       throw new Exception(
           BuildErrorMessage.buildErrorMessage(
@@ -424,20 +474,14 @@ public class EmployeeServiceImpl implements EmployeeService {
   @Override
   public EmployeeCount getEmployeeCountByOrganization() throws Exception {
     try {
-      Long totalCount = 0L;
-      if (UserContext.getLoggedInUserPermissions()
-          .contains(PermissionConstants.GET_ALL_EMPLOYEES)) {
-        totalCount = userRepository.countByOrganizations(UserContext.getLoggedInUserOrganization());
-      }
-      Long activeEmployeeCount =
-          userRepository.countByOrganizationsAndIsActive(
-              UserContext.getLoggedInUserOrganization(), true);
+      OrganizationUserCounters counters =
+          userCounterService.getCounters(UserContext.getLoggedInUserOrganization().getId());
       EmployeeCount employeeCount = new EmployeeCount();
-      employeeCount.setTotalCount(totalCount);
-      employeeCount.setActiveCount(activeEmployeeCount);
+      employeeCount.setActiveCount(counters.getActive());
       if (UserContext.getLoggedInUserPermissions()
           .contains(PermissionConstants.GET_ALL_EMPLOYEES)) {
-        employeeCount.setInactiveCount(totalCount - activeEmployeeCount);
+        employeeCount.setTotalCount(counters.getTotal());
+        employeeCount.setInactiveCount(counters.getInactive());
       }
       return employeeCount;
     } catch (Exception e) {
@@ -453,8 +497,8 @@ public class EmployeeServiceImpl implements EmployeeService {
   public boolean isEmployeeHasPermission(String employeeId, String permission) throws Exception {
     try {
       User user =
-          userRepository.findByEmployeeIdAndOrganizations(
-              employeeId, UserContext.getLoggedInUserOrganization());
+          userRepository.findByEmployeeIdAndOrganizations_Id(
+              employeeId, UserContext.getLoggedInUserOrganization().getId());
       if (user == null) {
         throw new UserNotFoundException(Constants.USER_NOT_FOUND + employeeId);
       }
@@ -495,12 +539,26 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
   }
 
+  @Override
+  public List<User> getUsersOfOrganizationByEmployeeIds(
+      String organizationId, List<String> employeeIds) throws Exception {
+    try {
+      return userRepository.findByEmployeeIdInAndOrganizations_Id(employeeIds, organizationId);
+    } catch (Exception e) {
+      throw new Exception(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.DB_ERROR,
+              ErrorCode.UNABLE_TO_FETCH_DETAILS,
+              Constants.ERROR_RETRIEVING_USER));
+    }
+  }
+
   @Override
   public String changeEmailAndPassword(
       ChangeEmailAndPasswordRequest changeEmailAndPasswordRequest) {
     User user =
-        userRepository.findByEmailAndOrganizations(
-            UserContext.getLoggedInUserEmail(), UserContext.getLoggedInUserOrganization());
+        userRepository.findByEmailAndOrganizations_Id(
+            UserContext.getLoggedInUserEmail(), UserContext.getLoggedInUserOrganization().getId());
     if (changeEmailAndPasswordRequest.getCurrentPassword() != null
         && changeEmailAndPasswordRequest.getNewPassword() != null
         && changeEmailAndPasswordRequest.getConfirmPassword() != null) {
@@ -530,6 +588,10 @@ public class EmployeeServiceImpl implements EmployeeService {
       user.setEmail(changeEmailAndPasswordRequest.getNewEmail());
     }
     userRepository.save(user);
+    if (changeEmailAndPasswordRequest.getNewEmail() != null) {
+      accountChangeNotifier.accountsChanged(
+          UserContext.getLoggedInUserOrganization().getId(), List.of(user.getEmployeeId()));
+    }
     return Constants.UPDATED;
   }
 }
@@ -1,5 +1,6 @@
 package com.beeja.api.accounts.serviceImpl;
 
+import com.beeja.api.accounts.cache.OrganizationReferenceCache;
 import com.beeja.api.accounts.enums.ErrorCode;
 import com.beeja.api.accounts.enums.ErrorType;
 import com.beeja.api.accounts.exceptions.ResourceNotFoundException;
@@ -16,11 +17,13 @@ public class FeatureToggleServiceImpl implements FeatureToggleService {
 
   @Autowired FeatureToggleRepository featureToggleRepository;
 
+  @Autowired OrganizationReferenceCache organizationReferenceCache;
+
   @Override
   public FeatureToggle getFeatureToggleByOrganizationId(String organizationId) {
-    FeatureToggle featureToggle = featureToggleRepository.findByOrganizationId(organizationId);
+    FeatureToggle featureToggle = organizationReferenceCache.getFeatureToggle(organizationId);
     if (featureToggle != null) {
-      return featureToggleRepository.findByOrganizationId(organizationId);
+      return featureToggle;
     } else {
       throw new ResourceNotFoundException(
           BuildErrorMessage.buildErrorMessage(
@@ -41,7 +44,9 @@ public class FeatureToggleServiceImpl implements FeatureToggleService {
     }
     optionalFeatureToggle.setFeatureToggles(featureToggle.getFeatureToggles());
     try {
-      return featureToggleRepository.save(optionalFeatureToggle);
+      FeatureToggle savedFeatureToggle = featureToggleRepository.save(optionalFeatureToggle);
+      organizationReferenceCache.putFeatureToggle(savedFeatureToggle);
+      return savedFeatureToggle;
     } catch (Exception e) {
       throw new Exception(
           BuildErrorMessage.buildErrorMessage(
@@ -0,0 +1,129 @@
+package com.beeja.api.accounts.serviceImpl;
+
+import com.beeja.api.accounts.cache.OrganizationReferenceCache;
+import com.beeja.api.accounts.config.UserContextTaskDecorator;
+import com.beeja.api.accounts.config.properties.OrgBootstrapProperties;
+import com.beeja.api.accounts.model.Organization.OrgDefaults;
+import com.beeja.api.accounts.model.Organization.employeeSettings.OrgValues;
+import com.beeja.api.accounts.utils.Constants;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Generates an organization's defaults: the built-in values and the values already in use in the
+ * expense and employee services are merged in memory per key, then written with one bulk upsert.
+ * Values are added to each key's set, so existing values are kept and repeating a generation is
+ * harmless.
+ *
+ * <p>Generations run on a small pool of their own rather than the shared async executor, so a
+ * burst of new organizations queues here instead of starving other background work.
+ */
+@Slf4j
+@Service
+public class OrgBootstrapEngine {
+
+  @Autowired OrgDefaultsGenerationImpl orgDefaultsGenerationImpl;
+
+  @Autowired OrgDefaultsGenerationExistingImpl orgDefaultsGenerationExistingImpl;
+
+  @Autowired MongoTemplate mongoTemplate;
+
+  @Autowired OrganizationReferenceCache organizationReferenceCache;
+
+  @Autowired OrgBootstrapProperties orgBootstrapProperties;
+
+  @Autowired UserContextTaskDecorator userContextTaskDecorator;
+
+  @Autowired Environment environment;
+
+  private AsyncTaskExecutor executor;
+
+  @PostConstruct
+  void startExecutor() {
+    if (Threading.VIRTUAL.isActive(environment)) {
+      SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("OrgBootstrap-");
+      virtualExecutor.setVirtualThreads(true);
+      virtualExecutor.setConcurrencyLimit(orgBootstrapProperties.getConcurrency());
+      virtualExecutor.setTaskDecorator(userContextTaskDecorator);
+      executor = virtualExecutor;
+      return;
+    }
+    ThreadPoolTaskExecutor poolExecutor = new ThreadPoolTaskExecutor();
+    poolExecutor.setCorePoolSize(orgBootstrapProperties.getConcurrency());
+    poolExecutor.setMaxPoolSize(orgBootstrapProperties.getConcurrency());
+    poolExecutor.setQueueCapacity(orgBootstrapProperties.getQueueCapacity());
+    poolExecutor.setThreadNamePrefix("OrgBootstrap-");
+    poolExecutor.setTaskDecorator(userContextTaskDecorator);
+    poolExecutor.setWaitForTasksToCompleteOnShutdown(true);
+    poolExecutor.initialize();
+    executor = poolExecutor;
+  }
+
+  @PreDestroy
+  void stopExecutor() {
+    if (executor instanceof ThreadPoolTaskExecutor poolExecutor) {
+      poolExecutor.shutdown();
+    }
+  }
+
+  /**
+   * Queues the generation of an organization's defaults. The task runs with the caller's {@code
+   * UserContext}.
+   *
+   * @throws org.springframework.core.task.TaskRejectedException if the queue is full
+   */
+  public CompletableFuture<Void> bootstrap(String organizationId, String accessToken) {
+    return CompletableFuture.runAsync(
+        () -> generateDefaults(organizationId, accessToken), executor);
+  }
+
+  void generateDefaults(String organizationId, String accessToken) {
+    log.info(Constants.GENERATING_DEFAULT_VALUES, organizationId);
+    Map<String, Set<OrgValues>> valuesByKey = new LinkedHashMap<>();
+    merge(valuesByKey, orgDefaultsGenerationImpl.generateDefaultValues());
+    merge(valuesByKey, orgDefaultsGenerationExistingImpl.generateExistingValues(accessToken));
+
+    List<String> keys = new ArrayList<>(valuesByKey.keySet());
+    BulkOperations bulkOperations =
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, OrgDefaults.class);
+    for (String key : keys) {
+      Query query =
+          new Query(Criteria.where("organizationId").is(organizationId).and("key").is(key));
+      Update update = new Update().addToSet("values").each(valuesByKey.get(key).toArray());
+      bulkOperations.upsert(query, update);
+    }
+    try {
+      bulkOperations.execute();
+      log.info(Constants.SUCCESSFULLY_GENERATED_DEFAULTS, organizationId);
+    } catch (Exception e) {
+      log.error(Constants.ERROR_GENERATING_DEFAULT_VALUES, keys, organizationId, e);
+    } finally {
+      organizationReferenceCache.evictOrgDefaults(organizationId);
+    }
+  }
+
+  private static void merge(Map<String, Set<OrgValues>> into, Map<String, List<OrgValues>> from) {
+    from.forEach(
+        (key, values) -> into.computeIfAbsent(key, k -> new LinkedHashSet<>()).addAll(values));
+  }
+}
@@ -1,302 +1,77 @@
 package com.beeja.api.accounts.serviceImpl;
 
-import com.beeja.api.accounts.model.Organization.OrgDefaults;
 import com.beeja.api.accounts.model.Organization.employeeSettings.OrgValues;
-import com.beeja.api.accounts.repository.OrgDefaultsRepository;
-import com.beeja.api.accounts.utils.UserContext;
-import java.util.HashSet;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.dao.DuplicateKeyException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Service;
 
+/** The built-in defaults every organization starts with, by {@code OrgDefaults} key. */
 @Service
-@Slf4j
 public class OrgDefaultsGenerationImpl {
 
-  @Autowired private OrgDefaultsRepository orgDefaultsRepository;
-
-  public void generateOrganizationDepartments() {
-    OrgDefaults orgDepartments =
-        orgDefaultsRepository.findByOrganizationIdAndKey(
-            UserContext.getLoggedInUserOrganization().getId(), "departments");
-    if (orgDepartments == null) {
-      orgDepartments = new OrgDefaults();
-    }
-    orgDepartments.setOrganizationId(UserContext.getLoggedInUserOrganization().getId());
-    orgDepartments.setKey("departments");
-
-    OrgValues engineering = new OrgValues();
-    engineering.setValue("Engineering");
-    engineering.setDescription("Engineering Department");
-
-    OrgValues hr = new OrgValues();
-    hr.setValue("HR");
-    hr.setDescription("Human Resources Department");
-
-    OrgValues finance = new OrgValues();
-    finance.setValue("Finance");
-    finance.setDescription("Finance Department");
-
-    OrgValues devOps = new OrgValues();
-    devOps.setValue("devOps");
-    devOps.setDescription("devOps Department");
-
-    if (orgDepartments.getValues() == null) {
-      orgDepartments.setValues(new HashSet<>());
-    }
-    orgDepartments.getValues().add(hr);
-    orgDepartments.getValues().add(engineering);
-    orgDepartments.getValues().add(finance);
-    orgDepartments.getValues().add(devOps);
-
-    orgDepartments.setValues(new HashSet<>(orgDepartments.getValues()));
-    try {
-      orgDefaultsRepository.save(orgDepartments);
-    } catch (DuplicateKeyException e) {
-      log.error(String.valueOf(e.getMessage()));
-    }
+  public Map<String, List<OrgValues>> generateDefaultValues() {
+    Map<String, List<OrgValues>> defaults = new LinkedHashMap<>();
+    defaults.put("departments", organizationDepartments());
+    defaults.put("jobTitles", jobTitles());
+    defaults.put("employmentTypes", employmentTypes());
+    defaults.put("expenseCategories", expenseCategories());
+    defaults.put("expenseTypes", expenseTypes());
+    defaults.put("paymentModes", paymentModes());
+    return defaults;
   }
 
-  public void generateJobTitles() {
-    OrgDefaults orgJobTitles =
-        orgDefaultsRepository.findByOrganizationIdAndKey(
-            UserContext.getLoggedInUserOrganization().getId(), "jobTitles");
-    if (orgJobTitles == null) {
-      orgJobTitles = new OrgDefaults();
-    }
-    orgJobTitles.setOrganizationId(UserContext.getLoggedInUserOrganization().getId());
-    orgJobTitles.setKey("jobTitles");
-
-    OrgValues softwareEngineer = new OrgValues();
-    softwareEngineer.setValue("Software Engineer");
-    softwareEngineer.setDescription("Software Engineer");
-
-    OrgValues hr = new OrgValues();
-    hr.setValue("HR Manager");
-    hr.setDescription("Human Resources");
-
-    OrgValues finance = new OrgValues();
-    finance.setValue("Finance Manager");
-    finance.setDescription("Finance");
-
-    OrgValues devOps = new OrgValues();
-    devOps.setValue("devOps Engineer");
-    devOps.setDescription("devOps");
-
-    if (orgJobTitles.getValues() == null) {
-      orgJobTitles.setValues(new HashSet<>());
-    }
-    orgJobTitles.getValues().add(hr);
-    orgJobTitles.getValues().add(softwareEngineer);
-    orgJobTitles.getValues().add(finance);
-    orgJobTitles.getValues().add(devOps);
-
-    orgJobTitles.setValues(new HashSet<>(orgJobTitles.getValues()));
-
-    try {
-      orgDefaultsRepository.save(orgJobTitles);
-    } catch (DuplicateKeyException e) {
-      log.error(String.valueOf(e.getMessage()));
-    }
+  private List<OrgValues> organizationDepartments() {
+    return List.of(
+        new OrgValues("HR", "Human Resources Department"),
+        new OrgValues("Engineering", "Engineering Department"),
+        new OrgValues("Finance", "Finance Department"),
+        new OrgValues("devOps", "devOps Department"));
   }
 
-  public void generateEmploymentTypes() {
-    OrgDefaults orgEmploymentTypes =
-        orgDefaultsRepository.findByOrganizationIdAndKey(
-            UserContext.getLoggedInUserOrganization().getId(), "employmentTypes");
-    if (orgEmploymentTypes == null) {
-      orgEmploymentTypes = new OrgDefaults();
-    }
-    orgEmploymentTypes.setOrganizationId(UserContext.getLoggedInUserOrganization().getId());
-    orgEmploymentTypes.setKey("employmentTypes");
-
-    OrgValues fullTime = new OrgValues();
-    fullTime.setValue("Full Time");
-    fullTime.setDescription("Full Time Employment");
-
-    OrgValues partTime = new OrgValues();
-    partTime.setValue("Part Time");
-    partTime.setDescription("Part Time Employment");
-
-    OrgValues contract = new OrgValues();
-    contract.setValue("Contract");
-    contract.setDescription("Contract Employment");
-
-    OrgValues intern = new OrgValues();
-    intern.setValue("Intern");
-    intern.setDescription("Internship");
-
-    OrgValues unpaidIntern = new OrgValues();
-    unpaidIntern.setValue("Unpaid Intern");
-    unpaidIntern.setDescription("Unpaid Internship");
-
-    if (orgEmploymentTypes.getValues() == null) {
-      orgEmploymentTypes.setValues(new HashSet<>());
-    }
-    orgEmploymentTypes.getValues().add(fullTime);
-    orgEmploymentTypes.getValues().add(partTime);
-    orgEmploymentTypes.getValues().add(contract);
-    orgEmploymentTypes.getValues().add(intern);
-    orgEmploymentTypes.getValues().add(unpaidIntern);
-
-    orgEmploymentTypes.setValues(new HashSet<>(orgEmploymentTypes.getValues()));
-    try {
-      orgDefaultsRepository.save(orgEmploymentTypes);
-    } catch (DuplicateKeyException e) {
-      log.error(String.valueOf(e.getMessage()));
-    }
+  private List<OrgValues> jobTitles() {
+    return List.of(
+        new OrgValues("HR Manager", "Human Resources"),
+        new OrgValues("Software Engineer", "Software Engineer"),
+        new OrgValues("Finance Manager", "Finance"),
+        new OrgValues("devOps Engineer", "devOps"));
   }
 
-  public void generateExpenseCategories() {
-    OrgDefaults orgExpenseCategories =
-        orgDefaultsRepository.findByOrganizationIdAndKey(
-            UserContext.getLoggedInUserOrganization().getId(), "expenseCategories");
-    if (orgExpenseCategories == null) {
-      orgExpenseCategories = new OrgDefaults();
-    }
-    orgExpenseCategories.setOrganizationId(UserContext.getLoggedInUserOrganization().getId());
-    orgExpenseCategories.setKey("expenseCategories");
-
-    OrgValues travel = new OrgValues();
-    travel.setValue("Travel");
-    travel.setDescription("Travel Expenses");
-
-    OrgValues officeSupplies = new OrgValues();
-    officeSupplies.setValue("Office Supplies");
-    officeSupplies.setDescription("Office Supplies Expenses");
-
-    OrgValues utilities = new OrgValues();
-    utilities.setValue("Utilities");
-    utilities.setDescription("Utilities Expenses");
-
-    OrgValues rent = new OrgValues();
-    rent.setValue("Rent");
-    rent.setDescription("Rent Expenses");
-
-    OrgValues insurance = new OrgValues();
-    insurance.setValue("Insurance");
-    insurance.setDescription("Insurance Expenses");
-
-    OrgValues others = new OrgValues();
-    others.setValue("Others");
-    others.setDescription("Other Expenses");
-
-    if (orgExpenseCategories.getValues() == null) {
-      orgExpenseCategories.setValues(new HashSet<>());
-    }
-    orgExpenseCategories.getValues().add(travel);
-    orgExpenseCategories.getValues().add(officeSupplies);
-    orgExpenseCategories.getValues().add(utilities);
-    orgExpenseCategories.getValues().add(rent);
-    orgExpenseCategories.getValues().add(insurance);
-    orgExpenseCategories.getValues().add(others);
-
-    orgExpenseCategories.setValues(new HashSet<>(orgExpenseCategories.getValues()));
-
-    try {
-      orgDefaultsRepository.save(orgExpenseCategories);
-    } catch (DuplicateKeyException e) {
-      log.error(String.valueOf(e.getMessage()));
-    }
+  private List<OrgValues> employmentTypes() {
+    return List.of(
+        new OrgValues("Full Time", "Full Time Employment"),
+        new OrgValues("Part Time", "Part Time Employment"),
+        new OrgValues("Contract", "Contract Employment"),
+        new OrgValues("Intern", "Internship"),
+        new OrgValues("Unpaid Intern", "Unpaid Internship"));
   }
 
-  public void generateExpenseTypes() {
-    OrgDefaults orgExpenseTypes =
-        orgDefaultsRepository.findByOrganizationIdAndKey(
-            UserContext.getLoggedInUserOrganization().getId(), "expenseTypes");
-    if (orgExpenseTypes == null) {
-      orgExpenseTypes = new OrgDefaults();
-    }
-    orgExpenseTypes.setOrganizationId(UserContext.getLoggedInUserOrganization().getId());
-    orgExpenseTypes.setKey("expenseTypes");
-
-    OrgValues airfare = new OrgValues();
-    airfare.setValue("Airfare");
-    airfare.setDescription("Airfare Expenses");
-
-    OrgValues hotel = new OrgValues();
-    hotel.setValue("Hotel");
-    hotel.setDescription("Hotel Expenses");
-
-    OrgValues gas = new OrgValues();
-    gas.setValue("Gas");
-    gas.setDescription("Gas Expenses");
-
-    OrgValues electricity = new OrgValues();
-    electricity.setValue("Electricity");
-    electricity.setDescription("Electricity Expenses");
-
-    OrgValues water = new OrgValues();
-    water.setValue("Water");
-    water.setDescription("Water Expenses");
-
-    OrgValues others = new OrgValues();
-    others.setValue("Others");
-    others.setDescription("Other Expenses");
-
-    if (orgExpenseTypes.getValues() == null) {
-      orgExpenseTypes.setValues(new HashSet<>());
-    }
-    orgExpenseTypes.getValues().add(airfare);
-    orgExpenseTypes.getValues().add(hotel);
-    orgExpenseTypes.getValues().add(gas);
-    orgExpenseTypes.getValues().add(electricity);
-    orgExpenseTypes.getValues().add(water);
-    orgExpenseTypes.getValues().add(others);
-    orgExpenseTypes.setValues(new HashSet<>(orgExpenseTypes.getValues()));
-    try {
-      orgDefaultsRepository.save(orgExpenseTypes);
-    } catch (DuplicateKeyException e) {
-      log.error(String.valueOf(e.getMessage()));
-    }
+  private List<OrgValues> expenseCategories() {
+    return List.of(
+        new OrgValues("Travel", "Travel Expenses"),
+        new OrgValues("Office Supplies", "Office Supplies Expenses"),
+        new OrgValues("Utilities", "Utilities Expenses"),
+        new OrgValues("Rent", "Rent Expenses"),
+        new OrgValues("Insurance", "Insurance Expenses"),
+        new OrgValues("Others", "Other Expenses"));
   }
 
-  public void generatePaymentModes() {
-    OrgDefaults orgPaymentModes =
-        orgDefaultsRepository.findByOrganizationIdAndKey(
-            UserContext.getLoggedInUserOrganization().getId(), "paymentModes");
-    if (orgPaymentModes == null) {
-      orgPaymentModes = new OrgDefaults();
-    }
-    orgPaymentModes.setOrganizationId(UserContext.getLoggedInUserOrganization().getId());
-    orgPaymentModes.setKey("paymentModes");
-
-    OrgValues cash = new OrgValues();
-    cash.setValue("Cash");
-    cash.setDescription("Cash Payment");
-
-    OrgValues creditCard = new OrgValues();
-    creditCard.setValue("Credit Card");
-    creditCard.setDescription("Credit Card Payment");
-
-    OrgValues debitCard = new OrgValues();
-    debitCard.setValue("Debit Card");
-    debitCard.setDescription("Debit Card Payment");
-
-    OrgValues netBanking = new OrgValues();
-    netBanking.setValue("Net Banking");
-    netBanking.setDescription("Net Banking Payment");
-
-    OrgValues others = new OrgValues();
-    others.setValue("Others");
-    others.setDescription("Other Payment Modes");
-
-    if (orgPaymentModes.getValues() == null) {
-      orgPaymentModes.setValues(new HashSet<>());
-    }
-    orgPaymentModes.getValues().add(cash);
-    orgPaymentModes.getValues().add(creditCard);
-    orgPaymentModes.getValues().add(debitCard);
-    orgPaymentModes.getValues().add(netBanking);
-    orgPaymentModes.getValues().add(others);
-
-    orgPaymentModes.setValues(new HashSet<>(orgPaymentModes.getValues()));
+  private List<OrgValues> expenseTypes() {
+    return List.of(
+        new OrgValues("Airfare", "Airfare Expenses"),
+        new OrgValues("Hotel", "Hotel Expenses"),
+        new OrgValues("Gas", "Gas Expenses"),
+        new OrgValues("Electricity", "Electricity Expenses"),
+        new OrgValues("Water", "Water Expenses"),
+        new OrgValues("Others", "Other Expenses"));
+  }
 
-    try {
-      orgDefaultsRepository.save(orgPaymentModes);
-    } catch (DuplicateKeyException e) {
-      log.error(String.valueOf(e.getMessage()));
-    }
+  private List<OrgValues> paymentModes() {
+    return List.of(
+        new OrgValues("Cash", "Cash Payment"),
+        new OrgValues("Credit Card", "Credit Card Payment"),
+        new OrgValues("Debit Card", "Debit Card Payment"),
+        new OrgValues("Net Banking", "Net Banking Payment"),
+        new OrgValues("Others", "Other Payment Modes"));
   }
 }
@@ -1,5 +1,6 @@
 package com.beeja.api.accounts.serviceImpl;
 
+import com.beeja.api.accounts.cache.OrganizationReferenceCache;
 import com.beeja.api.accounts.enums.ErrorCode;
 import com.beeja.api.accounts.enums.ErrorType;
 import com.beeja.api.accounts.exceptions.BadRequestException;
@@ -21,6 +22,8 @@ import org.springframework.stereotype.Service;
 public class OrganizationPatternServiceImpl implements OrganizationPatternService {
   @Autowired OrganizationPatternsRepository organizationPatternsRepository;
 
+  @Autowired OrganizationReferenceCache organizationReferenceCache;
+
   @Override
   public OrganizationPattern updatePatternStatusByPatternIdAndPatternType(
       String patternId, String patternType) {
@@ -50,6 +53,7 @@ public class OrganizationPatternServiceImpl implements OrganizationPatternServic
       }
     }
     organizationPatternsRepository.saveAll(organizationPatterns);
+    organizationReferenceCache.evictPatterns(UserContext.getLoggedInUserOrganization().getId());
     return updatedPattern;
   }
 
@@ -87,7 +91,9 @@ public class OrganizationPatternServiceImpl implements OrganizationPatternServic
 
     OrganizationPattern organizationPattern =
         createOrganizationPattern(organizationPatternRequest, organizationId);
-    return organizationPatternsRepository.save(organizationPattern);
+    OrganizationPattern savedPattern = organizationPatternsRepository.save(organizationPattern);
+    organizationReferenceCache.evictPatterns(organizationId);
+    return savedPattern;
   }
 
   private static OrganizationPattern createOrganizationPattern(
@@ -112,6 +118,7 @@ public class OrganizationPatternServiceImpl implements OrganizationPatternServic
   public void deletePatternByPatternIdAndPatternType(String patternId, String patternType) {
     organizationPatternsRepository.deleteByOrganizationIdAndPatternTypeAndId(
         UserContext.getLoggedInUserOrganization().getId(), patternId, patternType);
+    organizationReferenceCache.evictPatterns(UserContext.getLoggedInUserOrganization().getId());
   }
 
   @Override
@@ -132,8 +139,8 @@ public class OrganizationPatternServiceImpl implements OrganizationPatternServic
   @Override
   public OrganizationPattern getActivePatternByPatternType(String patternType) throws Exception {
     try {
-      return organizationPatternsRepository.findByOrganizationIdAndPatternTypeAndActive(
-          UserContext.getLoggedInUserOrganization().getId(), patternType, true);
+      return organizationReferenceCache.getActivePattern(
+          UserContext.getLoggedInUserOrganization().getId(), patternType);
     } catch (Exception e) {
       log.error("Error: " + e.getMessage());
       throw new Exception(Constants.UNABLE_TO_FETCH_DETAILS_FROM_DATABASE);
@@ -1,5 +1,6 @@
 package com.beeja.api.accounts.serviceImpl;
 
+import com.beeja.api.accounts.cache.OrganizationReferenceCache;
 import com.beeja.api.accounts.clients.EmployeeFeignClient;
 import com.beeja.api.accounts.clients.FileClient;
 import com.beeja.api.accounts.constants.PermissionConstants;
@@ -31,7 +32,9 @@ import com.beeja.api.accounts.requests.FileRequest;
 import com.beeja.api.accounts.response.FileDownloadResultMetaData;
 import com.beeja.api.accounts.response.FileResponse;
 import com.beeja.api.accounts.response.OrganizationResponse;
+import com.beeja.api.accounts.service.AccountChangeNotifier;
 import com.beeja.api.accounts.service.OrganizationService;
+import com.beeja.api.accounts.service.UserSnapshotService;
 import com.beeja.api.accounts.utils.BuildErrorMessage;
 import com.beeja.api.accounts.utils.Constants;
 import com.beeja.api.accounts.utils.UserContext;
@@ -46,14 +49,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -75,9 +76,13 @@ public class OrganizationServiceImpl implements OrganizationService {
 
   @Autowired OrgDefaultsRepository orgDefaultsRepository;
 
-  @Autowired OrgDefaultsGenerationImpl orgDefaultsGenerationImpl;
+  @Autowired OrgBootstrapEngine orgBootstrapEngine;
 
-  @Autowired OrgDefaultsGenerationExistingImpl orgDefaultsGenerationExistingImpl;
+  @Autowired UserSnapshotService userSnapshotService;
+
+  @Autowired OrganizationReferenceCache organizationReferenceCache;
+
+  @Autowired AccountChangeNotifier accountChangeNotifier;
 
   @Override
   public List<User> getAllUsersByOrganizationId(String organizationId) throws Exception {
@@ -340,8 +345,9 @@ public class OrganizationServiceImpl implements OrganizationService {
       }
     }
 
+    Organization savedOrganization;
     try {
-      return organizationRepository.save(organization);
+      savedOrganization = organizationRepository.save(organization);
     } catch (Exception e) {
       throw new Exception(
           BuildErrorMessage.buildErrorMessage(
@@ -349,6 +355,9 @@ public class OrganizationServiceImpl implements OrganizationService {
               ErrorCode.CANNOT_SAVE_CHANGES,
               Constants.ERROR_IN_UPDATING_ORGANIZATION));
     }
+    userSnapshotService.resyncOrganization(savedOrganization);
+    accountChangeNotifier.organizationChanged(savedOrganization.getId());
+    return savedOrganization;
   }
 
   @Override
@@ -418,7 +427,9 @@ public class OrganizationServiceImpl implements OrganizationService {
     if (existingOrgDefaults != null) {
       existingOrgDefaults.setValues(orgDefaults.getValues());
       try {
-        return orgDefaultsRepository.save(existingOrgDefaults);
+        OrgDefaults savedOrgDefaults = orgDefaultsRepository.save(existingOrgDefaults);
+        organizationReferenceCache.putOrgDefaults(savedOrgDefaults);
+        return savedOrgDefaults;
       } catch (Exception e) {
         log.error(Constants.ERROR_IN_UPDATING_ORGANIZATION + "{}", e.getMessage());
         throw new Exception(
@@ -433,7 +444,9 @@ public class OrganizationServiceImpl implements OrganizationService {
       newOrgDefaults.setKey(orgDefaults.getKey());
       newOrgDefaults.setValues(orgDefaults.getValues());
       try {
-        return orgDefaultsRepository.save(newOrgDefaults);
+        OrgDefaults savedOrgDefaults = orgDefaultsRepository.save(newOrgDefaults);
+        organizationReferenceCache.putOrgDefaults(savedOrgDefaults);
+        return savedOrgDefaults;
       } catch (Exception e) {
         log.error(Constants.ERROR_IN_CREATE_ORGANIZATION + "{}", e.getMessage());
         throw new Exception(
@@ -457,7 +470,7 @@ public class OrganizationServiceImpl implements OrganizationService {
   @Override
   public OrgDefaults getOrganizationValuesByKey(String key) throws Exception {
     try {
-      return orgDefaultsRepository.findByOrganizationIdAndKey(
+      return organizationReferenceCache.getOrgDefaults(
           UserContext.getLoggedInUserOrganization().getId(), key);
     } catch (Exception e) {
       throw new Exception(
@@ -471,7 +484,7 @@ public class OrganizationServiceImpl implements OrganizationService {
   @Override
   public List<OrgDefaults> getOrganizationValues(List<String> keys) throws Exception {
     try {
-      return orgDefaultsRepository.findByOrganizationIdAndKeyIn(
+      return organizationReferenceCache.getOrgDefaults(
           UserContext.getLoggedInUserOrganization().getId(), keys);
     } catch (Exception e) {
       throw new Exception(
@@ -483,229 +496,8 @@ public class OrganizationServiceImpl implements OrganizationService {
   }
 
   @Override
-  @Async
   public void generateOrganizationDefaults() throws Exception {
-    CompletableFuture<Void> generateExistingValuesOfExpenseType =
-        CompletableFuture.runAsync(
-                () -> {
-                  orgDefaultsGenerationExistingImpl.generateExistingValuesOfExpenseType();
-                })
-            .handle(
-                (result, ex) -> {
-                  if (ex != null) {
-                    log.error(
-                        Constants.ERROR_GENERATING_DEFAULT_VALUES,
-                        "expenseTypes",
-                        UserContext.getLoggedInUserOrganization().getId(),
-                        ex);
-                  }
-                  return result;
-                });
-
-    CompletableFuture<Void> generateExistingValuesOfExpenseCategories =
-        CompletableFuture.runAsync(
-                () -> {
-                  orgDefaultsGenerationExistingImpl.generateExistingValuesOfExpenseCategories();
-                })
-            .handle(
-                (result, ex) -> {
-                  if (ex != null) {
-                    log.error(
-                        Constants.ERROR_GENERATING_DEFAULT_VALUES,
-                        "expenseCategories",
-                        UserContext.getLoggedInUserOrganization().getId(),
-                        ex);
-                  }
-                  return result;
-                });
-
-    CompletableFuture<Void> generateExistingDesignations =
-        CompletableFuture.runAsync(
-                () -> {
-                  orgDefaultsGenerationExistingImpl.generateExistingDesignations();
-                })
-            .handle(
-                (result, ex) -> {
-                  if (ex != null) {
-                    log.error(
-                        Constants.ERROR_GENERATING_DEFAULT_VALUES,
-                        "designations",
-                        UserContext.getLoggedInUserOrganization().getId(),
-                        ex);
-                  }
-                  return result;
-                });
-
-    CompletableFuture<Void> generateExistingPaymentModes =
-        CompletableFuture.runAsync(
-                () -> {
-                  orgDefaultsGenerationExistingImpl.generateExistingPaymentModes();
-                })
-            .handle(
-                (result, ex) -> {
-                  if (ex != null) {
-                    log.error(
-                        Constants.ERROR_GENERATING_DEFAULT_VALUES,
-                        "paymentModes",
-                        UserContext.getLoggedInUserOrganization().getId(),
-                        ex);
-                  }
-                  return result;
-                });
-
-    CompletableFuture<Void> generateExistingEmployeeTypes =
-        CompletableFuture.runAsync(
-                () -> {
-                  orgDefaultsGenerationExistingImpl.generateExistingEmployeeTypes();
-                })
-            .handle(
-                (result, ex) -> {
-                  if (ex != null) {
-                    log.error(
-                        Constants.ERROR_GENERATING_DEFAULT_VALUES,
-                        "employeeTypes",
-                        UserContext.getLoggedInUserOrganization().getId(),
-                        ex);
-                  }
-                  return result;
-                });
-
-    CompletableFuture<Void> generateExistingEmployeeDepartments =
-        CompletableFuture.runAsync(
-                () -> {
-                  orgDefaultsGenerationExistingImpl.generateExistingEmployeeDepartments();
-                })
-            .handle(
-                (result, ex) -> {
-                  if (ex != null) {
-                    log.error(
-                        Constants.ERROR_GENERATING_DEFAULT_VALUES,
-                        "employeeDepartments",
-                        UserContext.getLoggedInUserOrganization().getId(),
-                        ex);
-                  }
-                  return result;
-                });
-
-    CompletableFuture<Void> jobTitlesFuture =
-        CompletableFuture.runAsync(
-                () -> {
-                  log.info(
-                      Constants.GENERATING_DEFAULT_VALUES,
-                      UserContext.getLoggedInUserOrganization().getId());
-                  orgDefaultsGenerationImpl.generateJobTitles();
-                })
-            .handle(
-                (result, ex) -> {
-                  if (ex != null) {
-                    log.error(
-                        Constants.ERROR_GENERATING_DEFAULT_VALUES,
-                        "jobTitles",
-                        UserContext.getLoggedInUserOrganization().getId(),
-                        ex);
-                  }
-                  return result;
-                });
-
-    CompletableFuture<Void> departmentsFuture =
-        CompletableFuture.runAsync(
-                () -> {
-                  orgDefaultsGenerationImpl.generateOrganizationDepartments();
-                })
-            .handle(
-                (result, ex) -> {
-                  if (ex != null) {
-                    log.error(
-                        Constants.ERROR_GENERATING_DEFAULT_VALUES,
-                        "departments",
-                        UserContext.getLoggedInUserOrganization().getId(),
-                        ex);
-                  }
-                  return result;
-                });
-
-    CompletableFuture<Void> employmentTypesFuture =
-        CompletableFuture.runAsync(
-                () -> {
-                  orgDefaultsGenerationImpl.generateEmploymentTypes();
-                })
-            .handle(
-                (result, ex) -> {
-                  if (ex != null) {
-                    log.error(
-                        Constants.ERROR_GENERATING_DEFAULT_VALUES,
-                        "employmentTypes",
-                        UserContext.getLoggedInUserOrganization().getId(),
-                        ex);
-                  }
-                  return result;
-                });
-
-    CompletableFuture<Void> expenseCategoriesFuture =
-        CompletableFuture.runAsync(
-                () -> {
-                  orgDefaultsGenerationImpl.generateExpenseCategories();
-                })
-            .handle(
-                (result, ex) -> {
-                  if (ex != null) {
-                    log.error(
-                        Constants.ERROR_GENERATING_DEFAULT_VALUES,
-                        "expenseCategories",
-                        UserContext.getLoggedInUserOrganization().getId(),
-                        ex);
-                  }
-                  return result;
-                });
-
-    CompletableFuture<Void> expenseTypesFuture =
-        CompletableFuture.runAsync(
-                () -> {
-                  orgDefaultsGenerationImpl.generateExpenseTypes();
-                })
-            .handle(
-                (result, ex) -> {
-                  if (ex != null) {
-                    log.error(
-                        Constants.ERROR_GENERATING_DEFAULT_VALUES,
-                        "expenseTypes",
-                        UserContext.getLoggedInUserOrganization().getId(),
-                        ex);
-                  }
-                  return result;
-                });
-
-    CompletableFuture<Void> paymentModesFuture =
-        CompletableFuture.runAsync(
-                () -> {
-                  orgDefaultsGenerationImpl.generatePaymentModes();
-                })
-            .handle(
-                (result, ex) -> {
-                  if (ex != null) {
-                    log.error(
-                        Constants.ERROR_GENERATING_DEFAULT_VALUES,
-                        "paymentModes",
-                        UserContext.getLoggedInUserOrganization().getId(),
-                        ex);
-                  }
-                  return result;
-                });
-    CompletableFuture<Void> allFutures =
-        CompletableFuture.allOf(
-            jobTitlesFuture,
-            departmentsFuture,
-            employmentTypesFuture,
-            expenseCategoriesFuture,
-            expenseTypesFuture,
-            paymentModesFuture,
-            generateExistingValuesOfExpenseType,
-            generateExistingValuesOfExpenseCategories,
-            generateExistingPaymentModes,
-            generateExistingDesignations,
-            generateExistingEmployeeTypes,
-            generateExistingEmployeeDepartments);
-    allFutures.join();
-    log.info("All defaults generated");
+    orgBootstrapEngine.bootstrap(
+        UserContext.getLoggedInUserOrganization().getId(), UserContext.getAccessToken());
   }
 }
@@ -0,0 +1,100 @@
+package com.beeja.api.accounts.serviceImpl;
+
+import com.beeja.api.accounts.model.PrincipalInvalidation;
+import com.beeja.api.accounts.repository.PrincipalInvalidationRepository;
+import com.beeja.api.accounts.response.PrincipalInvalidationsResponse;
+import com.beeja.api.accounts.service.PrincipalInvalidationService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * Records which users' principals changed, under a version taken from a counter document, so that
+ * every service instance can ask for the events it has not seen yet.
+ */
+@Service
+public class PrincipalInvalidationServiceImpl implements PrincipalInvalidationService {
+
+  private static final String COUNTERS_COLLECTION = "counters";
+  private static final String COUNTER_ID = "principalInvalidation";
+
+  /** How long a version may be taken before its event is expected to be readable. */
+  private static final Duration GAP_GRACE = Duration.ofMinutes(1);
+
+  @Autowired PrincipalInvalidationRepository principalInvalidationRepository;
+
+  @Autowired MongoTemplate mongoTemplate;
+
+  @Override
+  public void invalidate(Collection<String> emails) {
+    if (emails.isEmpty()) {
+      return;
+    }
+    principalInvalidationRepository.save(
+        new PrincipalInvalidation(null, nextVersion(), new HashSet<>(emails), Instant.now()));
+  }
+
+  @Override
+  public PrincipalInvalidationsResponse getInvalidationsAfter(long version, int limit) {
+    Document counter = counter();
+    long latestVersion = counter == null ? 0L : ((Number) counter.get("seq")).longValue();
+    if (version < 0) {
+      // A caller with nothing cached only needs to know where to start following from.
+      return new PrincipalInvalidationsResponse(latestVersion, false, List.of());
+    }
+    List<PrincipalInvalidation> found =
+        principalInvalidationRepository.findByVersionGreaterThanOrderByVersionAsc(
+            version, PageRequest.of(0, limit));
+    // Only the unbroken run right after the caller's version is returned, so the caller never
+    // moves past a version it has not seen.
+    List<PrincipalInvalidation> invalidations = new ArrayList<>();
+    for (PrincipalInvalidation invalidation : found) {
+      if (invalidation.getVersion() != version + invalidations.size() + 1) {
+        break;
+      }
+      invalidations.add(invalidation);
+    }
+    if (!invalidations.isEmpty() || version >= latestVersion) {
+      return new PrincipalInvalidationsResponse(latestVersion, false, invalidations);
+    }
+    // The next version is missing. Right after it was taken its event may still be being written;
+    // once later writes are older than that, it expired or was never saved, and the caller cannot
+    // tell which principals it covered, so it has to drop them all.
+    Instant lastWrite = found.isEmpty() ? updatedAtOf(counter) : found.get(0).getCreatedAt();
+    boolean reset = lastWrite == null || lastWrite.isBefore(Instant.now().minus(GAP_GRACE));
+    return new PrincipalInvalidationsResponse(latestVersion, reset, List.of());
+  }
+
+  private long nextVersion() {
+    Document counter =
+        mongoTemplate.findAndModify(
+            new Query(Criteria.where("_id").is(COUNTER_ID)),
+            new Update().inc("seq", 1L).currentDate("updatedAt"),
+            FindAndModifyOptions.options().returnNew(true).upsert(true),
+            Document.class,
+            COUNTERS_COLLECTION);
+    return ((Number) counter.get("seq")).longValue();
+  }
+
+  private Document counter() {
+    return mongoTemplate.findById(COUNTER_ID, Document.class, COUNTERS_COLLECTION);
+  }
+
+  private static Instant updatedAtOf(Document counter) {
+    Date updatedAt = counter == null ? null : counter.getDate("updatedAt");
+    return updatedAt == null ? null : updatedAt.toInstant();
+  }
+}
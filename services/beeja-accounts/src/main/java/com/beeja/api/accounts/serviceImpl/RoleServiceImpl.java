@@ -13,13 +13,22 @@ import com.beeja.api.accounts.repository.OrganizationRepository;
 import com.beeja.api.accounts.repository.RolesRepository;
 import com.beeja.api.accounts.repository.UserRepository;
 import com.beeja.api.accounts.requests.AddRoleRequest;
+import com.beeja.api.accounts.service.AccountChangeNotifier;
+import com.beeja.api.accounts.service.PrincipalInvalidationService;
 import com.beeja.api.accounts.service.RoleService;
+import com.beeja.api.accounts.service.UserCounterService;
+import com.beeja.api.accounts.service.UserSnapshotService;
 import com.beeja.api.accounts.utils.BuildErrorMessage;
 import com.beeja.api.accounts.utils.Constants;
 import com.beeja.api.accounts.utils.UserContext;
 import java.util.List;
 import java.util.Objects;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 /** This class represents the business logic for managing roles within an organization. */
@@ -32,6 +41,16 @@ public class RoleServiceImpl implements RoleService {
 
   @Autowired UserRepository userRepository;
 
+  @Autowired MongoTemplate mongoTemplate;
+
+  @Autowired PrincipalInvalidationService principalInvalidationService;
+
+  @Autowired UserSnapshotService userSnapshotService;
+
+  @Autowired UserCounterService userCounterService;
+
+  @Autowired AccountChangeNotifier accountChangeNotifier;
+
   @Override
   public Role addRoleToOrganization(AddRoleRequest newRole) throws Exception {
     Organization organization = UserContext.getLoggedInUserOrganization();
@@ -128,7 +147,14 @@ public class RoleServiceImpl implements RoleService {
       roleToBeUpdated.setPermissions(updatedRole.getPermissions());
     }
     try {
-      return rolesRepository.save(roleToBeUpdated);
+      Role savedRole = rolesRepository.save(roleToBeUpdated);
+      // Holders must see the new role before their cached principals are invalidated.
+      userSnapshotService.resyncRole(savedRole);
+      if (updatedRole.getPermissions() != null) {
+        incrementPermissionVersionOfRoleHolders(savedRole.getId());
+      }
+      accountChangeNotifier.roleChanged(savedRole.getOrganizationId(), savedRole.getId());
+      return savedRole;
     } catch (Exception e) {
       throw new Exception(
           BuildErrorMessage.buildErrorMessage(
@@ -151,16 +177,27 @@ public class RoleServiceImpl implements RoleService {
                 ErrorCode.CANNOT_SAVE_CHANGES,
                 Constants.CANT_DELETE_DEFAULT_ROLE));
       }
-      List<User> allUsersWithRole = userRepository.findByRoles(roleToBeDeleted);
+      String organizationId = UserContext.getLoggedInUserOrganization().getId();
+      long roleHolderCount =
+          userCounterService
+              .getCounters(organizationId)
+              .getRoleHolders()
+              .getOrDefault(roleToBeDeleted.getId(), 0L);
+      if (roleHolderCount == 0
+          && mongoTemplate.exists(new Query(roleHoldersOf(roleToBeDeleted.getId())), User.class)) {
+        // The counters missed an update; count properly rather than delete a role in use.
+        roleHolderCount = userRepository.countByRoles_Id(roleToBeDeleted.getId());
+      }
 
-      if (!allUsersWithRole.isEmpty()) {
+      if (roleHolderCount > 0) {
         throw new ConflictException(
             BuildErrorMessage.buildErrorMessage(
                 ErrorType.CONFLICT_ERROR,
                 ErrorCode.RESOURCE_IN_USE,
-                Constants.ERROR_IN_DELETING_ROLE_AS_IT_IN_USE + allUsersWithRole.size()));
+                Constants.ERROR_IN_DELETING_ROLE_AS_IT_IN_USE + roleHolderCount));
       }
       rolesRepository.delete(roleToBeDeleted);
+      userCounterService.roleRemoved(organizationId, roleToBeDeleted.getId());
       return roleToBeDeleted;
     } else {
       throw new ResourceNotFoundException(
@@ -183,4 +220,25 @@ public class RoleServiceImpl implements RoleService {
               Constants.ERROR_IN_FETCHING_ROLES));
     }
   }
+
+  void incrementPermissionVersionOfRoleHolders(String roleId) {
+    Query roleHolders = new Query(roleHoldersOf(roleId));
+    mongoTemplate.updateMulti(roleHolders, new Update().inc("permissionVersion", 1), User.class);
+    roleHolders.fields().include("email");
+    principalInvalidationService.invalidate(
+        mongoTemplate.find(roleHolders, User.class).stream().map(User::getEmail).toList());
+  }
+
+  /**
+   * Matches users holding the role, whether they embed a copy of it or, until they are migrated,
+   * still reference it with a DBRef. Both store the role id as an {@link ObjectId}.
+   */
+  private static Criteria roleHoldersOf(String roleId) {
+    if (!ObjectId.isValid(roleId)) {
+      return Criteria.where("roles._id").is(roleId);
+    }
+    ObjectId id = new ObjectId(roleId);
+    return new Criteria()
+        .orOperator(Criteria.where("roles._id").is(id), Criteria.where("roles.$id").is(id));
+  }
 }
@@ -0,0 +1,181 @@
+package com.beeja.api.accounts.serviceImpl;
+
+import com.beeja.api.accounts.model.Organization.Organization;
+import com.beeja.api.accounts.model.Organization.Role;
+import com.beeja.api.accounts.model.OrganizationUserCounters;
+import com.beeja.api.accounts.model.User;
+import com.beeja.api.accounts.service.UserCounterService;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * Counter updates are applied after the user change they describe has been saved. A failed update
+ * is logged rather than failing the request, since the next reconciliation corrects it.
+ */
+@Slf4j
+@Service
+public class UserCounterServiceImpl implements UserCounterService {
+
+  private static final String ROLE_HOLDERS = "roleHolders.";
+
+  @Autowired MongoTemplate mongoTemplate;
+
+  @Override
+  public void usersCreated(Collection<User> users) {
+    applyToUsers(users, 1);
+  }
+
+  @Override
+  public void usersRemoved(Collection<User> users) {
+    applyToUsers(users, -1);
+  }
+
+  @Override
+  public void statusChanged(String organizationId, boolean active) {
+    int delta = active ? 1 : -1;
+    apply(organizationId, new Update().inc("active", delta).inc("inactive", -delta));
+  }
+
+  @Override
+  public void rolesChanged(String organizationId, Set<Role> previousRoles, Set<Role> currentRoles) {
+    Map<String, Integer> deltas = new HashMap<>();
+    for (Role role : previousRoles) {
+      deltas.merge(role.getId(), -1, Integer::sum);
+    }
+    for (Role role : currentRoles) {
+      deltas.merge(role.getId(), 1, Integer::sum);
+    }
+    Update update = new Update();
+    deltas.forEach(
+        (roleId, delta) -> {
+          if (delta != 0) {
+            update.inc(ROLE_HOLDERS + roleId, delta);
+          }
+        });
+    if (!update.getUpdateObject().isEmpty()) {
+      apply(organizationId, update);
+    }
+  }
+
+  @Override
+  public void roleRemoved(String organizationId, String roleId) {
+    apply(organizationId, new Update().unset(ROLE_HOLDERS + roleId));
+  }
+
+  @Override
+  public OrganizationUserCounters getCounters(String organizationId) {
+    OrganizationUserCounters counters =
+        mongoTemplate.findById(organizationId, OrganizationUserCounters.class);
+    return counters != null ? counters : reconcile(organizationId);
+  }
+
+  @Override
+  public OrganizationUserCounters reconcile(String organizationId) {
+    Criteria ofOrganization = Criteria.where("organizations._id").is(organizationId);
+    long total = mongoTemplate.count(new Query(ofOrganization), User.class);
+    long active =
+        mongoTemplate.count(
+            new Query(
+                Criteria.where("organizations._id").is(organizationId).and("isActive").is(true)),
+            User.class);
+
+    TypedAggregation<User> roleHolderCounts =
+        Aggregation.newAggregation(
+            User.class,
+            Aggregation.match(ofOrganization),
+            Aggregation.unwind("roles"),
+            Aggregation.group("roles._id").count().as("count"));
+    Map<String, Long> roleHolders = new HashMap<>();
+    for (Document roleCount :
+        mongoTemplate.aggregate(roleHolderCounts, Document.class).getMappedResults()) {
+      roleHolders.put(
+          String.valueOf(roleCount.get("_id")), ((Number) roleCount.get("count")).longValue());
+    }
+
+    OrganizationUserCounters counters =
+        new OrganizationUserCounters(
+            organizationId, total, active, total - active, roleHolders, Instant.now());
+    return mongoTemplate.save(counters);
+  }
+
+  @Override
+  public void reconcileAll() {
+    Query organizationIds = new Query();
+    organizationIds.fields().include("_id");
+    for (Organization organization : mongoTemplate.find(organizationIds, Organization.class)) {
+      try {
+        reconcile(organization.getId());
+      } catch (Exception e) {
+        log.error("Error recounting users of organization {}", organization.getId(), e);
+      }
+    }
+  }
+
+  private void applyToUsers(Collection<User> users, int sign) {
+    Map<String, Map<String, Long>> deltasByOrganization = new LinkedHashMap<>();
+    for (User user : users) {
+      if (user.getOrganizations() == null) {
+        continue;
+      }
+      Map<String, Long> deltas =
+          deltasByOrganization.computeIfAbsent(
+              user.getOrganizations().getId(), id -> new LinkedHashMap<>());
+      deltas.merge("total", (long) sign, Long::sum);
+      deltas.merge(user.isActive() ? "active" : "inactive", (long) sign, Long::sum);
+      if (user.getRoles() != null) {
+        for (Role role : user.getRoles()) {
+          deltas.merge(ROLE_HOLDERS + role.getId(), (long) sign, Long::sum);
+        }
+      }
+    }
+    if (deltasByOrganization.isEmpty()) {
+      return;
+    }
+    try {
+      BulkOperations bulkOperations =
+          mongoTemplate.bulkOps(
+              BulkOperations.BulkMode.UNORDERED, OrganizationUserCounters.class);
+      deltasByOrganization.forEach(
+          (organizationId, deltas) -> {
+            Update update = new Update();
+            deltas.forEach(update::inc);
+            bulkOperations.updateOne(byOrganization(organizationId), update);
+          });
+      bulkOperations.execute();
+    } catch (Exception e) {
+      log.warn("Could not update user counters: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Updates existing counters only. Counters that do not exist yet are created by a full count on
+   * first read, which already includes this change.
+   */
+  private void apply(String organizationId, Update update) {
+    try {
+      mongoTemplate.updateFirst(
+          byOrganization(organizationId), update, OrganizationUserCounters.class);
+    } catch (Exception e) {
+      log.warn("Could not update user counters of {}: {}", organizationId, e.getMessage());
+    }
+  }
+
+  private static Query byOrganization(String organizationId) {
+    return new Query(Criteria.where("_id").is(organizationId));
+  }
+}
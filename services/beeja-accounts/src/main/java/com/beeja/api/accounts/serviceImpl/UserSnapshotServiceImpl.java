@@ -0,0 +1,97 @@
+package com.beeja.api.accounts.serviceImpl;
+
+import com.beeja.api.accounts.model.Organization.Organization;
+import com.beeja.api.accounts.model.Organization.Role;
+import com.beeja.api.accounts.model.User;
+import com.beeja.api.accounts.service.UserSnapshotService;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class UserSnapshotServiceImpl implements UserSnapshotService {
+
+  private static final int MIGRATION_BATCH_SIZE = 200;
+
+  /** Users written before roles and organizations were embedded still hold DBRefs to them. */
+  private static final Bson LEGACY_REFERENCES =
+      Filters.or(Filters.exists("organizations.$ref"), Filters.exists("roles.$ref"));
+
+  @Autowired MongoTemplate mongoTemplate;
+
+  @Override
+  public void resyncRole(Role role) {
+    mongoTemplate.updateMulti(
+        new Query(Criteria.where("roles._id").is(role.getId())),
+        new Update().set("roles.$", role),
+        User.class);
+  }
+
+  @Override
+  public void resyncOrganization(Organization organization) {
+    mongoTemplate.updateMulti(
+        new Query(Criteria.where("organizations._id").is(organization.getId())),
+        new Update().set("organizations", organization),
+        User.class);
+  }
+
+  @Override
+  public void migrateAndResyncAll() {
+    long migratedUsers = embedLegacyReferences();
+    // Snapshots can drift if a resync failed or a role was changed directly in the database.
+    mongoTemplate.findAll(Organization.class).forEach(this::resyncOrganization);
+    mongoTemplate.findAll(Role.class).forEach(this::resyncRole);
+    log.info("Embedded roles and organization into {} users", migratedUsers);
+  }
+
+  private long embedLegacyReferences() {
+    MongoCollection<Document> users =
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(User.class));
+    long migratedUsers = 0;
+    while (true) {
+      List<Object> ids =
+          users
+              .find(LEGACY_REFERENCES)
+              .projection(Projections.include("_id"))
+              .limit(MIGRATION_BATCH_SIZE)
+              .map(user -> user.get("_id"))
+              .into(new ArrayList<>());
+      if (ids.isEmpty()) {
+        return migratedUsers;
+      }
+      // Reading a legacy user still resolves its references; writing them back embeds them.
+      BulkOperations bulkOperations =
+          mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class);
+      for (User user : mongoTemplate.find(new Query(Criteria.where("_id").in(ids)), User.class)) {
+        if (user.getRoles() != null) {
+          user.getRoles().removeIf(Objects::isNull);
+        }
+        bulkOperations.updateOne(
+            new Query(Criteria.where("_id").is(user.getId())),
+            new Update()
+                .set("roles", user.getRoles())
+                .set("organizations", user.getOrganizations()));
+      }
+      int modifiedUsers = bulkOperations.execute().getModifiedCount();
+      if (modifiedUsers == 0) {
+        log.warn("Could not embed roles and organization for users {}", ids);
+        return migratedUsers;
+      }
+      migratedUsers += modifiedUsers;
+    }
+  }
+}
@@ -46,6 +46,8 @@ public class Constants {
   public static final String USER_UPDATE_ERROR = "Error Encountered in Updating User, ";
   public static final String USER_CREATE_ERROR = "Error Encountered in Creating User, ";
   public static final String EMPLOYEE_FEIGN_CLIENT_ERROR = "Error in Employee EmployeeFeignClient";
+  public static final String EMPLOYEE_RECORD_UNCONFIRMED =
+      "Account created, but the employee service did not confirm the employee record";
   public static final String ERROR_IN_FETCHING_EMPLOYEE_COUNT = "Error in Fetching Employee Count";
   public static final String ERROR_IN_UPDATING_ORG_LOGO = "Error in Updating Organization Logo";
 
@@ -209,4 +211,15 @@ public class Constants {
       "New Permissions entry created and saved for '{}'.";
   public static final String SUCCESSFULLY_UPDATED_PERMISSIONS_ENTRY =
       "Successfully Updated PErmissions Entry";
+
+  public static final String BULK_ONBOARDING_EMPTY = "No employees to onboard.";
+  public static final String BULK_ONBOARDING_LIMIT_EXCEEDED =
+      "Too many employees in one request, the limit is ";
+  public static final String BULK_ONBOARDING_INVALID_CSV = "Could not read the employees CSV: ";
+  public static final String MISSING_REQUIRED_FIELD = "Missing required field: ";
+  public static final String INVALID_EMAIL = "Invalid email: ";
+  public static final String DUPLICATE_IN_BATCH = "Duplicate in this batch: ";
+  public static final String EMPLOYEE_ID_ALREADY_FOUND = "Employee ID Already Found ";
+  public static final String EMPLOYEE_NAMES_LIMIT_EXCEEDED =
+      "Too many employee IDs in one request, the limit is ";
 }
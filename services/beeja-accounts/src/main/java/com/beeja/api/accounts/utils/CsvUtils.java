@@ -0,0 +1,64 @@
+package com.beeja.api.accounts.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Minimal RFC 4180 reader: quoted fields may hold commas, doubled quotes and line breaks. */
+public class CsvUtils {
+
+  private CsvUtils() {}
+
+  /**
+   * @return one list of fields per record, including the header record
+   * @throws IOException if the reader fails or a quoted field is never closed
+   */
+  public static List<List<String>> read(Reader source) throws IOException {
+    Reader reader = source.markSupported() ? source : new BufferedReader(source);
+    List<List<String>> records = new ArrayList<>();
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    boolean recordStarted = false;
+    int c;
+    while ((c = reader.read()) != -1) {
+      recordStarted = true;
+      if (quoted) {
+        if (c != '"') {
+          field.append((char) c);
+        } else {
+          reader.mark(1);
+          if (reader.read() == '"') {
+            field.append('"');
+          } else {
+            reader.reset();
+            quoted = false;
+          }
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else if (c == '\n') {
+        fields.add(field.toString());
+        field.setLength(0);
+        records.add(fields);
+        fields = new ArrayList<>();
+        recordStarted = false;
+      } else if (c != '\r') {
+        field.append((char) c);
+      }
+    }
+    if (quoted) {
+      throw new IOException("Unterminated quoted field in record " + (records.size() + 1));
+    }
+    if (recordStarted) {
+      fields.add(field.toString());
+      records.add(fields);
+    }
+    return records;
+  }
+}
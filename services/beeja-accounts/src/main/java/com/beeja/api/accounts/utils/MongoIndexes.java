@@ -2,4 +2,23 @@ package com.beeja.api.accounts.utils;
 
 public class MongoIndexes {
   public static final String UNIQUE_DEFAULT_TYPE_IS_REQUIRED = "unique_default_type_is_required";
+
+  /** Same names as the {@code @Indexed} fields of {@code User}, so both describe one index. */
+  public static final String USERS_EMAIL = "email";
+
+  public static final String USERS_EMPLOYEE_ID = "employeeId";
+  public static final String USERS_ORGANIZATION_ACTIVE = "users_organization_active";
+  public static final String USERS_ROLE = "users_role";
+  public static final String ROLES_ORGANIZATION_NAME = "roles_organization_name";
+  public static final String ROLES_NAME = "roles_name";
+  public static final String ORG_DEFAULTS_ORGANIZATION = "org_defaults_organization";
+  public static final String PATTERNS_ORGANIZATION_TYPE_ACTIVE =
+      "patterns_organization_type_active";
+  public static final String ORGANIZATIONS_EMAIL_DOMAIN = "organizations_email_domain";
+  public static final String PERMISSIONS_NAME = "permissions_name";
+
+  /** Same names as the {@code @Indexed} fields of their documents. */
+  public static final String FEATURE_TOGGLES_ORGANIZATION = "organizationId";
+
+  public static final String PRINCIPAL_INVALIDATIONS_VERSION = "version";
 }
@@ -0,0 +1,92 @@
+package com.beeja.api.accounts.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.beeja.api.accounts.config.properties.OrganizationCacheProperties;
+import com.beeja.api.accounts.model.Organization.OrgDefaults;
+import com.beeja.api.accounts.model.featureFlags.FeatureToggle;
+import com.beeja.api.accounts.repository.FeatureToggleRepository;
+import com.beeja.api.accounts.repository.OrgDefaultsRepository;
+import com.beeja.api.accounts.repository.OrganizationPatternsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OrganizationReferenceCacheTest {
+
+  private final OrgDefaultsRepository orgDefaultsRepository = mock(OrgDefaultsRepository.class);
+  private final FeatureToggleRepository featureToggleRepository =
+      mock(FeatureToggleRepository.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private OrganizationReferenceCache organizationReferenceCache;
+
+  @BeforeEach
+  void setUp() {
+    organizationReferenceCache =
+        new OrganizationReferenceCache(
+            orgDefaultsRepository,
+            mock(OrganizationPatternsRepository.class),
+            featureToggleRepository,
+            new OrganizationCacheProperties(),
+            meterRegistry);
+  }
+
+  @Test
+  void testOrgDefaultsAreLoadedOncePerOrganization() {
+    when(orgDefaultsRepository.findByOrganizationId("org1"))
+        .thenReturn(
+            List.of(orgDefaults("org1", "employeeTypes"), orgDefaults("org1", "jobTitles")));
+
+    organizationReferenceCache.getOrgDefaults("org1", "employeeTypes");
+    List<OrgDefaults> byKeys =
+        organizationReferenceCache.getOrgDefaults("org1", List.of("jobTitles", "missing"));
+
+    assertEquals(1, byKeys.size());
+    verify(orgDefaultsRepository, times(1)).findByOrganizationId("org1");
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get("cache.gets")
+            .tags("cache", "orgDefaults", "result", "hit")
+            .functionCounter()
+            .count());
+  }
+
+  @Test
+  void testSavedOrgDefaultsAreWrittenThrough() {
+    when(orgDefaultsRepository.findByOrganizationId("org1"))
+        .thenReturn(List.of(orgDefaults("org1", "employeeTypes")));
+    organizationReferenceCache.getOrgDefaults("org1", "employeeTypes");
+
+    OrgDefaults saved = orgDefaults("org1", "employeeTypes");
+    organizationReferenceCache.putOrgDefaults(saved);
+
+    assertSame(saved, organizationReferenceCache.getOrgDefaults("org1", "employeeTypes"));
+    verify(orgDefaultsRepository, times(1)).findByOrganizationId("org1");
+  }
+
+  @Test
+  void testMissingFeatureToggleIsNotCached() {
+    assertNull(organizationReferenceCache.getFeatureToggle("org1"));
+
+    FeatureToggle featureToggle = new FeatureToggle();
+    featureToggle.setOrganizationId("org1");
+    when(featureToggleRepository.findByOrganizationId("org1")).thenReturn(featureToggle);
+
+    assertSame(featureToggle, organizationReferenceCache.getFeatureToggle("org1"));
+  }
+
+  private static OrgDefaults orgDefaults(String organizationId, String key) {
+    OrgDefaults orgDefaults = new OrgDefaults();
+    orgDefaults.setOrganizationId(organizationId);
+    orgDefaults.setKey(key);
+    return orgDefaults;
+  }
+}
@@ -0,0 +1,170 @@
+package com.beeja.api.accounts.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.beeja.api.accounts.config.properties.MongoIndexProperties;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+/** Runs the index manifest against an embedded Mongo and explains every accounts query. */
+class MongoIndexConfigTest {
+
+  private static final ObjectId ORGANIZATION = new ObjectId();
+
+  private static TransitionWalker.ReachedState<RunningMongodProcess> mongod;
+  private static MongoClient mongoClient;
+  private static MongoTemplate mongoTemplate;
+
+  @BeforeAll
+  static void startMongo() {
+    mongod = Mongod.instance().start(Version.Main.V6_0);
+    mongoClient = MongoClients.create("mongodb://" + mongod.current().getServerAddress());
+    mongoTemplate = new MongoTemplate(mongoClient, "accounts-index-test");
+    new MongoIndexConfig(mongoTemplate, properties(MongoIndexProperties.MismatchAction.FAIL))
+        .ensureIndexes();
+  }
+
+  @AfterAll
+  static void stopMongo() {
+    mongoClient.close();
+    mongod.close();
+  }
+
+  /** The filters of the repository methods and template queries, by collection. */
+  static Stream<Arguments> queries() {
+    String organizationId = ORGANIZATION.toHexString();
+    return Stream.of(
+        Arguments.of("users", new Document("email", "a@b.c")),
+        Arguments.of(
+            "users", new Document("email", "a@b.c").append("organizations._id", ORGANIZATION)),
+        Arguments.of(
+            "users", new Document("employeeId", "E1").append("organizations._id", ORGANIZATION)),
+        Arguments.of(
+            "users",
+            new Document("employeeId", new Document("$in", List.of("E1", "E2")))
+                .append("organizations._id", ORGANIZATION)),
+        Arguments.of("users", new Document("employeeId", new Document("$in", List.of("E1")))),
+        Arguments.of(
+            "users", new Document("organizations._id", ORGANIZATION).append("isActive", true)),
+        Arguments.of("users", new Document("organizations._id", ORGANIZATION)),
+        Arguments.of("users", new Document("roles._id", new ObjectId())),
+        Arguments.of(
+            "users",
+            new Document(
+                "$or",
+                List.of(
+                    new Document("email", new Document("$in", List.of("a@b.c"))),
+                    new Document("employeeId", new Document("$in", List.of("E1")))))),
+        Arguments.of(
+            "roles", new Document("name", "HR").append("organizationId", organizationId)),
+        Arguments.of(
+            "roles",
+            new Document("name", new Document("$in", List.of("HR")))
+                .append("organizationId", organizationId)),
+        Arguments.of(
+            "roles", new Document("_id", new ObjectId()).append("organizationId", organizationId)),
+        Arguments.of("roles", new Document("organizationId", organizationId)),
+        Arguments.of("roles", new Document("name", "Super Admin")),
+        Arguments.of(
+            "roles",
+            new Document("organizationId", organizationId).append("isDefaultRole", true)),
+        Arguments.of(
+            "organization-values",
+            new Document("organizationId", organizationId).append("key", "employeeTypes")),
+        Arguments.of("organization-values", new Document("organizationId", organizationId)),
+        Arguments.of(
+            "organization-values",
+            new Document("organizationId", organizationId)
+                .append("key", new Document("$in", List.of("employeeTypes")))),
+        Arguments.of(
+            "organization-patterns",
+            new Document("organizationId", organizationId).append("patternType", "EMPLOYEE")),
+        Arguments.of(
+            "organization-patterns",
+            new Document("organizationId", organizationId)
+                .append("patternType", "EMPLOYEE")
+                .append("patternLength", 6)
+                .append("prefix", "EMP")),
+        Arguments.of(
+            "organization-patterns",
+            new Document("organizationId", organizationId)
+                .append("patternType", "EMPLOYEE")
+                .append("active", true)),
+        Arguments.of(
+            "organization-patterns",
+            new Document("organizationId", organizationId).append("active", true)),
+        Arguments.of("organizations", new Document("emailDomain", "b.c")),
+        Arguments.of("organizations", new Document("_id", ORGANIZATION)),
+        Arguments.of("permissions", new Document("name", "TRIAL")),
+        Arguments.of("featureToggle", new Document("organizationId", organizationId)),
+        Arguments.of(
+            "principal_invalidations", new Document("version", new Document("$gt", 10L))));
+  }
+
+  @ParameterizedTest
+  @MethodSource("queries")
+  void testQueryUsesIndex(String collection, Document filter) {
+    Document explain = mongoTemplate.getCollection(collection).find(filter).explain();
+    List<String> stages = new ArrayList<>();
+    collectStages(((Document) explain.get("queryPlanner")).get("winningPlan"), stages);
+
+    assertFalse(stages.contains("COLLSCAN"), collection + " " + filter.toJson() + ": " + stages);
+    assertTrue(
+        stages.contains("IXSCAN") || stages.contains("IDHACK"),
+        collection + " " + filter.toJson() + ": " + stages);
+  }
+
+  @Test
+  void testMismatchedIndexRefusesStart() {
+    // The manifest wants this index unique.
+    mongoTemplate.getCollection("users").dropIndex("email");
+    mongoTemplate
+        .indexOps("users")
+        .ensureIndex(new Index().on("email", Sort.Direction.ASC).named("email"));
+    MongoIndexConfig config =
+        new MongoIndexConfig(mongoTemplate, properties(MongoIndexProperties.MismatchAction.FAIL));
+
+    assertThrows(IllegalStateException.class, config::ensureIndexes);
+
+    mongoTemplate.getCollection("users").dropIndex("email");
+    config.ensureIndexes();
+  }
+
+  private static void collectStages(Object plan, List<String> stages) {
+    if (plan instanceof Document document) {
+      Object stage = document.get("stage");
+      if (stage instanceof String name) {
+        stages.add(name);
+      }
+      document.values().forEach(value -> collectStages(value, stages));
+    } else if (plan instanceof List<?> list) {
+      list.forEach(value -> collectStages(value, stages));
+    }
+  }
+
+  private static MongoIndexProperties properties(MongoIndexProperties.MismatchAction action) {
+    MongoIndexProperties properties = new MongoIndexProperties();
+    properties.setOnMismatch(action);
+    return properties;
+  }
+}
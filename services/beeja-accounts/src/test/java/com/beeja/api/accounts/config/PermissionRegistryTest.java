@@ -0,0 +1,58 @@
+package com.beeja.api.accounts.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class PermissionRegistryTest {
+
+  private final PermissionRegistry permissionRegistry = new PermissionRegistry();
+
+  @Test
+  void testBitOfIsStable() {
+    int first = permissionRegistry.bitOf("CEMP");
+    permissionRegistry.bitOf("REMP");
+
+    assertEquals(first, permissionRegistry.bitOf("CEMP"));
+  }
+
+  @Test
+  void testIntersects() {
+    long[] granted = permissionRegistry.compile(Set.of("CEMP", "REMP"));
+
+    assertTrue(PermissionRegistry.intersects(granted, permissionRegistry.compile(Set.of("REMP"))));
+    assertFalse(PermissionRegistry.intersects(granted, permissionRegistry.compile(Set.of("DORG"))));
+    assertFalse(PermissionRegistry.intersects(granted, permissionRegistry.compile(Set.of())));
+  }
+
+  @Test
+  void testContainsAll() {
+    long[] granted = permissionRegistry.compile(Set.of("CEMP", "REMP"));
+    long[] held = permissionRegistry.compile(Set.of("CEMP", "REMP"));
+    long[] partlyHeld = permissionRegistry.compile(Set.of("CEMP", "DORG"));
+
+    assertTrue(PermissionRegistry.containsAll(granted, held));
+    assertFalse(PermissionRegistry.containsAll(granted, partlyHeld));
+  }
+
+  @Test
+  void testMasksSpanSeveralWords() {
+    List<String> permissions = new ArrayList<>();
+    for (int i = 0; i < 130; i++) {
+      permissions.add("P" + i);
+    }
+    permissionRegistry.compile(permissions);
+    long[] granted = permissionRegistry.compile(permissions.subList(0, 10));
+    long[] required = permissionRegistry.compile(List.of("P129"));
+
+    assertEquals(3, required.length);
+    assertFalse(PermissionRegistry.intersects(granted, required));
+    assertFalse(PermissionRegistry.containsAll(granted, required));
+    assertTrue(PermissionRegistry.containsAll(required, permissionRegistry.compile(List.of())));
+  }
+}
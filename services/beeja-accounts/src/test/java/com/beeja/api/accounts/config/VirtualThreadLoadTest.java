@@ -0,0 +1,114 @@
+package com.beeja.api.accounts.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+
+/**
+ * Compares how many requests per second Tomcat serves on its default platform-thread pool and on
+ * virtual threads, when every request blocks on a slow downstream call the way the services block
+ * on Feign and Mongo. Run with {@code -DloadTests=true} on Java 21 or later; both figures are
+ * logged.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@EnabledIfSystemProperty(named = "loadTests", matches = "true")
+class VirtualThreadLoadTest {
+
+  private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+
+  private static final int CONCURRENT_CLIENTS = 1_000;
+  private static final int REQUESTS_PER_CLIENT = 5;
+  private static final long DOWNSTREAM_LATENCY_MILLIS = 100;
+
+  @Test
+  void testVirtualThreadsServeMoreBlockedRequests() throws Exception {
+    double platformThroughput = measureThroughput(false);
+    double virtualThroughput = measureThroughput(true);
+
+    log.info(
+        "platform threads: {} requests/s, virtual threads: {} requests/s",
+        Math.round(platformThroughput),
+        Math.round(virtualThroughput));
+    assertTrue(
+        virtualThroughput > platformThroughput,
+        () ->
+            "virtual threads served "
+                + Math.round(virtualThroughput)
+                + " requests/s, platform threads "
+                + Math.round(platformThroughput));
+  }
+
+  private double measureThroughput(boolean virtualThreads) throws Exception {
+    TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+    if (virtualThreads) {
+      factory.addProtocolHandlerCustomizers(
+          protocolHandler -> protocolHandler.setExecutor(new VirtualThreadExecutor("load-")));
+    }
+    WebServer server =
+        factory.getWebServer(
+            servletContext ->
+                servletContext.addServlet("blocking", new BlockingServlet()).addMapping("/"));
+    server.start();
+    ExecutorService clients = Executors.newFixedThreadPool(CONCURRENT_CLIENTS);
+    try {
+      HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+      HttpRequest request =
+          HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + "/")).build();
+
+      long start = System.nanoTime();
+      List<Future<?>> results = new ArrayList<>();
+      for (int i = 0; i < CONCURRENT_CLIENTS; i++) {
+        results.add(
+            clients.submit(
+                () -> {
+                  for (int j = 0; j < REQUESTS_PER_CLIENT; j++) {
+                    httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                  }
+                  return null;
+                }));
+      }
+      for (Future<?> result : results) {
+        result.get();
+      }
+      double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+      return CONCURRENT_CLIENTS * REQUESTS_PER_CLIENT / seconds;
+    } finally {
+      clients.shutdownNow();
+      server.stop();
+    }
+  }
+
+  private static class BlockingServlet extends HttpServlet {
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+      try {
+        Thread.sleep(DOWNSTREAM_LATENCY_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      response.getWriter().write("ok");
+    }
+  }
+}
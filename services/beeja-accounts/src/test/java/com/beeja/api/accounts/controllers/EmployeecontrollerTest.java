@@ -14,6 +14,7 @@ import com.beeja.api.accounts.constants.PermissionConstants;
 import com.beeja.api.accounts.exceptions.BadRequestException;
 import com.beeja.api.accounts.exceptions.UserNotFoundException;
 import com.beeja.api.accounts.model.Organization.Organization;
+import com.beeja.api.accounts.model.Organization.Role;
 import com.beeja.api.accounts.model.User;
 import com.beeja.api.accounts.model.UserPreferences;
 import com.beeja.api.accounts.repository.UserRepository;
@@ -30,6 +31,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -59,39 +61,16 @@ public class EmployeecontrollerTest {
   private String basePath = "/v1/users";
 
   User user1 =
-      new User(
+      user(
           "1",
           "dattu",
           "gundeti",
           "dattu@example.com",
           new HashSet<>(),
           "EMP001",
-          "INTERN",
-          new Organization(),
-          new UserPreferences(),
-          null,
-          true,
-          "admin",
-          "admin",
-          new Date(),
-          new Date());
+          new Organization());
   User user2 =
-      new User(
-          "2",
-          "ravi",
-          "ravi",
-          "kiran@example.com",
-          new HashSet<>(),
-          "EMP002",
-          "INTERN",
-          new Organization(),
-          new UserPreferences(),
-          null,
-          true,
-          "admin",
-          "admin",
-          new Date(),
-          new Date());
+      user("2", "ravi", "ravi", "kiran@example.com", new HashSet<>(), "EMP002", new Organization());
 
   @BeforeEach
   public void setUp() {
@@ -482,4 +461,31 @@ public class EmployeecontrollerTest {
           employeeController.updateUserRoles(employeeId, newRoles);
         });
   }
+
+  /** Builds a user through setters, so adding a field to User leaves the tests compiling. */
+  private static User user(
+      String id,
+      String firstName,
+      String lastName,
+      String email,
+      Set<Role> roles,
+      String employeeId,
+      Organization organization) {
+    User user = new User();
+    user.setId(id);
+    user.setFirstName(firstName);
+    user.setLastName(lastName);
+    user.setEmail(email);
+    user.setRoles(roles);
+    user.setEmployeeId(employeeId);
+    user.setEmploymentType("INTERN");
+    user.setOrganizations(organization);
+    user.setUserPreferences(new UserPreferences());
+    user.setActive(true);
+    user.setCreatedBy("admin");
+    user.setModifiedBy("admin");
+    user.setCreatedAt(new Date());
+    user.setModifiedAt(new Date());
+    return user;
+  }
 }
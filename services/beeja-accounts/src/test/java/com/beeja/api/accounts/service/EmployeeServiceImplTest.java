@@ -8,10 +8,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.beeja.api.accounts.cache.EmployeeNameDirectory;
 import com.beeja.api.accounts.clients.EmployeeFeignClient;
 import com.beeja.api.accounts.constants.PermissionConstants;
 import com.beeja.api.accounts.constants.RoleConstants;
@@ -69,6 +71,14 @@ public class EmployeeServiceImplTest {
 
   @Mock private UserContext userContext;
 
+  @Mock private PrincipalInvalidationService principalInvalidationService;
+
+  @Mock private UserCounterService userCounterService;
+
+  @Mock private EmployeeNameDirectory employeeNameDirectory;
+
+  @Mock private AccountChangeNotifier accountChangeNotifier;
+
   @BeforeEach
   public void init() {
     MockitoAnnotations.openMocks(this);
@@ -110,39 +120,9 @@ public class EmployeeServiceImplTest {
       new Role("2", "ROLE_MANAGER", null, Set.of("CREATE_EMPLOYEE", "UPDATE_EMPLOYEE"), "tac");
 
   User user1 =
-      new User(
-          "1",
-          "dattu",
-          "gundeti",
-          "dattu@example.com",
-          Set.of(role1),
-          "EMP001",
-          "INTERN",
-          organization1,
-          new UserPreferences(),
-          null,
-          true,
-          "admin",
-          "admin",
-          new Date(),
-          new Date());
+      user("1", "dattu", "gundeti", "dattu@example.com", Set.of(role1), "EMP001", organization1);
   User user2 =
-      new User(
-          "2",
-          "ravi",
-          "ravi",
-          "kiran@example.com",
-          Set.of(role2),
-          "EMP002",
-          "INTERN",
-          organization2,
-          new UserPreferences(),
-          null,
-          true,
-          "admin",
-          "admin",
-          new Date(),
-          new Date());
+      user("2", "ravi", "ravi", "kiran@example.com", Set.of(role2), "EMP002", organization2);
 
   @Test
   public void toGetAllUser() throws Exception {
@@ -171,7 +151,8 @@ public class EmployeeServiceImplTest {
   public void toGetAllByEmail() throws Exception {
 
     // Arrange
-    when(userRepository.findByEmailAndOrganizations("dattu@example.com", organization1))
+    when(userRepository.findByEmailAndOrganizations_Id(
+            "dattu@example.com", organization1.getId()))
         .thenReturn(user1);
     UserContext.setLoggedInUserOrganization(organization1);
 
@@ -191,7 +172,8 @@ public class EmployeeServiceImplTest {
     Organization loggedInUserOrganization = organization1;
     UserContext.setLoggedInUserOrganization(loggedInUserOrganization);
 
-    when(userRepository.findByEmailAndOrganizations(email, organization1)).thenReturn(null);
+    when(userRepository.findByEmailAndOrganizations_Id(email, organization1.getId()))
+        .thenReturn(null);
 
     // Act
     ResourceNotFoundException exception =
@@ -207,7 +189,7 @@ public class EmployeeServiceImplTest {
   void testGetEmployeeByEmployeeId_UserNotFound() {
     // Arrange
     String employeeId = "EMP001";
-    when(userRepository.findByEmployeeIdAndOrganizations(employeeId, organization1))
+    when(userRepository.findByEmployeeIdAndOrganizations_Id(employeeId, organization1.getId()))
         .thenReturn(null);
 
     // Act & Assert
@@ -220,7 +202,7 @@ public class EmployeeServiceImplTest {
   void testGetEmployeeByEmployeeId_UserBelongsToDifferentOrganization() {
     // Arrange
     String employeeId = "EMP1";
-    when(userRepository.findByEmployeeIdAndOrganizations(employeeId, organization1))
+    when(userRepository.findByEmployeeIdAndOrganizations_Id(employeeId, organization1.getId()))
         .thenReturn(null);
     UserContext.setLoggedInUserOrganization(organization1);
 
@@ -233,7 +215,7 @@ public class EmployeeServiceImplTest {
   @Test
   void testGetEmployeeByEmployeeId_Successful() throws Exception {
     // Arrange
-    when(userRepository.findByEmployeeIdAndOrganizations("EMP001", organization1))
+    when(userRepository.findByEmployeeIdAndOrganizations_Id("EMP001", organization1.getId()))
         .thenReturn(user1);
     UserContext.setLoggedInUserOrganization(organization1);
 
@@ -252,7 +234,7 @@ public class EmployeeServiceImplTest {
     String employeeId = "EMP001";
     UserContext.setLoggedInEmployeeId("EMP002");
     UserContext.setLoggedInUserOrganization(organization1);
-    when(userRepository.findByEmployeeIdAndOrganizations("EMP001", organization1))
+    when(userRepository.findByEmployeeIdAndOrganizations_Id("EMP001", organization1.getId()))
         .thenReturn(user1);
 
     // Act
@@ -260,6 +242,7 @@ public class EmployeeServiceImplTest {
 
     // Assert
     assertNotEquals(!user1.isActive(), user1.isActive());
+    verify(userCounterService).statusChanged(organization1.getId(), user1.isActive());
   }
 
   @Test
@@ -272,9 +255,9 @@ public class EmployeeServiceImplTest {
     UserContext.setLoggedInUser(
         "test@example.com", "Test User", organization1, "empId123", Set.of(), null, "token123");
 
-    when(userRepository.findByEmployeeIdAndOrganizations(any(), any())).thenReturn(user1);
-    when(roleRepository.findByNameAndOrganizationId("ROLE_HR", organization1.getId()))
-        .thenReturn(role);
+    when(userRepository.findByEmployeeIdAndOrganizations_Id(any(), any())).thenReturn(user1);
+    when(roleRepository.findByNameInAndOrganizationId(Set.of("ROLE_HR"), organization1.getId()))
+        .thenReturn(List.of(role));
 
     user1.setRoles(Set.of(role));
     // Mock user save
@@ -293,7 +276,8 @@ public class EmployeeServiceImplTest {
     String empId = "ABCD";
     UpdateUserRoleRequest updateRequest = new UpdateUserRoleRequest();
 
-    when(userRepository.findByEmployeeIdAndOrganizations(empId, organization1)).thenReturn(null);
+    when(userRepository.findByEmployeeIdAndOrganizations_Id(empId, organization1.getId()))
+        .thenReturn(null);
 
     // Act & Assert
     assertThrows(
@@ -302,6 +286,27 @@ public class EmployeeServiceImplTest {
         Constants.USER_NOT_FOUND + empId);
   }
 
+  @Test
+  void testUpdateEmployeeRoles_RoleNotFound() {
+    // Arrange
+    Role role = new Role("1", "ROLE_HR", null, Set.of("READ_EMPLOYEE"), null, false);
+    UserContext.setLoggedInUser(
+        "test@example.com", "Test User", organization1, "empId123", Set.of(), null, "token123");
+    UpdateUserRoleRequest updateRequest = new UpdateUserRoleRequest();
+    updateRequest.setRoles(Set.of("ROLE_HR", "ROLE_MISSING"));
+
+    when(userRepository.findByEmployeeIdAndOrganizations_Id(any(), any())).thenReturn(user1);
+    when(roleRepository.findByNameInAndOrganizationId(any(), any())).thenReturn(List.of(role));
+
+    // Act & Assert
+    ResourceNotFoundException exception =
+        assertThrows(
+            ResourceNotFoundException.class,
+            () -> employeeServiceImpl.updateEmployeeRolesDyEmployeeId("EMP001", updateRequest));
+    assertTrue(exception.getMessage().contains(Constants.ROLE_NOT_FOUND + "ROLE_MISSING"));
+    verify(userRepository, never()).save(any(User.class));
+  }
+
   @Test
   public void testCreateEmployee_Success() throws Exception {
     // Arrange
@@ -318,7 +323,7 @@ public class EmployeeServiceImplTest {
     UserContext.setLoggedInUser(
         "test@example.com", "Test User", mockOrganization, "empId123", Set.of(), null, "token123");
 
-    when(userRepository.findByEmailAndOrganizations(any(), any())).thenReturn(null);
+    when(userRepository.findByEmailAndOrganizations_Id(any(), any())).thenReturn(null);
 
     OrgDefaults orgDefaults = new OrgDefaults();
     orgDefaults.setKey("employeeTypes");
@@ -365,7 +370,7 @@ public class EmployeeServiceImplTest {
     // Arrange
     User user = new User();
     user.setEmail("abcd@gmail.com");
-    when(userRepository.findByEmailAndOrganizations(any(), any())).thenReturn(user);
+    when(userRepository.findByEmailAndOrganizations_Id(any(), any())).thenReturn(user);
     AddEmployeeRequest addEmployeeRequest = new AddEmployeeRequest();
     addEmployeeRequest.setFirstName("Test");
     addEmployeeRequest.setLastName("User");
@@ -387,7 +392,7 @@ public class EmployeeServiceImplTest {
     existingUser.setEmployeeId(employeeId);
     existingUser.setOrganizations(organization1);
 
-    when(userRepository.findByEmployeeIdAndOrganizations(employeeId, organization1))
+    when(userRepository.findByEmployeeIdAndOrganizations_Id(employeeId, organization1.getId()))
         .thenReturn(existingUser);
 
     when(userRepository.save(any(User.class)))
@@ -402,7 +407,8 @@ public class EmployeeServiceImplTest {
     User result = employeeServiceImpl.updateEmployeeByEmployeeId(employeeId, updatedUser);
 
     // Assert
-    verify(userRepository, times(1)).findByEmployeeIdAndOrganizations(employeeId, organization1);
+    verify(userRepository, times(1))
+        .findByEmployeeIdAndOrganizations_Id(employeeId, organization1.getId());
     verify(userRepository, times(1)).save(any(User.class));
     assertNotNull(result);
     assertEquals(employeeId, result.getEmployeeId());
@@ -414,11 +420,38 @@ public class EmployeeServiceImplTest {
     // Arrange
     User user = new User();
     UpdateUserRequest updatedUser = new UpdateUserRequest();
-    when(userRepository.findByEmployeeIdAndOrganizations(any(), any())).thenReturn(null);
+    when(userRepository.findByEmployeeIdAndOrganizations_Id(any(), any())).thenReturn(null);
 
     // Act & Assert
     assertThrows(
         ResourceNotFoundException.class,
         () -> employeeServiceImpl.updateEmployeeByEmployeeId("abcd", updatedUser));
   }
+
+  /** Builds a user through setters, so adding a field to User leaves the tests compiling. */
+  private static User user(
+      String id,
+      String firstName,
+      String lastName,
+      String email,
+      Set<Role> roles,
+      String employeeId,
+      Organization organization) {
+    User user = new User();
+    user.setId(id);
+    user.setFirstName(firstName);
+    user.setLastName(lastName);
+    user.setEmail(email);
+    user.setRoles(roles);
+    user.setEmployeeId(employeeId);
+    user.setEmploymentType("INTERN");
+    user.setOrganizations(organization);
+    user.setUserPreferences(new UserPreferences());
+    user.setActive(true);
+    user.setCreatedBy("admin");
+    user.setModifiedBy("admin");
+    user.setCreatedAt(new Date());
+    user.setModifiedAt(new Date());
+    return user;
+  }
 }
@@ -0,0 +1,103 @@
+package com.beeja.api.accounts.serviceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.beeja.api.accounts.model.User;
+import com.beeja.api.accounts.service.PrincipalInvalidationService;
+import com.mongodb.DBRef;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/** Bumps the permission version of role holders in an embedded Mongo. */
+class RoleServiceImplTest {
+
+  private static final ObjectId ROLE_ID = new ObjectId();
+
+  private static TransitionWalker.ReachedState<RunningMongodProcess> mongod;
+  private static MongoClient mongoClient;
+  private static MongoTemplate mongoTemplate;
+
+  private RoleServiceImpl roleService;
+  private PrincipalInvalidationService principalInvalidationService;
+
+  @BeforeAll
+  static void startMongo() {
+    mongod = Mongod.instance().start(Version.Main.V6_0);
+    mongoClient = MongoClients.create("mongodb://" + mongod.current().getServerAddress());
+    mongoTemplate = new MongoTemplate(mongoClient, "role-service-test");
+  }
+
+  @AfterAll
+  static void stopMongo() {
+    mongoClient.close();
+    mongod.close();
+  }
+
+  @BeforeEach
+  void setUp() {
+    mongoTemplate.dropCollection(User.class);
+    users()
+        .insertMany(
+            List.of(
+                user("embedded@beeja.io", new Document("_id", ROLE_ID).append("name", "HR")),
+                // Not yet migrated to an embedded copy of the role.
+                user("referenced@beeja.io", new DBRef("roles", ROLE_ID)),
+                user("other@beeja.io", new Document("_id", new ObjectId()).append("name", "HR"))));
+
+    principalInvalidationService = mock(PrincipalInvalidationService.class);
+    roleService = new RoleServiceImpl();
+    roleService.mongoTemplate = mongoTemplate;
+    roleService.principalInvalidationService = principalInvalidationService;
+  }
+
+  @Test
+  void testRoleHoldersHaveTheirVersionIncremented() {
+    roleService.incrementPermissionVersionOfRoleHolders(ROLE_ID.toHexString());
+
+    assertEquals(4L, permissionVersionOf("embedded@beeja.io"));
+    assertEquals(4L, permissionVersionOf("referenced@beeja.io"));
+    assertEquals(3L, permissionVersionOf("other@beeja.io"));
+  }
+
+  @Test
+  void testRoleHoldersAreInvalidated() {
+    roleService.incrementPermissionVersionOfRoleHolders(ROLE_ID.toHexString());
+
+    ArgumentCaptor<Collection<String>> emails = ArgumentCaptor.forClass(Collection.class);
+    verify(principalInvalidationService).invalidate(emails.capture());
+    assertEquals(
+        Set.of("embedded@beeja.io", "referenced@beeja.io"), Set.copyOf(emails.getValue()));
+  }
+
+  private static long permissionVersionOf(String email) {
+    return users().find(new Document("email", email)).first().get("permissionVersion", Long.class);
+  }
+
+  private static MongoCollection<Document> users() {
+    return mongoTemplate.getCollection(mongoTemplate.getCollectionName(User.class));
+  }
+
+  private static Document user(String email, Object role) {
+    return new Document("email", email)
+        .append("roles", List.of(role))
+        .append("permissionVersion", 3L);
+  }
+}
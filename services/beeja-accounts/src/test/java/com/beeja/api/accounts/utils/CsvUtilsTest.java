@@ -0,0 +1,32 @@
+package com.beeja.api.accounts.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvUtilsTest {
+
+  @Test
+  void testReadPlainRecords() throws IOException {
+    List<List<String>> records = CsvUtils.read(new StringReader("a,b\r\n1,2\n"));
+
+    assertEquals(List.of(List.of("a", "b"), List.of("1", "2")), records);
+  }
+
+  @Test
+  void testReadQuotedFields() throws IOException {
+    List<List<String>> records =
+        CsvUtils.read(new StringReader("\"Doe, Jane\",\"say \"\"hi\"\"\",\"two\nlines\"\n"));
+
+    assertEquals(List.of(List.of("Doe, Jane", "say \"hi\"", "two\nlines")), records);
+  }
+
+  @Test
+  void testReadUnterminatedQuote() {
+    assertThrows(IOException.class, () -> CsvUtils.read(new StringReader("\"open,1\n")));
+  }
+}
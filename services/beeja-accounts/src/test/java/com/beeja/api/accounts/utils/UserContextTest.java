@@ -1,15 +1,25 @@
 package com.beeja.api.accounts.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import com.beeja.api.accounts.model.Organization.Organization;
 import com.beeja.api.accounts.model.Organization.Role;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 public class UserContextTest {
 
+  @AfterEach
+  void tearDown() {
+    UserContext.clear();
+  }
+
   @Test
   void testSetLoggedInUser() {
     // Arrange
@@ -34,4 +44,54 @@ public class UserContextTest {
     assertEquals(roles, UserContext.getLoggedInUserRoles());
     assertEquals(permissions, UserContext.getLoggedInUserPermissions());
   }
+
+  @Test
+  void testUserIsNotVisibleToOtherThreads() throws Exception {
+    UserContext.setLoggedInUserEmail("abc@example.com");
+
+    String seenElsewhere = CompletableFuture.supplyAsync(UserContext::getLoggedInUserEmail).get();
+
+    assertNull(seenElsewhere);
+    assertEquals("abc@example.com", UserContext.getLoggedInUserEmail());
+  }
+
+  @Test
+  void testPropagatingExecutorCarriesUserAndLeavesWorkerClean() throws Exception {
+    ExecutorService worker = Executors.newSingleThreadExecutor();
+    try {
+      UserContext.setLoggedInUserEmail("abc@example.com");
+
+      String seenInTask =
+          CompletableFuture.supplyAsync(
+                  UserContext::getLoggedInUserEmail, UserContext.propagating(worker))
+              .get();
+      String seenAfterTask = worker.submit(UserContext::getLoggedInUserEmail).get();
+
+      assertEquals("abc@example.com", seenInTask);
+      assertNull(seenAfterTask);
+    } finally {
+      worker.shutdown();
+    }
+  }
+
+  @Test
+  void testRunWithRestoresPreviousUser() {
+    UserContext.setLoggedInUserEmail("first@example.com");
+    UserContext.Snapshot first = UserContext.capture();
+    UserContext.setLoggedInUserEmail("second@example.com");
+
+    UserContext.runWith(
+        first, () -> assertEquals("first@example.com", UserContext.getLoggedInUserEmail()));
+
+    assertEquals("second@example.com", UserContext.getLoggedInUserEmail());
+  }
+
+  @Test
+  void testClearRemovesUser() {
+    UserContext.setLoggedInUserEmail("abc@example.com");
+
+    UserContext.clear();
+
+    assertNull(UserContext.getLoggedInUserEmail());
+  }
 }
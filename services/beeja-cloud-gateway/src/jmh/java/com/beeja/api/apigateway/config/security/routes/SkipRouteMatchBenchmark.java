@@ -0,0 +1,75 @@
+package com.beeja.api.apigateway.config.security.routes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the compiled {@link PathPrefixTrie} against the linear {@code startsWith} scan the token
+ * relay filter used before. Run with {@code ./gradlew :beeja-cloud-gateway:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SkipRouteMatchBenchmark {
+
+  private static final String[] SERVICES = {
+    "accounts", "employees", "files", "expenses", "finance", "projects", "recruitments"
+  };
+
+  @Param({"8", "64", "512"})
+  public int routeCount;
+
+  private List<String> routes;
+  private PathPrefixTrie trie;
+  private String skippedPath;
+  private String relayedPath;
+
+  @Setup
+  public void setUp() {
+    routes = new ArrayList<>(routeCount);
+    for (int i = 0; i < routeCount; i++) {
+      routes.add("/" + SERVICES[i % SERVICES.length] + "/v1/public/route-" + i);
+    }
+    trie = PathPrefixTrie.compile(routes);
+    skippedPath = routes.get(routeCount - 1) + "/details";
+    relayedPath = "/employees/v1/users/EMP0042/documents";
+  }
+
+  @Benchmark
+  public boolean linearScanSkipped() {
+    return linearScan(skippedPath);
+  }
+
+  @Benchmark
+  public boolean linearScanRelayed() {
+    return linearScan(relayedPath);
+  }
+
+  @Benchmark
+  public boolean trieSkipped() {
+    return trie.matches(skippedPath);
+  }
+
+  @Benchmark
+  public boolean trieRelayed() {
+    return trie.matches(relayedPath);
+  }
+
+  private boolean linearScan(String path) {
+    for (String skipPath : routes) {
+      if (path.startsWith(skipPath)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
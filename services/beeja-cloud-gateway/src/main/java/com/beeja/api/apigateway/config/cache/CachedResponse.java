@@ -0,0 +1,28 @@
+package com.beeja.api.apigateway.config.cache;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import org.springframework.http.MediaType;
+
+/** A buffered upstream response body together with its strong entity tag. */
+public record CachedResponse(
+    byte[] body, MediaType contentType, String eTag, long expiresAtNanos) {
+
+  public static CachedResponse of(byte[] body, MediaType contentType, long expiresAtNanos) {
+    return new CachedResponse(body, contentType, strongETag(body), expiresAtNanos);
+  }
+
+  public boolean isExpired(long nowNanos) {
+    return nowNanos - expiresAtNanos >= 0;
+  }
+
+  static String strongETag(byte[] body) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+      return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
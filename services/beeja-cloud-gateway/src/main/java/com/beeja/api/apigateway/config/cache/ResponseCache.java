@@ -0,0 +1,63 @@
+package com.beeja.api.apigateway.config.cache;
+
+import com.beeja.api.apigateway.utils.Constants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded LRU of upstream responses shared by every route using the {@code ResponseCache} filter.
+ * Entries are scoped to a route, an organization and the caller's permissions, so one tenant can
+ * never be served another tenant's payload, and a caller is only served responses produced for
+ * callers allowed exactly the same things.
+ */
+@Component
+public class ResponseCache {
+
+  private final Map<CacheKey, CachedResponse> entries;
+  private final Counter hits;
+  private final Counter misses;
+
+  public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+    int maxEntries = properties.getMaxEntries();
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedResponse> eldest) {
+            return size() > maxEntries;
+          }
+        };
+    this.hits = meterRegistry.counter(Constants.METRIC_RESPONSE_CACHE, "result", "hit");
+    this.misses = meterRegistry.counter(Constants.METRIC_RESPONSE_CACHE, "result", "miss");
+    Gauge.builder(Constants.METRIC_RESPONSE_CACHE_SIZE, this, ResponseCache::size)
+        .register(meterRegistry);
+  }
+
+  public synchronized CachedResponse get(CacheKey key, long nowNanos) {
+    CachedResponse cached = entries.get(key);
+    if (cached != null && cached.isExpired(nowNanos)) {
+      entries.remove(key);
+      cached = null;
+    }
+    (cached == null ? misses : hits).increment();
+    return cached;
+  }
+
+  public synchronized void put(CacheKey key, CachedResponse response) {
+    entries.put(key, response);
+  }
+
+  /** Drops every cached response of the organization, across all routes. */
+  public synchronized void evictOrganization(String organization) {
+    entries.keySet().removeIf(key -> key.organization().equals(organization));
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public record CacheKey(String routeId, String organization, String permissions, String uri) {}
+}
@@ -0,0 +1,51 @@
+package com.beeja.api.apigateway.config.cache;
+
+import com.beeja.api.apigateway.config.security.PrincipalScope;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Evicts the organization's cached responses around every non-GET request of a route that is not
+ * cached itself but changes data served by {@code ResponseCache} routes, such as the catch-all
+ * route of a service whose reference data is cached.
+ */
+@Component
+public class ResponseCacheEvictionGatewayFilterFactory
+    extends AbstractGatewayFilterFactory<Object> {
+
+  private static final String NO_SCOPE = "";
+
+  @Autowired private ResponseCache responseCache;
+
+  @Override
+  public GatewayFilter apply(Object config) {
+    return (exchange, chain) -> {
+      if (HttpMethod.GET.equals(exchange.getRequest().getMethod())) {
+        return chain.filter(exchange);
+      }
+      return ReactiveSecurityContextHolder.getContext()
+          .flatMap(context -> Mono.justOrEmpty(context.getAuthentication()))
+          .mapNotNull(PrincipalScope::organizationOf)
+          .defaultIfEmpty(NO_SCOPE)
+          .flatMap(
+              scope ->
+                  NO_SCOPE.equals(scope)
+                      ? chain.filter(exchange)
+                      : evictAround(responseCache, scope, chain.filter(exchange)));
+    };
+  }
+
+  /**
+   * Evicts before the change, so no stale entry is served while it is made, and again after it,
+   * so a response cached while it was in flight does not outlive it.
+   */
+  static Mono<Void> evictAround(ResponseCache responseCache, String scope, Mono<Void> change) {
+    responseCache.evictOrganization(scope);
+    return change.doOnSuccess(done -> responseCache.evictOrganization(scope));
+  }
+}
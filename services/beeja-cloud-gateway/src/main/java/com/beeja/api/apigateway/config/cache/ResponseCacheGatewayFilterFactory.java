@@ -0,0 +1,181 @@
+package com.beeja.api.apigateway.config.cache;
+
+import com.beeja.api.apigateway.config.cache.ResponseCache.CacheKey;
+import com.beeja.api.apigateway.config.security.PrincipalScope;
+import java.time.Duration;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves successful GET responses of a route from {@link ResponseCache} for the configured time to
+ * live. Every response carries a strong ETag, so clients revalidating with {@code If-None-Match}
+ * get a 304 without a body. Any other method passing through the route evicts the organization's
+ * cached responses; routes that change the same data without being cached use {@code
+ * ResponseCacheEviction}.
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory
+    extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+  private static final String NO_SCOPE = "";
+  private static final Caller ANONYMOUS = new Caller(null, "");
+  private static final String REVALIDATE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+  @Autowired private ResponseCache responseCache;
+
+  @Autowired private ResponseCacheProperties responseCacheProperties;
+
+  public ResponseCacheGatewayFilterFactory() {
+    super(Config.class);
+  }
+
+  @Override
+  public List<String> shortcutFieldOrder() {
+    return List.of("timeToLive");
+  }
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    return (exchange, chain) ->
+        ReactiveSecurityContextHolder.getContext()
+            .flatMap(context -> Mono.justOrEmpty(context.getAuthentication()))
+            .map(
+                authentication ->
+                    new Caller(
+                        PrincipalScope.organizationOf(authentication),
+                        PrincipalScope.permissionsOf(authentication)))
+            .defaultIfEmpty(ANONYMOUS)
+            .flatMap(
+                caller -> {
+                  if (caller.scope() == null) {
+                    return chain.filter(exchange);
+                  }
+                  if (!HttpMethod.GET.equals(exchange.getRequest().getMethod())) {
+                    return ResponseCacheEvictionGatewayFilterFactory.evictAround(
+                        responseCache, caller.scope(), chain.filter(exchange));
+                  }
+                  // The downstream permission check is skipped on a hit, so callers only share
+                  // responses with callers holding the same permissions.
+                  CacheKey key = cacheKey(exchange, caller.scope(), caller.permissions());
+                  CachedResponse cached = responseCache.get(key, System.nanoTime());
+                  if (cached != null) {
+                    return writeCached(exchange, cached);
+                  }
+                  ServerHttpResponse response =
+                      new CachingResponse(exchange, key, config.getTimeToLive());
+                  return chain.filter(exchange.mutate().response(response).build());
+                });
+  }
+
+  private CacheKey cacheKey(ServerWebExchange exchange, String scope, String permissions) {
+    Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+    ServerHttpRequest request = exchange.getRequest();
+    String query = request.getURI().getRawQuery();
+    String uri = request.getURI().getRawPath() + (query == null ? "" : "?" + query);
+    return new CacheKey(route == null ? NO_SCOPE : route.getId(), scope, permissions, uri);
+  }
+
+  private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+    ServerHttpResponse response = exchange.getResponse();
+    if (isNotModified(exchange.getRequest(), cached.eTag())) {
+      return notModified(response, cached.eTag());
+    }
+    response.setStatusCode(HttpStatus.OK);
+    response.getHeaders().setETag(cached.eTag());
+    response.getHeaders().setCacheControl(REVALIDATE);
+    response.getHeaders().setContentLength(cached.body().length);
+    if (cached.contentType() != null) {
+      response.getHeaders().setContentType(cached.contentType());
+    }
+    return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+  }
+
+  private static boolean isNotModified(ServerHttpRequest request, String eTag) {
+    List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+    return ifNoneMatch.contains(eTag) || ifNoneMatch.contains("*");
+  }
+
+  private static Mono<Void> notModified(ServerHttpResponse response, String eTag) {
+    response.setStatusCode(HttpStatus.NOT_MODIFIED);
+    response.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+    response.getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+    response.getHeaders().setETag(eTag);
+    response.getHeaders().setCacheControl(REVALIDATE);
+    return response.setComplete();
+  }
+
+  /** Buffers a 200 response from upstream, stores it and answers the client from the buffer. */
+  private class CachingResponse extends ServerHttpResponseDecorator {
+
+    private final ServerWebExchange exchange;
+    private final CacheKey key;
+    private final Duration timeToLive;
+
+    CachingResponse(ServerWebExchange exchange, CacheKey key, Duration timeToLive) {
+      super(exchange.getResponse());
+      this.exchange = exchange;
+      this.key = key;
+      this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+      if (!HttpStatus.OK.equals(getStatusCode())) {
+        return super.writeWith(body);
+      }
+      return DataBufferUtils.join(body)
+          .flatMap(
+              joined -> {
+                byte[] bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+                if (bytes.length > responseCacheProperties.getMaxBodyBytes()) {
+                  return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                }
+                CachedResponse cached =
+                    CachedResponse.of(
+                        bytes,
+                        getHeaders().getContentType(),
+                        System.nanoTime() + timeToLive.toNanos());
+                responseCache.put(key, cached);
+                getHeaders().remove(HttpHeaders.PRAGMA);
+                getHeaders().remove(HttpHeaders.EXPIRES);
+                if (isNotModified(exchange.getRequest(), cached.eTag())) {
+                  return notModified(getDelegate(), cached.eTag());
+                }
+                getHeaders().setETag(cached.eTag());
+                getHeaders().setCacheControl(REVALIDATE);
+                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+              });
+    }
+  }
+
+  /** Organization (or user) scope and permissions of the caller; no scope when anonymous. */
+  private record Caller(String scope, String permissions) {}
+
+  @Getter
+  @Setter
+  public static class Config {
+    private Duration timeToLive = Duration.ofMinutes(5);
+  }
+}
@@ -0,0 +1,18 @@
+package com.beeja.api.apigateway.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public class ResponseCacheProperties {
+  /** Responses kept across all cached routes; the least recently used one is dropped first. */
+  private int maxEntries = 1000;
+
+  /** Responses with larger bodies are passed through without being cached. */
+  private int maxBodyBytes = 256 * 1024;
+}
@@ -0,0 +1,18 @@
+package com.beeja.api.apigateway.config.coalescing;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+/** A complete upstream response held in memory so it can be replayed to several callers. */
+public record BufferedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+  /** Copies the headers that are safe to replay to another caller's exchange. */
+  static HttpHeaders replayableHeaders(HttpHeaders source) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.putAll(source);
+    headers.remove(HttpHeaders.SET_COOKIE);
+    headers.remove(HttpHeaders.TRANSFER_ENCODING);
+    headers.remove(HttpHeaders.CONTENT_LENGTH);
+    return HttpHeaders.readOnlyHttpHeaders(headers);
+  }
+}
@@ -0,0 +1,311 @@
+package com.beeja.api.apigateway.config.coalescing;
+
+import com.beeja.api.apigateway.config.security.PrincipalScope;
+import com.beeja.api.apigateway.utils.Constants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Collapses concurrent identical GET requests of a route into one upstream exchange. The first
+ * caller for a key forwards the request and buffers the response; callers arriving while it is in
+ * flight wait on the same {@link Sinks.One} and receive a copy of that response. Only successful
+ * JSON responses up to {@code gateway.request-coalescing.max-body-bytes} are shared, and only
+ * between callers of the configured principal scope holding the same permissions. A follower whose
+ * leader fails, is cancelled or gets a response that is not shared forwards its own request
+ * instead.
+ */
+@Component
+public class RequestCoalescingGatewayFilterFactory
+    extends AbstractGatewayFilterFactory<RequestCoalescingGatewayFilterFactory.Config> {
+
+  private final Counter coalesced;
+  private final int maxBodyBytes;
+
+  public RequestCoalescingGatewayFilterFactory(
+      MeterRegistry meterRegistry, RequestCoalescingProperties properties) {
+    super(Config.class);
+    this.coalesced = meterRegistry.counter(Constants.METRIC_COALESCED_REQUESTS);
+    this.maxBodyBytes = properties.getMaxBodyBytes();
+  }
+
+  @Override
+  public List<String> shortcutFieldOrder() {
+    return List.of("scope");
+  }
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    Map<CoalescingKey, Sinks.One<BufferedResponse>> inFlight = new ConcurrentHashMap<>();
+    return (exchange, chain) -> {
+      if (!HttpMethod.GET.equals(exchange.getRequest().getMethod())) {
+        return chain.filter(exchange);
+      }
+      return ReactiveSecurityContextHolder.getContext()
+          .flatMap(context -> Mono.justOrEmpty(context.getAuthentication()))
+          .mapNotNull(authentication -> keyOf(config.getScope(), authentication, exchange))
+          .map(Optional::of)
+          .defaultIfEmpty(Optional.empty())
+          .flatMap(
+              key -> {
+                if (key.isEmpty()) {
+                  return chain.filter(exchange);
+                }
+                Sinks.One<BufferedResponse> sink = Sinks.one();
+                Sinks.One<BufferedResponse> leader = inFlight.putIfAbsent(key.get(), sink);
+                if (leader == null) {
+                  return lead(exchange, chain, inFlight, key.get(), sink);
+                }
+                coalesced.increment();
+                return follow(exchange, chain, leader);
+              });
+    };
+  }
+
+  /**
+   * @return the key of callers that may share a response: same scope and same permissions, so that
+   *     a caller never receives a response that was filtered for permissions it lacks
+   */
+  private static CoalescingKey keyOf(
+      Scope scope, Authentication authentication, ServerWebExchange exchange) {
+    String principal = scope.of(authentication);
+    if (principal == null) {
+      return null;
+    }
+    return new CoalescingKey(
+        principal, PrincipalScope.permissionsOf(authentication), uriOf(exchange.getRequest()));
+  }
+
+  private static String uriOf(ServerHttpRequest request) {
+    String query = request.getURI().getRawQuery();
+    return request.getURI().getRawPath() + (query == null ? "" : "?" + query);
+  }
+
+  private Mono<Void> lead(
+      ServerWebExchange exchange,
+      GatewayFilterChain chain,
+      Map<CoalescingKey, Sinks.One<BufferedResponse>> inFlight,
+      CoalescingKey key,
+      Sinks.One<BufferedResponse> sink) {
+    SharingResponse response =
+        new SharingResponse(
+            exchange.getResponse(),
+            maxBodyBytes,
+            buffered -> {
+              inFlight.remove(key, sink);
+              if (buffered == null) {
+                sink.tryEmitEmpty();
+              } else {
+                sink.tryEmitValue(buffered);
+              }
+            });
+    return chain
+        .filter(exchange.mutate().response(response).build())
+        .doFinally(
+            signal -> {
+              inFlight.remove(key, sink);
+              // Followers still waiting fall back to their own upstream request.
+              sink.tryEmitEmpty();
+            });
+  }
+
+  private Mono<Void> follow(
+      ServerWebExchange exchange, GatewayFilterChain chain, Sinks.One<BufferedResponse> leader) {
+    return leader
+        .asMono()
+        .map(Optional::of)
+        .defaultIfEmpty(Optional.empty())
+        .onErrorReturn(Optional.empty())
+        .flatMap(
+            buffered ->
+                buffered.isPresent()
+                    ? replay(exchange.getResponse(), buffered.get())
+                    : chain.filter(exchange));
+  }
+
+  private static Mono<Void> replay(ServerHttpResponse response, BufferedResponse buffered) {
+    response.setStatusCode(buffered.status());
+    response.getHeaders().putAll(buffered.headers());
+    response.getHeaders().setContentLength(buffered.body().length);
+    if (buffered.body().length == 0) {
+      return response.setComplete();
+    }
+    return response.writeWith(Mono.just(response.bufferFactory().wrap(buffered.body())));
+  }
+
+  /**
+   * Holds the leader's response until it completes and hands a copy to the followers. Responses
+   * that are not successful JSON, are streamed, or outgrow the body cap are written through
+   * untouched and the followers are released at once to send their own requests.
+   */
+  private static class SharingResponse extends ServerHttpResponseDecorator {
+
+    private final int maxBodyBytes;
+    private final Consumer<BufferedResponse> onBuffered;
+    private final AtomicBoolean shared = new AtomicBoolean();
+
+    SharingResponse(
+        ServerHttpResponse delegate, int maxBodyBytes, Consumer<BufferedResponse> onBuffered) {
+      super(delegate);
+      this.maxBodyBytes = maxBodyBytes;
+      this.onBuffered = onBuffered;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+      if (!isShareable()) {
+        share(null);
+        return super.writeWith(body);
+      }
+      HeldBody held = new HeldBody();
+      return super.writeWith(
+          Flux.from(body)
+              .concatMap(held::offer)
+              .concatWith(Mono.fromSupplier(held::complete))
+              .doFinally(signal -> held.release()));
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+      share(null);
+      return super.writeAndFlushWith(body);
+    }
+
+    @Override
+    public Mono<Void> setComplete() {
+      share(isSuccessful() ? new byte[0] : null);
+      return super.setComplete();
+    }
+
+    private boolean isSuccessful() {
+      HttpStatusCode status = getStatusCode();
+      return status == null || status.is2xxSuccessful();
+    }
+
+    private boolean isShareable() {
+      MediaType contentType = getHeaders().getContentType();
+      return isSuccessful()
+          && contentType != null
+          && (MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+              || contentType.getSubtype().endsWith("+json"))
+          && !getHeaders().containsKey(HttpHeaders.CONTENT_DISPOSITION)
+          && getHeaders().getContentLength() <= maxBodyBytes;
+    }
+
+    /** Passes the buffered response to the followers, or {@code null} when it is not shared. */
+    private void share(byte[] bytes) {
+      if (shared.compareAndSet(false, true)) {
+        if (bytes == null) {
+          onBuffered.accept(null);
+          return;
+        }
+        HttpStatusCode status = getStatusCode() == null ? HttpStatus.OK : getStatusCode();
+        onBuffered.accept(
+            new BufferedResponse(status, BufferedResponse.replayableHeaders(getHeaders()), bytes));
+      }
+    }
+
+    /** Collects the body until it completes or grows past the cap, whichever comes first. */
+    private class HeldBody {
+
+      private final List<DataBuffer> buffers = new ArrayList<>();
+      private int size;
+      private boolean overflowed;
+
+      synchronized Flux<DataBuffer> offer(DataBuffer buffer) {
+        if (overflowed) {
+          return Flux.just(buffer);
+        }
+        buffers.add(buffer);
+        size += buffer.readableByteCount();
+        if (size <= maxBodyBytes) {
+          return Flux.empty();
+        }
+        overflowed = true;
+        share(null);
+        List<DataBuffer> pending = new ArrayList<>(buffers);
+        buffers.clear();
+        return Flux.fromIterable(pending);
+      }
+
+      synchronized DataBuffer complete() {
+        if (overflowed) {
+          return null;
+        }
+        byte[] bytes = new byte[size];
+        int offset = 0;
+        for (DataBuffer buffer : buffers) {
+          int length = buffer.readableByteCount();
+          buffer.read(bytes, offset, length);
+          offset += length;
+          DataBufferUtils.release(buffer);
+        }
+        buffers.clear();
+        share(bytes);
+        return bufferFactory().wrap(bytes);
+      }
+
+      synchronized void release() {
+        buffers.forEach(DataBufferUtils::release);
+        buffers.clear();
+      }
+    }
+  }
+
+  private record CoalescingKey(String scope, String permissions, String uri) {}
+
+  /** Which callers may share one upstream response. */
+  public enum Scope {
+    /** Callers of the same organization, for organization-wide reference data. */
+    ORGANIZATION {
+      @Override
+      String of(Authentication authentication) {
+        return PrincipalScope.organizationOf(authentication);
+      }
+    },
+    /** Only requests of the same user, for example several browser tabs. */
+    USER {
+      @Override
+      String of(Authentication authentication) {
+        return PrincipalScope.userOf(authentication);
+      }
+    };
+
+    abstract String of(Authentication authentication);
+  }
+
+  @Getter
+  @Setter
+  public static class Config {
+    private Scope scope = Scope.USER;
+  }
+}
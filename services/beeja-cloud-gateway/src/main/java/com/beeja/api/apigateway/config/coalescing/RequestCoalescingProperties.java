@@ -0,0 +1,18 @@
+package com.beeja.api.apigateway.config.coalescing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.request-coalescing")
+public class RequestCoalescingProperties {
+  /**
+   * Largest response body held in memory for waiting callers. A leader whose response grows past
+   * it streams the rest through and its followers send their own requests.
+   */
+  private int maxBodyBytes = 256 * 1024;
+}
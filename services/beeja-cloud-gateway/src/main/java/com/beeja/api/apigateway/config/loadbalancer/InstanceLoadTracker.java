@@ -0,0 +1,106 @@
+package com.beeja.api.apigateway.config.loadbalancer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Tracks, per service instance, the requests currently in flight and an exponentially weighted
+ * moving average of their latency. Runs as a global filter right after the load balancer has
+ * chosen an instance, and releases the request in {@code doFinally} so requests cancelled by the
+ * client or failing in the gateway are released as well as completed ones.
+ */
+@Component
+public class InstanceLoadTracker implements GlobalFilter, Ordered {
+
+  /** Weight of the newest sample in the latency average. */
+  static final double LATENCY_SMOOTHING = 0.3;
+
+  /** Latency assumed for instances without samples, and the floor applied to every average. */
+  static final long MIN_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final Map<String, InstanceLoad> loads = new ConcurrentHashMap<>();
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+    Response<ServiceInstance> lbResponse =
+        exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+    if (lbResponse == null || !lbResponse.hasServer()) {
+      return chain.filter(exchange);
+    }
+    InstanceLoad load = loadOf(lbResponse.getServer());
+    return Mono.defer(
+        () -> {
+          load.inFlight.incrementAndGet();
+          long startNanos = System.nanoTime();
+          return chain
+              .filter(exchange)
+              .doFinally(
+                  signal -> {
+                    load.inFlight.decrementAndGet();
+                    // A cancelled request says nothing about how fast the instance answers.
+                    if (signal != SignalType.CANCEL) {
+                      load.recordLatency(System.nanoTime() - startNanos);
+                    }
+                  });
+        });
+  }
+
+  @Override
+  public int getOrder() {
+    return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+  }
+
+  /** Expected cost of sending one more request to the instance: queue length times latency. */
+  public double costOf(ServiceInstance instance) {
+    InstanceLoad load = loads.get(keyOf(instance));
+    if (load == null) {
+      return MIN_LATENCY_NANOS;
+    }
+    return (load.inFlight.get() + 1) * Math.max(load.averageLatencyNanos(), MIN_LATENCY_NANOS);
+  }
+
+  private InstanceLoad loadOf(ServiceInstance instance) {
+    return loads.computeIfAbsent(keyOf(instance), key -> new InstanceLoad());
+  }
+
+  private static String keyOf(ServiceInstance instance) {
+    return instance.getServiceId() + '@' + instance.getHost() + ':' + instance.getPort();
+  }
+
+  private static final class InstanceLoad {
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong averageLatencyBits = new AtomicLong(Double.doubleToLongBits(0d));
+
+    void recordLatency(long latencyNanos) {
+      while (true) {
+        long currentBits = averageLatencyBits.get();
+        double current = Double.longBitsToDouble(currentBits);
+        double next =
+            current == 0d
+                ? latencyNanos
+                : current + LATENCY_SMOOTHING * (latencyNanos - current);
+        if (averageLatencyBits.compareAndSet(currentBits, Double.doubleToLongBits(next))) {
+          return;
+        }
+      }
+    }
+
+    double averageLatencyNanos() {
+      return Double.longBitsToDouble(averageLatencyBits.get());
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package com.beeja.api.apigateway.config.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Per-service load balancer configuration, applied to every {@code lb://} service through {@link
+ * LoadBalancerConfig}. Deliberately not a {@code @Configuration} so component scanning does not
+ * register it in the application context.
+ */
+public class LeastOutstandingRequestsConfiguration {
+
+  @Bean
+  public ReactorLoadBalancer<ServiceInstance> reactorServiceInstanceLoadBalancer(
+      Environment environment,
+      LoadBalancerClientFactory loadBalancerClientFactory,
+      InstanceLoadTracker instanceLoadTracker) {
+    String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+    return new LeastOutstandingRequestsLoadBalancer(
+        loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+        instanceLoadTracker);
+  }
+}
@@ -0,0 +1,59 @@
+package com.beeja.api.apigateway.config.loadbalancer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Picks two distinct instances at random and routes to the one with the lower expected cost as
+ * measured by {@link InstanceLoadTracker}. Sampling two instead of scanning all of them keeps the
+ * choice cheap and avoids every gateway thread piling onto the same momentarily idle instance.
+ */
+public class LeastOutstandingRequestsLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+  private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+  private final InstanceLoadTracker instanceLoadTracker;
+
+  public LeastOutstandingRequestsLoadBalancer(
+      ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+      InstanceLoadTracker instanceLoadTracker) {
+    this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+    this.instanceLoadTracker = instanceLoadTracker;
+  }
+
+  @Override
+  @SuppressWarnings("rawtypes")
+  public Mono<Response<ServiceInstance>> choose(Request request) {
+    ServiceInstanceListSupplier supplier =
+        serviceInstanceListSupplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+    return supplier.get(request).next().map(this::choose);
+  }
+
+  Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+    if (instances.isEmpty()) {
+      return new EmptyResponse();
+    }
+    if (instances.size() == 1) {
+      return new DefaultResponse(instances.get(0));
+    }
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int first = random.nextInt(instances.size());
+    int second = random.nextInt(instances.size() - 1);
+    if (second >= first) {
+      second++;
+    }
+    ServiceInstance a = instances.get(first);
+    ServiceInstance b = instances.get(second);
+    return new DefaultResponse(
+        instanceLoadTracker.costOf(b) < instanceLoadTracker.costOf(a) ? b : a);
+  }
+}
@@ -0,0 +1,8 @@
+package com.beeja.api.apigateway.config.loadbalancer;
+
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@LoadBalancerClients(defaultConfiguration = LeastOutstandingRequestsConfiguration.class)
+public class LoadBalancerConfig {}
@@ -0,0 +1,188 @@
+package com.beeja.api.apigateway.config.ratelimit;
+
+import com.beeja.api.apigateway.user.UserClaims;
+import com.beeja.api.apigateway.utils.Constants;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Per-route admission control keyed by organization and by user, held entirely in memory. A
+ * request must get a token from both the user's and the organization's bucket; otherwise it is
+ * answered with 429 and a {@code Retry-After} header without reaching the downstream service.
+ * Requests without an authenticated user are limited by client address instead.
+ */
+@Slf4j
+@Component
+public class TenantRateLimiterGatewayFilterFactory
+    extends AbstractGatewayFilterFactory<TenantRateLimiterGatewayFilterFactory.Config> {
+
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  /** Bucket maps of every route using this filter, swept together. */
+  private final List<Map<String, TokenBucket>> bucketMaps = new CopyOnWriteArrayList<>();
+
+  public TenantRateLimiterGatewayFilterFactory() {
+    super(Config.class);
+  }
+
+  @Override
+  public List<String> shortcutFieldOrder() {
+    return List.of(
+        "organizationReplenishRate",
+        "organizationBurstCapacity",
+        "userReplenishRate",
+        "userBurstCapacity");
+  }
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    Map<String, TokenBucket> organizationBuckets = new ConcurrentHashMap<>();
+    Map<String, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+    bucketMaps.add(organizationBuckets);
+    bucketMaps.add(userBuckets);
+    return (exchange, chain) ->
+        ReactiveSecurityContextHolder.getContext()
+            .flatMap(context -> Mono.justOrEmpty(context.getAuthentication()))
+            .map(authentication -> new RateLimitKeys(authentication, exchange))
+            .defaultIfEmpty(new RateLimitKeys(null, exchange))
+            .flatMap(
+                keys -> {
+                  long now = System.nanoTime();
+                  TokenBucket userBucket =
+                      bucket(
+                          userBuckets,
+                          keys.user(),
+                          config.getUserReplenishRate(),
+                          config.getUserBurstCapacity(),
+                          now);
+                  TokenBucket organizationBucket =
+                      keys.organization() == null
+                          ? null
+                          : bucket(
+                              organizationBuckets,
+                              keys.organization(),
+                              config.getOrganizationReplenishRate(),
+                              config.getOrganizationBurstCapacity(),
+                              now);
+                  long waitNanos = acquireBoth(userBucket, organizationBucket, now);
+                  if (waitNanos > 0) {
+                    log.warn(Constants.RATE_LIMIT_EXCEEDED, keys.user(), keys.organization());
+                    return reject(exchange, waitNanos);
+                  }
+                  return chain.filter(exchange);
+                });
+  }
+
+  /** Drops buckets that have refilled, so idle users and organizations do not pile up. */
+  @Scheduled(fixedDelayString = "PT1M")
+  public void sweepIdleBuckets() {
+    long now = System.nanoTime();
+    for (Map<String, TokenBucket> buckets : bucketMaps) {
+      buckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+  }
+
+  /** Returns {@code null} when the limit is switched off. */
+  private TokenBucket bucket(
+      Map<String, TokenBucket> buckets,
+      String key,
+      double replenishRate,
+      int burstCapacity,
+      long now) {
+    if (replenishRate <= 0) {
+      return null;
+    }
+    return buckets.computeIfAbsent(key, k -> new TokenBucket(replenishRate, burstCapacity, now));
+  }
+
+  /**
+   * Takes a token from each bucket, or from neither: a request refused by one bucket must not use
+   * up the other.
+   *
+   * @return {@code 0} when admitted, otherwise the nanoseconds until both buckets have a token
+   */
+  private long acquireBoth(TokenBucket userBucket, TokenBucket organizationBucket, long now) {
+    long waitNanos =
+        Math.max(
+            userBucket == null ? 0L : userBucket.waitNanos(now),
+            organizationBucket == null ? 0L : organizationBucket.waitNanos(now));
+    if (waitNanos > 0) {
+      return waitNanos;
+    }
+    if (userBucket != null) {
+      waitNanos = userBucket.tryAcquire(now);
+      if (waitNanos > 0) {
+        return waitNanos;
+      }
+    }
+    if (organizationBucket != null) {
+      waitNanos = organizationBucket.tryAcquire(now);
+      if (waitNanos > 0 && userBucket != null) {
+        // Another request took the organization's last token between the check and here.
+        userBucket.release();
+      }
+    }
+    return waitNanos;
+  }
+
+  private Mono<Void> reject(ServerWebExchange exchange, long waitNanos) {
+    long retryAfterSeconds = TimeUnit.NANOSECONDS.toSeconds(waitNanos + NANOS_PER_SECOND - 1);
+    exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+    exchange
+        .getResponse()
+        .getHeaders()
+        .set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1L, retryAfterSeconds)));
+    return exchange.getResponse().setComplete();
+  }
+
+  private record RateLimitKeys(String user, String organization) {
+
+    private RateLimitKeys(Authentication authentication, ServerWebExchange exchange) {
+      this(userKey(authentication, exchange), organizationKey(authentication));
+    }
+
+    private static String userKey(Authentication authentication, ServerWebExchange exchange) {
+      if (authentication != null
+          && authentication.isAuthenticated()
+          && !(authentication instanceof AnonymousAuthenticationToken)) {
+        return authentication.getName();
+      }
+      InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+      return remoteAddress == null ? "unknown" : remoteAddress.getHostString();
+    }
+
+    private static String organizationKey(Authentication authentication) {
+      if (authentication != null && authentication.getDetails() instanceof UserClaims claims) {
+        return claims.getOrganizationId();
+      }
+      return null;
+    }
+  }
+
+  @Getter
+  @Setter
+  public static class Config {
+    private double organizationReplenishRate;
+    private int organizationBurstCapacity;
+    private double userReplenishRate;
+    private int userBurstCapacity;
+  }
+}
@@ -0,0 +1,66 @@
+package com.beeja.api.apigateway.config.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket implemented with the generic cell rate algorithm. The whole bucket state
+ * is the theoretical arrival time of the next request, kept in a single {@link AtomicLong}, so
+ * acquiring a token is one compare-and-set without any locking.
+ */
+public final class TokenBucket {
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private final long emissionIntervalNanos;
+  private final long burstToleranceNanos;
+  private final AtomicLong theoreticalArrivalNanos;
+
+  /**
+   * @param replenishRate tokens added per second
+   * @param burstCapacity maximum number of tokens the bucket holds
+   */
+  public TokenBucket(double replenishRate, int burstCapacity, long nowNanos) {
+    this.emissionIntervalNanos = Math.max(1L, (long) (NANOS_PER_SECOND / replenishRate));
+    this.burstToleranceNanos = emissionIntervalNanos * Math.max(1, burstCapacity);
+    this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+  }
+
+  /**
+   * Takes one token.
+   *
+   * @return {@code 0} when a token was taken, otherwise the nanoseconds until one is available
+   */
+  public long tryAcquire(long nowNanos) {
+    while (true) {
+      long current = theoreticalArrivalNanos.get();
+      long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+      long waitNanos = next - nowNanos - burstToleranceNanos;
+      if (waitNanos > 0) {
+        return waitNanos;
+      }
+      if (theoreticalArrivalNanos.compareAndSet(current, next)) {
+        return 0L;
+      }
+    }
+  }
+
+  /**
+   * Reports whether a token could be taken now, without taking it.
+   *
+   * @return {@code 0} when a token is available, otherwise the nanoseconds until one is
+   */
+  public long waitNanos(long nowNanos) {
+    long next = Math.max(theoreticalArrivalNanos.get(), nowNanos) + emissionIntervalNanos;
+    return Math.max(0L, next - nowNanos - burstToleranceNanos);
+  }
+
+  /** Gives back a token taken by {@link #tryAcquire} for a request that was then refused. */
+  public void release() {
+    theoreticalArrivalNanos.addAndGet(-emissionIntervalNanos);
+  }
+
+  /** Returns whether the bucket has fully refilled and can be discarded without losing state. */
+  public boolean isIdle(long nowNanos) {
+    return theoreticalArrivalNanos.get() <= nowNanos;
+  }
+}
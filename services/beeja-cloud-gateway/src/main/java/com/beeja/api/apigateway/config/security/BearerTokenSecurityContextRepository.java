@@ -0,0 +1,52 @@
+package com.beeja.api.apigateway.config.security;
+
+import com.beeja.api.apigateway.utils.JwtUtil;
+import io.jsonwebtoken.JwtException;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.server.context.ServerSecurityContextRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Security context source for stateless mode: the caller is authenticated from the access token
+ * in the {@code Authorization} header on every request, and nothing is ever stored.
+ */
+@Component
+public class BearerTokenSecurityContextRepository implements ServerSecurityContextRepository {
+
+  private static final String BEARER_PREFIX = "Bearer ";
+
+  @Autowired private VerifiedTokenCache verifiedTokenCache;
+
+  @Override
+  public Mono<Void> save(ServerWebExchange exchange, SecurityContext context) {
+    return Mono.empty();
+  }
+
+  @Override
+  public Mono<SecurityContext> load(ServerWebExchange exchange) {
+    String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+    if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+      return Mono.empty();
+    }
+    String token = authorization.substring(BEARER_PREFIX.length());
+    return Mono.fromCallable(() -> verifiedTokenCache.getVerifiedClaims(token))
+        .map(
+            claims -> {
+              UsernamePasswordAuthenticationToken authentication =
+                  UsernamePasswordAuthenticationToken.authenticated(
+                      claims.getSubject(), token, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+              authentication.setDetails(JwtUtil.toUserClaims(claims));
+              return (SecurityContext) new SecurityContextImpl(authentication);
+            })
+        .onErrorResume(JwtException.class, e -> Mono.empty())
+        .onErrorResume(IllegalArgumentException.class, e -> Mono.empty());
+  }
+}
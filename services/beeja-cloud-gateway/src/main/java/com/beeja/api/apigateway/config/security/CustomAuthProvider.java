@@ -1,6 +1,8 @@
 package com.beeja.api.apigateway.config.security;
 
 import com.beeja.api.apigateway.config.security.properties.JwtProperties;
+import com.beeja.api.apigateway.user.UserClaims;
+import com.beeja.api.apigateway.user.UserClaimsResolver;
 import com.beeja.api.apigateway.user.UserEntity;
 import com.beeja.api.apigateway.user.UserRepository;
 import com.beeja.api.apigateway.utils.JwtUtil;
@@ -13,7 +15,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
@@ -22,7 +23,9 @@ public class CustomAuthProvider implements ReactiveAuthenticationManager {
 
   @Autowired private UserRepository userRepository;
 
-  @Autowired private PasswordEncoder passwordEncoder;
+  @Autowired private PasswordVerifier passwordVerifier;
+
+  @Autowired private UserClaimsResolver userClaimsResolver;
 
   @Autowired private JwtProperties jwtProperties;
 
@@ -31,31 +34,43 @@ public class CustomAuthProvider implements ReactiveAuthenticationManager {
     String username = authentication.getName();
     String password = authentication.getCredentials().toString();
 
-    UserEntity user = userRepository.findByEmail(username);
-    if (user == null || !user.isActive()) {
-      return Mono.error(new BadCredentialsException("User Not Found"));
-    }
-
-    return Mono.just(user)
+    return userRepository
+        .findByEmail(username)
+        .filter(UserEntity::isActive)
+        .switchIfEmpty(Mono.error(new BadCredentialsException("User Not Found")))
+        .flatMap(userEntity -> passwordVerifier.matches(password, userEntity.getPassword()))
         .flatMap(
-            userEntity -> {
-              if (userEntity != null
-                  && userEntity.isActive()
-                  && passwordEncoder.matches(password, userEntity.getPassword())) {
-                UserDetails userDetails =
-                    User.withUsername(username)
-                        .password(password)
-                        .authorities(
-                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")))
-                        .build();
-                String jwtToken =
-                    JwtUtil.generateToken(authentication.getName(), jwtProperties.getSecret());
-                return Mono.just(
-                    new UsernamePasswordAuthenticationToken(
-                        userDetails, jwtToken, userDetails.getAuthorities()));
+            matches -> {
+              if (Boolean.TRUE.equals(matches)) {
+                return userClaimsResolver
+                    .resolve(username)
+                    .map(userClaims -> createAuthentication(authentication, userClaims))
+                    .switchIfEmpty(
+                        Mono.fromCallable(() -> createAuthentication(authentication, null)));
               } else {
                 return Mono.error(new BadCredentialsException("Invalid username or password"));
               }
             });
   }
+
+  private Authentication createAuthentication(
+      Authentication authentication, UserClaims userClaims) {
+    String username = authentication.getName();
+    UserDetails userDetails =
+        User.withUsername(username)
+            .password(authentication.getCredentials().toString())
+            .authorities(Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")))
+            .build();
+    String jwtToken =
+        userClaims == null
+            ? JwtUtil.generateToken(
+                username, jwtProperties.getSecret(), jwtProperties.getAccessTokenValidity())
+            : JwtUtil.generateToken(
+                userClaims, jwtProperties.getSecret(), jwtProperties.getAccessTokenValidity());
+    UsernamePasswordAuthenticationToken authenticationToken =
+        new UsernamePasswordAuthenticationToken(
+            userDetails, jwtToken, userDetails.getAuthorities());
+    authenticationToken.setDetails(userClaims);
+    return authenticationToken;
+  }
 }
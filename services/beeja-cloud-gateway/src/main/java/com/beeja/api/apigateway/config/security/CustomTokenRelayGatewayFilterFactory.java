@@ -1,23 +1,51 @@
 package com.beeja.api.apigateway.config.security;
 
-import com.beeja.api.apigateway.config.security.properties.SkipGatewayFilterRoutesProperty;
+import com.beeja.api.apigateway.config.security.properties.SessionProperties;
+import com.beeja.api.apigateway.config.security.refresh.AccessTokenIssuer;
+import com.beeja.api.apigateway.config.security.routes.SkipRouteMatcher;
+import com.beeja.api.apigateway.utils.Constants;
+import com.beeja.api.apigateway.utils.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import java.util.Date;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.server.context.ServerSecurityContextRepository;
+import org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebSession;
+import reactor.core.publisher.Mono;
 
 @Component
 @Slf4j
 public class CustomTokenRelayGatewayFilterFactory
     extends AbstractGatewayFilterFactory<CustomTokenRelayGatewayFilterFactory.Config> {
 
-  @Autowired private SkipGatewayFilterRoutesProperty skipGatewayFilterRoutesProperty;
+  @Autowired private SkipRouteMatcher skipRouteMatcher;
+
+  @Autowired private VerifiedTokenCache verifiedTokenCache;
+
+  @Autowired private AccessTokenIssuer accessTokenIssuer;
+
+  @Autowired private SessionProperties sessionProperties;
+
+  private final ServerSecurityContextRepository sessionContextRepository =
+      new WebSessionServerSecurityContextRepository();
 
   public CustomTokenRelayGatewayFilterFactory() {
     super(Config.class);
@@ -27,11 +55,9 @@ public class CustomTokenRelayGatewayFilterFactory
   public GatewayFilter apply(Config config) {
     return (exchange, chain) -> {
       String path = exchange.getRequest().getPath().toString();
-      for (String skipPath : skipGatewayFilterRoutesProperty.getRoutesAsList()) {
-        if (path.startsWith(skipPath)) {
-          log.info("Skipping token relay for path: {}", path);
-          return chain.filter(exchange);
-        }
+      if (skipRouteMatcher.shouldSkip(path)) {
+        log.info("Skipping token relay for path: {}", path);
+        return chain.filter(exchange);
       }
 
       return ReactiveSecurityContextHolder.getContext()
@@ -40,13 +66,17 @@ public class CustomTokenRelayGatewayFilterFactory
               authentication -> {
                 if (authentication instanceof UsernamePasswordAuthenticationToken) {
                   String token = (String) authentication.getCredentials();
-                  ServerHttpRequest mutatedRequest =
-                      exchange
-                          .getRequest()
-                          .mutate()
-                          .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                          .build();
-                  return chain.filter(exchange.mutate().request(mutatedRequest).build());
+                  try {
+                    verifiedTokenCache.getVerifiedClaims(token);
+                  } catch (ExpiredJwtException e) {
+                    if (!sessionProperties.isStateless()) {
+                      return renewAndRelay(exchange, chain, authentication, e.getClaims());
+                    }
+                    return unauthorized(exchange, e);
+                  } catch (JwtException | IllegalArgumentException e) {
+                    return unauthorized(exchange, e);
+                  }
+                  return relay(exchange, chain, token);
                 } else {
                   return chain.filter(exchange);
                 }
@@ -54,5 +84,56 @@ public class CustomTokenRelayGatewayFilterFactory
     };
   }
 
+  private Mono<Void> relay(ServerWebExchange exchange, GatewayFilterChain chain, String token) {
+    ServerHttpRequest mutatedRequest =
+        exchange.getRequest().mutate().header(HttpHeaders.AUTHORIZATION, "Bearer " + token).build();
+    return chain.filter(exchange.mutate().request(mutatedRequest).build());
+  }
+
+  /**
+   * The session outlives its short-lived access token, so an expired token is replaced in the
+   * session from the user's current claims rather than sending the user back to the login form.
+   * Renewal stops once the login is older than the session's maximum lifetime; the session is then
+   * invalidated.
+   */
+  private Mono<Void> renewAndRelay(
+      ServerWebExchange exchange,
+      GatewayFilterChain chain,
+      Authentication authentication,
+      Claims expired) {
+    Date authenticatedAt = JwtUtil.authenticatedAt(expired);
+    if (authenticatedAt == null
+        || System.currentTimeMillis() - authenticatedAt.getTime()
+            >= sessionProperties.getMaxLifetime().toMillis()) {
+      return exchange
+          .getSession()
+          .flatMap(WebSession::invalidate)
+          .then(
+              Mono.defer(
+                  () ->
+                      unauthorized(
+                          exchange,
+                          new CredentialsExpiredException(
+                              Constants.ERROR_SESSION_LIFETIME_EXCEEDED))));
+    }
+    return accessTokenIssuer
+        .renew(authentication, authenticatedAt)
+        .flatMap(
+            renewed -> {
+              log.info(Constants.SESSION_ACCESS_TOKEN_RENEWED, renewed.getName());
+              String token = (String) renewed.getCredentials();
+              return sessionContextRepository
+                  .save(exchange, new SecurityContextImpl(renewed))
+                  .then(Mono.defer(() -> relay(exchange, chain, token)));
+            })
+        .onErrorResume(BadCredentialsException.class, e -> unauthorized(exchange, e));
+  }
+
+  private static Mono<Void> unauthorized(ServerWebExchange exchange, Exception e) {
+    log.warn(Constants.ERROR_RELAY_INVALID_TOKEN, e.getMessage());
+    exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+    return exchange.getResponse().setComplete();
+  }
+
   public static class Config {}
 }
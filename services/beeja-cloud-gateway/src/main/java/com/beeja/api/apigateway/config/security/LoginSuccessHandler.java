@@ -0,0 +1,65 @@
+package com.beeja.api.apigateway.config.security;
+
+import com.beeja.api.apigateway.config.security.properties.JwtProperties;
+import com.beeja.api.apigateway.config.security.properties.SessionProperties;
+import com.beeja.api.apigateway.config.security.refresh.AccessTokenResponse;
+import com.beeja.api.apigateway.config.security.refresh.RefreshTokenService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.security.web.server.authentication.RedirectServerAuthenticationSuccessHandler;
+import org.springframework.security.web.server.authentication.ServerAuthenticationSuccessHandler;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hands out a refresh token cookie after a successful password login. With sessions the browser
+ * is then redirected as before; in stateless mode the access token is returned in the body
+ * instead.
+ */
+@Component
+public class LoginSuccessHandler implements ServerAuthenticationSuccessHandler {
+
+  @Autowired private RefreshTokenService refreshTokenService;
+
+  @Autowired private SessionProperties sessionProperties;
+
+  @Autowired private JwtProperties jwtProperties;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  private final ServerAuthenticationSuccessHandler redirectHandler =
+      new RedirectServerAuthenticationSuccessHandler("/");
+
+  @Override
+  public Mono<Void> onAuthenticationSuccess(
+      WebFilterExchange webFilterExchange, Authentication authentication) {
+    ServerHttpResponse response = webFilterExchange.getExchange().getResponse();
+    return refreshTokenService
+        .issue(authentication.getName())
+        .flatMap(
+            refreshToken -> {
+              response.addCookie(refreshTokenService.cookieOf(refreshToken));
+              if (!sessionProperties.isStateless()) {
+                return redirectHandler.onAuthenticationSuccess(webFilterExchange, authentication);
+              }
+              return writeAccessToken(response, (String) authentication.getCredentials());
+            });
+  }
+
+  private Mono<Void> writeAccessToken(ServerHttpResponse response, String accessToken) {
+    AccessTokenResponse body =
+        AccessTokenResponse.bearer(accessToken, jwtProperties.getAccessTokenValidity());
+    try {
+      byte[] bytes = objectMapper.writeValueAsBytes(body);
+      response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+      return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+    } catch (JsonProcessingException e) {
+      return Mono.error(e);
+    }
+  }
+}
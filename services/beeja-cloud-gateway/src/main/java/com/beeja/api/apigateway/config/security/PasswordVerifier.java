@@ -0,0 +1,68 @@
+package com.beeja.api.apigateway.config.security;
+
+import com.beeja.api.apigateway.config.security.properties.LoginProperties;
+import com.beeja.api.apigateway.utils.Constants;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Runs BCrypt password checks on a bounded scheduler so that login bursts never occupy the Netty
+ * event loop. Attempts beyond the configured queue depth are rejected instead of piling up.
+ */
+@Slf4j
+@Component
+public class PasswordVerifier implements DisposableBean {
+
+  private final PasswordEncoder passwordEncoder;
+  private final Scheduler scheduler;
+  private final int maxQueuedVerifications;
+  private final AtomicInteger pendingVerifications = new AtomicInteger();
+
+  public PasswordVerifier(
+      PasswordEncoder passwordEncoder,
+      LoginProperties loginProperties,
+      MeterRegistry meterRegistry) {
+    this.passwordEncoder = passwordEncoder;
+    this.maxQueuedVerifications = loginProperties.getMaxQueuedVerifications();
+    this.scheduler =
+        Schedulers.newBoundedElastic(
+            loginProperties.getVerifierThreads(),
+            loginProperties.getMaxQueuedVerifications(),
+            Constants.PASSWORD_VERIFIER_SCHEDULER);
+    Gauge.builder(Constants.METRIC_LOGIN_QUEUE_DEPTH, pendingVerifications, AtomicInteger::get)
+        .description("Login attempts waiting for or running password verification")
+        .register(meterRegistry);
+    log.info(
+        Constants.PASSWORD_VERIFIER_STARTED,
+        loginProperties.getVerifierThreads(),
+        maxQueuedVerifications);
+  }
+
+  public Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+    return Mono.defer(
+        () -> {
+          if (pendingVerifications.incrementAndGet() > maxQueuedVerifications) {
+            pendingVerifications.decrementAndGet();
+            return Mono.error(
+                new AuthenticationServiceException(Constants.ERROR_LOGIN_CAPACITY_EXCEEDED));
+          }
+          return Mono.fromCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword))
+              .subscribeOn(scheduler)
+              .doFinally(signalType -> pendingVerifications.decrementAndGet());
+        });
+  }
+
+  @Override
+  public void destroy() {
+    scheduler.dispose();
+  }
+}
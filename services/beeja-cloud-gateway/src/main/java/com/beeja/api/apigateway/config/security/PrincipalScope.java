@@ -0,0 +1,50 @@
+package com.beeja.api.apigateway.config.security;
+
+import com.beeja.api.apigateway.user.UserClaims;
+import java.util.TreeSet;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+/** Derives the key under which responses may be shared between authenticated callers. */
+public final class PrincipalScope {
+
+  private PrincipalScope() {}
+
+  /**
+   * @return the caller's organization id, falling back to the user when the session carries no
+   *     organization claims, or {@code null} for unauthenticated callers
+   */
+  public static String organizationOf(Authentication authentication) {
+    if (userOf(authentication) == null) {
+      return null;
+    }
+    if (authentication.getDetails() instanceof UserClaims claims
+        && claims.getOrganizationId() != null) {
+      return claims.getOrganizationId();
+    }
+    return userOf(authentication);
+  }
+
+  /**
+   * @return the caller's permissions in a fixed order, so that callers allowed the same things
+   *     get the same value; empty when the session carries no permission claims
+   */
+  public static String permissionsOf(Authentication authentication) {
+    if (authentication != null
+        && authentication.getDetails() instanceof UserClaims claims
+        && claims.getPermissions() != null) {
+      return String.join(",", new TreeSet<>(claims.getPermissions()));
+    }
+    return "";
+  }
+
+  /** @return a key unique to the caller, or {@code null} for unauthenticated callers */
+  public static String userOf(Authentication authentication) {
+    if (authentication == null
+        || !authentication.isAuthenticated()
+        || authentication instanceof AnonymousAuthenticationToken) {
+      return null;
+    }
+    return "user:" + authentication.getName();
+  }
+}
@@ -3,6 +3,7 @@ package com.beeja.api.apigateway.config.security;
 import static org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers.pathMatchers;
 
 import com.beeja.api.apigateway.config.security.properties.AuthProperties;
+import com.beeja.api.apigateway.config.security.properties.SessionProperties;
 import com.beeja.api.apigateway.config.security.properties.SkipGatewayFilterRoutesProperty;
 import com.beeja.api.apigateway.utils.Constants;
 import java.time.Duration;
@@ -22,6 +23,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.server.SecurityWebFilterChain;
 import org.springframework.security.web.server.authentication.ServerAuthenticationFailureHandler;
+import org.springframework.security.web.server.savedrequest.NoOpServerRequestCache;
 import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.reactive.CorsWebFilter;
@@ -39,6 +41,12 @@ public class SecurityConfig {
 
   @Autowired private ServerAuthenticationFailureHandler authenticationFailureHandler;
 
+  @Autowired private LoginSuccessHandler loginSuccessHandler;
+
+  @Autowired private SessionProperties sessionProperties;
+
+  @Autowired private BearerTokenSecurityContextRepository bearerTokenSecurityContextRepository;
+
   private static final ServerWebExchangeMatcher ACCOUNTS_MATCHERS =
       pathMatchers(
           "GET",
@@ -160,6 +168,20 @@ public class SecurityConfig {
       provider.configure(serverHttpSecurity);
       log.info("Loaded Authentication Provider: {}", provider.getClass().getName());
     }
+    serverHttpSecurity.formLogin(
+        formLoginSpec -> formLoginSpec.authenticationSuccessHandler(loginSuccessHandler));
+
+    if (sessionProperties.isStateless()) {
+      serverHttpSecurity
+          .securityContextRepository(bearerTokenSecurityContextRepository)
+          .requestCache(
+              requestCacheSpec ->
+                  requestCacheSpec.requestCache(NoOpServerRequestCache.getInstance()))
+          .formLogin(
+              formLoginSpec ->
+                  formLoginSpec.securityContextRepository(bearerTokenSecurityContextRepository));
+      log.info(Constants.STATELESS_SESSIONS_ENABLED);
+    }
 
     return serverHttpSecurity.build();
   }
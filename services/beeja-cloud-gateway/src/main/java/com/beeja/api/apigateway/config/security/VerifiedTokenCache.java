@@ -0,0 +1,130 @@
+package com.beeja.api.apigateway.config.security;
+
+import com.beeja.api.apigateway.config.security.properties.JwtProperties;
+import com.beeja.api.apigateway.utils.Constants;
+import com.beeja.api.apigateway.utils.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded LRU of claims from tokens whose signature has already been verified, keyed by the
+ * SHA-256 of the token so raw tokens are never retained. An entry lives until the token's own
+ * expiry. Tokens passed to {@link #revoke(String)} are kept in a separate set that is never trimmed
+ * by size, so a revocation holds until the token would have expired anyway.
+ */
+@Component
+public class VerifiedTokenCache {
+
+  private final JwtProperties jwtProperties;
+  private final Map<String, VerifiedToken> entries;
+  private final Map<String, Long> revokedUntil = new ConcurrentHashMap<>();
+  private final Counter hits;
+  private final Counter misses;
+
+  public VerifiedTokenCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+    this.jwtProperties = jwtProperties;
+    int maxEntries = jwtProperties.getVerifiedTokenCacheSize();
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+            return size() > maxEntries;
+          }
+        };
+    this.hits = meterRegistry.counter(Constants.METRIC_VERIFIED_TOKEN_CACHE, "result", "hit");
+    this.misses = meterRegistry.counter(Constants.METRIC_VERIFIED_TOKEN_CACHE, "result", "miss");
+  }
+
+  /**
+   * Returns the claims of a valid token, verifying it only when it is not cached yet.
+   *
+   * @throws JwtException when the token is malformed, forged, expired or revoked
+   */
+  public Claims getVerifiedClaims(String token) {
+    String key = hash(token);
+    long now = System.currentTimeMillis();
+    if (isRevoked(key, now)) {
+      throw new JwtException(Constants.ERROR_TOKEN_REVOKED);
+    }
+    VerifiedToken cached = lookup(key, now);
+    if (cached != null) {
+      hits.increment();
+      return cached.claims();
+    }
+    misses.increment();
+    Claims claims = JwtUtil.parseClaims(token, jwtProperties.getSecret());
+    store(key, new VerifiedToken(claims, expiryOf(claims)));
+    return claims;
+  }
+
+  /** Rejects the token from now on, for example after the user logged out. */
+  public void revoke(String token) {
+    Claims claims;
+    try {
+      claims = JwtUtil.parseClaims(token, jwtProperties.getSecret());
+    } catch (JwtException | IllegalArgumentException e) {
+      // Tokens that no longer verify are rejected anyway.
+      return;
+    }
+    String key = hash(token);
+    revokedUntil.put(key, expiryOf(claims));
+    synchronized (this) {
+      entries.remove(key);
+    }
+  }
+
+  /** Forgets revocations of tokens that have expired since, as those are rejected anyway. */
+  @Scheduled(fixedDelayString = "PT1M")
+  public void purgeExpiredRevocations() {
+    long now = System.currentTimeMillis();
+    revokedUntil.values().removeIf(expiresAtMillis -> now >= expiresAtMillis);
+  }
+
+  private boolean isRevoked(String key, long now) {
+    Long expiresAtMillis = revokedUntil.get(key);
+    return expiresAtMillis != null && now < expiresAtMillis;
+  }
+
+  private synchronized VerifiedToken lookup(String key, long now) {
+    VerifiedToken cached = entries.get(key);
+    if (cached != null && now >= cached.expiresAtMillis()) {
+      entries.remove(key);
+      return null;
+    }
+    return cached;
+  }
+
+  private synchronized void store(String key, VerifiedToken token) {
+    // A verification racing with a revocation must not cache the token again.
+    if (!revokedUntil.containsKey(key)) {
+      entries.put(key, token);
+    }
+  }
+
+  private static long expiryOf(Claims claims) {
+    return claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime();
+  }
+
+  private static String hash(String token) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private record VerifiedToken(Claims claims, long expiresAtMillis) {}
+}
@@ -1,5 +1,6 @@
 package com.beeja.api.apigateway.config.security.properties;
 
+import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -11,4 +12,10 @@ import org.springframework.context.annotation.Configuration;
 @ConfigurationProperties(prefix = "jwt")
 public class JwtProperties {
   private String secret;
+
+  /** Lifetime of access tokens; clients renew them with their refresh token. */
+  private Duration accessTokenValidity = Duration.ofMinutes(15);
+
+  /** Verified tokens whose claims are kept in memory to skip re-verification on each request. */
+  private int verifiedTokenCacheSize = 10_000;
 }
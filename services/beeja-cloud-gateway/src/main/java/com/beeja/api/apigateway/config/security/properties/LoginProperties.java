@@ -0,0 +1,18 @@
+package com.beeja.api.apigateway.config.security.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.login")
+public class LoginProperties {
+  /** Threads dedicated to BCrypt verification, defaults to the number of available CPUs. */
+  private int verifierThreads = Runtime.getRuntime().availableProcessors();
+
+  /** Logins allowed to wait for a verifier thread before new attempts are rejected. */
+  private int maxQueuedVerifications = 256;
+}
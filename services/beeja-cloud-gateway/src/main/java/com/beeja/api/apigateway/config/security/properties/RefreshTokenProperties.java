@@ -0,0 +1,21 @@
+package com.beeja.api.apigateway.config.security.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.refresh-token")
+public class RefreshTokenProperties {
+  /** How long a refresh token can be exchanged for a new access token. */
+  private Duration validity = Duration.ofDays(14);
+
+  private String cookieName = "REFRESH_TOKEN";
+
+  /** Path the refresh cookie is scoped to, so it is only sent to the auth endpoints. */
+  private String cookiePath = "/auth";
+}
@@ -0,0 +1,25 @@
+package com.beeja.api.apigateway.config.security.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.session")
+public class SessionProperties {
+  /**
+   * When enabled the gateway keeps no session: clients send the access token as a bearer token
+   * and renew it through the refresh endpoint.
+   */
+  private boolean stateless = false;
+
+  /**
+   * How long after the login a session may keep renewing its access token. Past it the session
+   * is invalidated and the user has to sign in again, however active they are.
+   */
+  private Duration maxLifetime = Duration.ofHours(24);
+}
@@ -0,0 +1,84 @@
+package com.beeja.api.apigateway.config.security.refresh;
+
+import com.beeja.api.apigateway.config.security.properties.JwtProperties;
+import com.beeja.api.apigateway.user.UserClaims;
+import com.beeja.api.apigateway.user.UserClaimsResolver;
+import com.beeja.api.apigateway.user.UserEntity;
+import com.beeja.api.apigateway.user.UserRepository;
+import com.beeja.api.apigateway.utils.JwtUtil;
+import java.util.Date;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Mints access tokens for users who are already authenticated, by refresh token or by session,
+ * from indexed lookups only.
+ */
+@Component
+public class AccessTokenIssuer {
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private UserClaimsResolver userClaimsResolver;
+
+  @Autowired private JwtProperties jwtProperties;
+
+  /** Issues a fresh access token, failing when the user no longer exists or was deactivated. */
+  public Mono<String> issue(String email) {
+    return currentClaims(email).map(claims -> generate(email, claims, new Date()));
+  }
+
+  /**
+   * Returns a copy of the authentication carrying a fresh access token and current claims. The
+   * token keeps the original login time so the session's absolute lifetime can be enforced.
+   */
+  public Mono<Authentication> renew(Authentication authentication, Date authenticatedAt) {
+    return currentClaims(authentication.getName())
+        .map(
+            claims -> {
+              UsernamePasswordAuthenticationToken renewed =
+                  UsernamePasswordAuthenticationToken.authenticated(
+                      authentication.getPrincipal(),
+                      generate(authentication.getName(), claims, authenticatedAt),
+                      authentication.getAuthorities());
+              renewed.setDetails(claims.orElse(null));
+              return renewed;
+            });
+  }
+
+  private Mono<Optional<UserClaims>> currentClaims(String email) {
+    return userRepository
+        .findByEmail(email)
+        .filter(UserEntity::isActive)
+        .switchIfEmpty(Mono.error(new BadCredentialsException("User Not Found")))
+        .flatMap(
+            user ->
+                userClaimsResolver
+                    .resolve(email)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty()));
+  }
+
+  private String generate(String email, Optional<UserClaims> claims, Date authenticatedAt) {
+    return claims
+        .map(
+            userClaims ->
+                JwtUtil.generateToken(
+                    userClaims,
+                    jwtProperties.getSecret(),
+                    jwtProperties.getAccessTokenValidity(),
+                    authenticatedAt))
+        .orElseGet(
+            () ->
+                JwtUtil.generateToken(
+                    email,
+                    jwtProperties.getSecret(),
+                    jwtProperties.getAccessTokenValidity(),
+                    authenticatedAt));
+  }
+}
@@ -0,0 +1,10 @@
+package com.beeja.api.apigateway.config.security.refresh;
+
+import java.time.Duration;
+
+public record AccessTokenResponse(String accessToken, String tokenType, long expiresIn) {
+
+  public static AccessTokenResponse bearer(String accessToken, Duration validity) {
+    return new AccessTokenResponse(accessToken, "Bearer", validity.toSeconds());
+  }
+}
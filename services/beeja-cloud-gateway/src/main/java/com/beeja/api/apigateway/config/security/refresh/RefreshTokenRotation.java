@@ -0,0 +1,4 @@
+package com.beeja.api.apigateway.config.security.refresh;
+
+/** Result of exchanging a refresh token: its owner and the token that replaces it. */
+public record RefreshTokenRotation(String email, String refreshToken) {}
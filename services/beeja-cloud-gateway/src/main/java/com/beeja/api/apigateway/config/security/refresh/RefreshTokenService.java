@@ -0,0 +1,132 @@
+package com.beeja.api.apigateway.config.security.refresh;
+
+import com.beeja.api.apigateway.config.security.properties.RefreshTokenProperties;
+import com.beeja.api.apigateway.user.RefreshTokenEntity;
+import com.beeja.api.apigateway.user.RefreshTokenRepository;
+import com.beeja.api.apigateway.utils.Constants;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Issues and rotates opaque refresh tokens. Renewal is a single indexed {@code findAndModify} on
+ * the token hash, so it never touches the user's password.
+ */
+@Slf4j
+@Component
+public class RefreshTokenService {
+
+  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+  private static final int TOKEN_BYTES = 32;
+
+  @Autowired private RefreshTokenRepository refreshTokenRepository;
+
+  @Autowired private ReactiveMongoTemplate reactiveMongoTemplate;
+
+  @Autowired private RefreshTokenProperties refreshTokenProperties;
+
+  /** Starts a new token family for a user who has just logged in. */
+  public Mono<String> issue(String email) {
+    return issue(email, UUID.randomUUID().toString());
+  }
+
+  /**
+   * Exchanges a refresh token for a new one. A token can be exchanged only once; presenting it
+   * again means it was copied, so the whole family is revoked and the caller must log in again.
+   */
+  public Mono<RefreshTokenRotation> rotate(String refreshToken) {
+    String tokenHash = hash(refreshToken);
+    Query unusedToken =
+        Query.query(
+            Criteria.where("tokenHash")
+                .is(tokenHash)
+                .and("used")
+                .is(false)
+                .and("expiresAt")
+                .gt(new Date()));
+    return reactiveMongoTemplate
+        .findAndModify(unusedToken, Update.update("used", true), RefreshTokenEntity.class)
+        .flatMap(
+            current ->
+                issue(current.getEmail(), current.getFamilyId())
+                    .map(next -> new RefreshTokenRotation(current.getEmail(), next)))
+        .switchIfEmpty(Mono.defer(() -> revokeReusedFamily(tokenHash)));
+  }
+
+  /** Revokes the family of the given token, for example on logout. */
+  public Mono<Void> revoke(String refreshToken) {
+    return refreshTokenRepository
+        .findByTokenHash(hash(refreshToken))
+        .flatMap(token -> refreshTokenRepository.deleteByFamilyId(token.getFamilyId()))
+        .then();
+  }
+
+  public ResponseCookie cookieOf(String refreshToken) {
+    return ResponseCookie.from(refreshTokenProperties.getCookieName(), refreshToken)
+        .httpOnly(true)
+        .secure(true)
+        .sameSite("None")
+        .path(refreshTokenProperties.getCookiePath())
+        .maxAge(refreshTokenProperties.getValidity())
+        .build();
+  }
+
+  public ResponseCookie expiredCookie() {
+    return ResponseCookie.from(refreshTokenProperties.getCookieName(), "")
+        .httpOnly(true)
+        .secure(true)
+        .sameSite("None")
+        .path(refreshTokenProperties.getCookiePath())
+        .maxAge(0)
+        .build();
+  }
+
+  private Mono<String> issue(String email, String familyId) {
+    byte[] random = new byte[TOKEN_BYTES];
+    SECURE_RANDOM.nextBytes(random);
+    String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+    Date expiresAt =
+        new Date(System.currentTimeMillis() + refreshTokenProperties.getValidity().toMillis());
+    return refreshTokenRepository
+        .save(new RefreshTokenEntity(null, hash(refreshToken), email, familyId, false, expiresAt))
+        .thenReturn(refreshToken);
+  }
+
+  private Mono<RefreshTokenRotation> revokeReusedFamily(String tokenHash) {
+    return refreshTokenRepository
+        .findByTokenHash(tokenHash)
+        .filter(RefreshTokenEntity::isUsed)
+        .flatMap(
+            reused -> {
+              log.warn(Constants.REFRESH_TOKEN_REUSED, reused.getEmail());
+              return refreshTokenRepository.deleteByFamilyId(reused.getFamilyId());
+            })
+        .then(Mono.error(new BadCredentialsException(Constants.ERROR_INVALID_REFRESH_TOKEN)));
+  }
+
+  private static String hash(String refreshToken) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256")
+              .digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
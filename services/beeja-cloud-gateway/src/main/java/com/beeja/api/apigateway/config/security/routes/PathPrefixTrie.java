@@ -0,0 +1,135 @@
+package com.beeja.api.apigateway.config.security.routes;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable character trie answering whether a request path starts with any of a set of route
+ * prefixes. A {@code *} in a prefix stands for the rest of a single path segment, so {@code
+ * /files/v1/*}{@code /public} matches {@code /files/v1/abc/public}. Literal prefixes behave exactly
+ * like {@link String#startsWith(String)}, and a lookup walks the path once regardless of how many
+ * prefixes were compiled.
+ */
+public final class PathPrefixTrie {
+
+  private static final char WILDCARD = '*';
+  private static final char SEPARATOR = '/';
+
+  private static final PathPrefixTrie EMPTY = new PathPrefixTrie(null, 0);
+
+  private final Node root;
+  private final int size;
+
+  private PathPrefixTrie(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  public static PathPrefixTrie empty() {
+    return EMPTY;
+  }
+
+  /** Compiles the given prefixes, ignoring blank entries and surrounding whitespace. */
+  public static PathPrefixTrie compile(Collection<String> prefixes) {
+    if (prefixes == null || prefixes.isEmpty()) {
+      return EMPTY;
+    }
+    NodeBuilder rootBuilder = new NodeBuilder();
+    int size = 0;
+    for (String prefix : prefixes) {
+      if (prefix == null || prefix.isBlank()) {
+        continue;
+      }
+      NodeBuilder current = rootBuilder;
+      for (char c : prefix.trim().toCharArray()) {
+        current = current.child(c);
+      }
+      current.terminal = true;
+      size++;
+    }
+    return size == 0 ? EMPTY : new PathPrefixTrie(rootBuilder.build(), size);
+  }
+
+  public boolean matches(String path) {
+    return root != null && path != null && matches(root, path, 0);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private static boolean matches(Node node, String path, int index) {
+    while (true) {
+      if (node.terminal) {
+        return true;
+      }
+      if (node.wildcard != null) {
+        int segmentEnd = index;
+        while (segmentEnd < path.length() && path.charAt(segmentEnd) != SEPARATOR) {
+          segmentEnd++;
+        }
+        if (segmentEnd > index && matches(node.wildcard, path, segmentEnd)) {
+          return true;
+        }
+      }
+      if (index == path.length()) {
+        return false;
+      }
+      Node next = node.child(path.charAt(index));
+      if (next == null) {
+        return false;
+      }
+      node = next;
+      index++;
+    }
+  }
+
+  private static final class Node {
+    private final char[] keys;
+    private final Node[] children;
+    private final Node wildcard;
+    private final boolean terminal;
+
+    private Node(char[] keys, Node[] children, Node wildcard, boolean terminal) {
+      this.keys = keys;
+      this.children = children;
+      this.wildcard = wildcard;
+      this.terminal = terminal;
+    }
+
+    private Node child(char c) {
+      int position = Arrays.binarySearch(keys, c);
+      return position >= 0 ? children[position] : null;
+    }
+  }
+
+  private static final class NodeBuilder {
+    private final Map<Character, NodeBuilder> children = new TreeMap<>();
+    private NodeBuilder wildcard;
+    private boolean terminal;
+
+    private NodeBuilder child(char c) {
+      if (c == WILDCARD) {
+        if (wildcard == null) {
+          wildcard = new NodeBuilder();
+        }
+        return wildcard;
+      }
+      return children.computeIfAbsent(c, key -> new NodeBuilder());
+    }
+
+    private Node build() {
+      char[] keys = new char[children.size()];
+      Node[] nodes = new Node[children.size()];
+      int i = 0;
+      for (Map.Entry<Character, NodeBuilder> entry : children.entrySet()) {
+        keys[i] = entry.getKey();
+        nodes[i] = entry.getValue().build();
+        i++;
+      }
+      return new Node(keys, nodes, wildcard == null ? null : wildcard.build(), terminal);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.beeja.api.apigateway.config.security.routes;
+
+import com.beeja.api.apigateway.config.security.properties.SkipGatewayFilterRoutesProperty;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides whether a request path skips the token relay. The configured routes are compiled into a
+ * {@link PathPrefixTrie} once, and recompiled whenever the bound property value is replaced, for
+ * example by a configuration refresh. Concurrent requests always see either the old or the new
+ * trie, never a partially built one.
+ */
+@Slf4j
+@Component
+public class SkipRouteMatcher {
+
+  private final SkipGatewayFilterRoutesProperty skipGatewayFilterRoutesProperty;
+
+  private final AtomicReference<CompiledRoutes> compiledRoutes;
+
+  public SkipRouteMatcher(SkipGatewayFilterRoutesProperty skipGatewayFilterRoutesProperty) {
+    this.skipGatewayFilterRoutesProperty = skipGatewayFilterRoutesProperty;
+    this.compiledRoutes =
+        new AtomicReference<>(compile(skipGatewayFilterRoutesProperty.getRoutes()));
+  }
+
+  public boolean shouldSkip(String path) {
+    CompiledRoutes current = compiledRoutes.get();
+    String routes = skipGatewayFilterRoutesProperty.getRoutes();
+    if (current.source() != routes) {
+      CompiledRoutes rebuilt = compile(routes);
+      compiledRoutes.compareAndSet(current, rebuilt);
+      current = rebuilt;
+    }
+    return current.trie().matches(path);
+  }
+
+  private static CompiledRoutes compile(String routes) {
+    List<String> prefixes = routes == null ? List.of() : Arrays.asList(routes.split(","));
+    PathPrefixTrie trie = PathPrefixTrie.compile(prefixes);
+    log.info("Compiled {} skip gateway filter routes", trie.size());
+    return new CompiledRoutes(routes, trie);
+  }
+
+  private record CompiledRoutes(String source, PathPrefixTrie trie) {}
+}
@@ -1,15 +1,26 @@
 package com.beeja.api.apigateway.controllers;
 
+import com.beeja.api.apigateway.config.security.VerifiedTokenCache;
 import com.beeja.api.apigateway.config.security.properties.AuthProperties;
+import com.beeja.api.apigateway.config.security.properties.JwtProperties;
+import com.beeja.api.apigateway.config.security.properties.RefreshTokenProperties;
+import com.beeja.api.apigateway.config.security.refresh.AccessTokenIssuer;
+import com.beeja.api.apigateway.config.security.refresh.AccessTokenResponse;
+import com.beeja.api.apigateway.config.security.refresh.RefreshTokenService;
 import java.net.URI;
 import java.time.Duration;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpCookie;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -22,6 +33,16 @@ public class AuthController {
 
   @Autowired AuthProperties authProperties;
 
+  @Autowired private VerifiedTokenCache verifiedTokenCache;
+
+  @Autowired private RefreshTokenService refreshTokenService;
+
+  @Autowired private AccessTokenIssuer accessTokenIssuer;
+
+  @Autowired private RefreshTokenProperties refreshTokenProperties;
+
+  @Autowired private JwtProperties jwtProperties;
+
   @GetMapping("/logout")
   public Mono<Void> logout(
       ServerWebExchange exchange, @RequestParam(value = "error", required = false) String error) {
@@ -34,7 +55,57 @@ public class AuthController {
     } else {
       response.getHeaders().setLocation(URI.create("/login"));
     }
-    return response.setComplete();
+    return ReactiveSecurityContextHolder.getContext()
+        .mapNotNull(SecurityContext::getAuthentication)
+        .doOnNext(
+            authentication -> {
+              if (authentication.getCredentials() instanceof String token) {
+                verifiedTokenCache.revoke(token);
+              }
+            })
+        .then(revokeRefreshToken(exchange))
+        .then(Mono.defer(response::setComplete));
+  }
+
+  /** Exchanges the refresh token cookie for a new access token and a rotated refresh token. */
+  @PostMapping("/refresh")
+  public Mono<ResponseEntity<AccessTokenResponse>> refresh(ServerWebExchange exchange) {
+    HttpCookie refreshCookie =
+        exchange.getRequest().getCookies().getFirst(refreshTokenProperties.getCookieName());
+    if (refreshCookie == null) {
+      return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+    }
+    return refreshTokenService
+        .rotate(refreshCookie.getValue())
+        .flatMap(
+            rotation ->
+                accessTokenIssuer
+                    .issue(rotation.email())
+                    .map(
+                        accessToken -> {
+                          exchange
+                              .getResponse()
+                              .addCookie(refreshTokenService.cookieOf(rotation.refreshToken()));
+                          return ResponseEntity.ok(
+                              AccessTokenResponse.bearer(
+                                  accessToken, jwtProperties.getAccessTokenValidity()));
+                        }))
+        .onErrorResume(
+            BadCredentialsException.class,
+            e -> {
+              exchange.getResponse().addCookie(refreshTokenService.expiredCookie());
+              return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+            });
+  }
+
+  private Mono<Void> revokeRefreshToken(ServerWebExchange exchange) {
+    HttpCookie refreshCookie =
+        exchange.getRequest().getCookies().getFirst(refreshTokenProperties.getCookieName());
+    if (refreshCookie == null) {
+      return Mono.empty();
+    }
+    exchange.getResponse().addCookie(refreshTokenService.expiredCookie());
+    return refreshTokenService.revoke(refreshCookie.getValue());
   }
 
   @GetMapping("/login")
@@ -0,0 +1,34 @@
+package com.beeja.api.apigateway.user;
+
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * A refresh token, stored only as its SHA-256 hash. Every rotation marks the presented token as
+ * used and issues a new one in the same family; presenting a used token again revokes the family.
+ * Mongo removes documents once {@code expiresAt} has passed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "refresh_tokens")
+public class RefreshTokenEntity {
+  @Id private String id;
+
+  @Indexed(unique = true)
+  private String tokenHash;
+
+  private String email;
+
+  @Indexed private String familyId;
+
+  private boolean used;
+
+  @Indexed(expireAfterSeconds = 0)
+  private Date expiresAt;
+}
@@ -0,0 +1,13 @@
+package com.beeja.api.apigateway.user;
+
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface RefreshTokenRepository
+    extends ReactiveMongoRepository<RefreshTokenEntity, String> {
+  Mono<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+  Mono<Long> deleteByFamilyId(String familyId);
+}
@@ -0,0 +1,22 @@
+package com.beeja.api.apigateway.user;
+
+import java.io.Serializable;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Identity and permission details of a user that are embedded into the issued access token. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserClaims implements Serializable {
+  private String email;
+  private String firstName;
+  private String employeeId;
+  private String organizationId;
+  private String organizationName;
+  private String organizationEmail;
+  private Set<String> permissions;
+  private long permissionVersion;
+}
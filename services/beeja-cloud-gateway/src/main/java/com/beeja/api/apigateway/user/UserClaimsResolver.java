@@ -0,0 +1,88 @@
+package com.beeja.api.apigateway.user;
+
+import com.mongodb.DBRef;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Builds the {@link UserClaims} of a user straight from the accounts collections. The accounts
+ * service embeds copies of the user's roles and organization into the user document, so one read
+ * is enough. Users it has not migrated yet still hold DBRefs, which reactive repositories cannot
+ * resolve, so those are fetched with one query each.
+ */
+@Component
+public class UserClaimsResolver {
+
+  private static final String USERS_COLLECTION = "users";
+  private static final String ROLES_COLLECTION = "roles";
+  private static final String ORGANIZATIONS_COLLECTION = "organizations";
+
+  @Autowired private ReactiveMongoTemplate reactiveMongoTemplate;
+
+  public Mono<UserClaims> resolve(String email) {
+    return reactiveMongoTemplate
+        .findOne(Query.query(Criteria.where("email").is(email)), Document.class, USERS_COLLECTION)
+        .flatMap(
+            user ->
+                Mono.zip(
+                    loadPermissions(user),
+                    loadOrganization(user),
+                    (permissions, organization) ->
+                        new UserClaims(
+                            user.getString("email"),
+                            user.getString("firstName"),
+                            user.getString("employeeId"),
+                            organization.get("_id") == null
+                                ? null
+                                : organization.get("_id").toString(),
+                            organization.getString("name"),
+                            organization.getString("email"),
+                            permissions,
+                            readPermissionVersion(user))));
+  }
+
+  private Mono<TreeSet<String>> loadPermissions(Document user) {
+    TreeSet<String> permissions = new TreeSet<>();
+    List<Object> roleIds = new ArrayList<>();
+    for (Object role : user.getList("roles", Object.class, List.of())) {
+      if (role instanceof Document embeddedRole) {
+        permissions.addAll(embeddedRole.getList("permissions", String.class, List.of()));
+      } else if (role instanceof DBRef roleRef && roleRef.getId() != null) {
+        roleIds.add(roleRef.getId());
+      }
+    }
+    if (roleIds.isEmpty()) {
+      return Mono.just(permissions);
+    }
+    return reactiveMongoTemplate
+        .find(Query.query(Criteria.where("_id").in(roleIds)), Document.class, ROLES_COLLECTION)
+        .map(role -> role.getList("permissions", String.class, List.of()))
+        .collect(() -> new TreeSet<>(permissions), TreeSet::addAll);
+  }
+
+  private Mono<Document> loadOrganization(Document user) {
+    Object organization = user.get("organizations");
+    if (organization instanceof Document embeddedOrganization) {
+      return Mono.just(embeddedOrganization);
+    }
+    if (!(organization instanceof DBRef organizationRef)) {
+      return Mono.just(new Document());
+    }
+    return reactiveMongoTemplate
+        .findById(organizationRef.getId(), Document.class, ORGANIZATIONS_COLLECTION)
+        .defaultIfEmpty(new Document());
+  }
+
+  private long readPermissionVersion(Document user) {
+    Object version = user.get("permissionVersion");
+    return version instanceof Number ? ((Number) version).longValue() : 0L;
+  }
+}
@@ -1,9 +1,10 @@
 package com.beeja.api.apigateway.user;
 
-import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
 
 @Repository
-public interface UserRepository extends MongoRepository<UserEntity, String> {
-  UserEntity findByEmail(String email);
+public interface UserRepository extends ReactiveMongoRepository<UserEntity, String> {
+  Mono<UserEntity> findByEmail(String email);
 }
@@ -4,4 +4,31 @@ public class Constants {
   public static final String REGISTERED_USERNAME_PASSWORD_PROVIDER =
       "Registered User Name Password Auth Provider";
   public static final String ERROR_MISSING_FE_URLS = "Missing Frontend Urls for CORS";
+
+  public static final String PASSWORD_VERIFIER_SCHEDULER = "password-verifier";
+  public static final String PASSWORD_VERIFIER_STARTED =
+      "Password verifier started with {} threads and a queue of {}";
+  public static final String METRIC_LOGIN_QUEUE_DEPTH = "gateway.login.verification.queue";
+  public static final String ERROR_LOGIN_CAPACITY_EXCEEDED =
+      "Too many login attempts in progress, please try again";
+
+  public static final String RATE_LIMIT_EXCEEDED =
+      "Rate limit exceeded for user {} of organization {}";
+
+  public static final String METRIC_RESPONSE_CACHE = "gateway.response.cache";
+  public static final String METRIC_RESPONSE_CACHE_SIZE = "gateway.response.cache.size";
+  public static final String METRIC_COALESCED_REQUESTS = "gateway.requests.coalesced";
+
+  public static final String METRIC_VERIFIED_TOKEN_CACHE = "gateway.token.cache";
+  public static final String ERROR_TOKEN_REVOKED = "Token has been revoked";
+  public static final String ERROR_RELAY_INVALID_TOKEN = "Refusing to relay invalid token: {}";
+
+  public static final String ERROR_INVALID_REFRESH_TOKEN = "Invalid or expired refresh token";
+  public static final String REFRESH_TOKEN_REUSED =
+      "Refresh token reused for {}, revoking the whole token family";
+  public static final String SESSION_ACCESS_TOKEN_RENEWED = "Renewed expired access token of {}";
+  public static final String ERROR_SESSION_LIFETIME_EXCEEDED =
+      "Session reached its maximum lifetime, sign in again";
+  public static final String STATELESS_SESSIONS_ENABLED =
+      "Stateless mode: requests are authenticated by bearer access token";
 }
@@ -1,21 +1,120 @@
 package com.beeja.api.apigateway.utils;
 
+import com.beeja.api.apigateway.user.UserClaims;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 
 public class JwtUtil {
 
-  private static final long EXPIRATION_TIME = 864_000_000;
+  public static final String CLAIM_EMPLOYEE_ID = "eid";
+  public static final String CLAIM_NAME = "name";
+  public static final String CLAIM_ORGANIZATION = "org";
+  public static final String CLAIM_PERMISSIONS = "perms";
+  public static final String CLAIM_PERMISSION_VERSION = "pv";
 
-  public static String generateToken(String email, String key) {
+  /** When the user last entered their credentials, in epoch seconds as in OpenID Connect. */
+  public static final String CLAIM_AUTH_TIME = "auth_time";
+
+  public static String generateToken(String email, String key, Duration validity) {
+    return generateToken(email, key, validity, new Date());
+  }
+
+  /** Generates a token for a user who entered their credentials at {@code authenticatedAt}. */
+  public static String generateToken(
+      String email, String key, Duration validity, Date authenticatedAt) {
+    long now = System.currentTimeMillis();
     return Jwts.builder()
         .setSubject(email)
-        .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
+        .claim(CLAIM_AUTH_TIME, authenticatedAt.getTime() / 1000)
+        .setIssuedAt(new Date(now))
+        .setExpiration(new Date(now + validity.toMillis()))
         .signWith(SignatureAlgorithm.HS256, key)
         .compact();
   }
 
+  public static String generateToken(UserClaims userClaims, String key, Duration validity) {
+    return generateToken(userClaims, key, validity, new Date());
+  }
+
+  /**
+   * Generates a token that carries the user's employee id, organization and permissions along
+   * with the permission version they were read at, so that resource services can authenticate the
+   * request without looking the user up in accounts.
+   */
+  public static String generateToken(
+      UserClaims userClaims, String key, Duration validity, Date authenticatedAt) {
+    Map<String, Object> organization = new HashMap<>();
+    organization.put("id", userClaims.getOrganizationId());
+    organization.put("name", userClaims.getOrganizationName());
+    organization.put("email", userClaims.getOrganizationEmail());
+
+    long now = System.currentTimeMillis();
+    return Jwts.builder()
+        .setSubject(userClaims.getEmail())
+        .claim(CLAIM_EMPLOYEE_ID, userClaims.getEmployeeId())
+        .claim(CLAIM_NAME, userClaims.getFirstName())
+        .claim(CLAIM_ORGANIZATION, organization)
+        .claim(CLAIM_PERMISSIONS, userClaims.getPermissions())
+        .claim(CLAIM_PERMISSION_VERSION, userClaims.getPermissionVersion())
+        .claim(CLAIM_AUTH_TIME, authenticatedAt.getTime() / 1000)
+        .setIssuedAt(new Date(now))
+        .setExpiration(new Date(now + validity.toMillis()))
+        .signWith(SignatureAlgorithm.HS256, key)
+        .compact();
+  }
+
+  /** Verifies the signature and expiry of the token and returns its claims. */
+  public static Claims parseClaims(String token, String key) {
+    return Jwts.parser().setSigningKey(key).parseClaimsJws(token).getBody();
+  }
+
+  /**
+   * Returns when the user behind the token entered their credentials. Tokens minted before the
+   * claim existed fall back to their issue time.
+   *
+   * @return the time, or {@code null} when the token carries neither claim
+   */
+  public static Date authenticatedAt(Claims claims) {
+    if (claims.get(CLAIM_AUTH_TIME) instanceof Number authTime) {
+      return new Date(authTime.longValue() * 1000);
+    }
+    return claims.getIssuedAt();
+  }
+
+  /**
+   * Reads the identity claims back from a verified token.
+   *
+   * @return the claims, or {@code null} for tokens issued without organization claims
+   */
+  public static UserClaims toUserClaims(Claims claims) {
+    if (!(claims.get(CLAIM_ORGANIZATION) instanceof Map<?, ?> organization)) {
+      return null;
+    }
+    Set<String> permissions = new TreeSet<>();
+    if (claims.get(CLAIM_PERMISSIONS) instanceof Collection<?> granted) {
+      granted.forEach(permission -> permissions.add(String.valueOf(permission)));
+    }
+    Object permissionVersion = claims.get(CLAIM_PERMISSION_VERSION);
+    return new UserClaims(
+        claims.getSubject(),
+        Objects.toString(claims.get(CLAIM_NAME), null),
+        Objects.toString(claims.get(CLAIM_EMPLOYEE_ID), null),
+        Objects.toString(organization.get("id"), null),
+        Objects.toString(organization.get("name"), null),
+        Objects.toString(organization.get("email"), null),
+        permissions,
+        permissionVersion instanceof Number ? ((Number) permissionVersion).longValue() : 0L);
+  }
+
   public static String extractUsername(String token, String key) {
     return Jwts.parser().setSigningKey(key).parseClaimsJws(token).getBody().getSubject();
   }
@@ -0,0 +1,91 @@
+package com.beeja.api.apigateway.config.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.beeja.api.apigateway.config.cache.ResponseCache.CacheKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+class ResponseCacheTest {
+
+  private static ResponseCache cacheOf(int maxEntries) {
+    ResponseCacheProperties properties = new ResponseCacheProperties();
+    properties.setMaxEntries(maxEntries);
+    return new ResponseCache(properties, new SimpleMeterRegistry());
+  }
+
+  private static CachedResponse response(String body, long expiresAtNanos) {
+    return CachedResponse.of(
+        body.getBytes(StandardCharsets.UTF_8), MediaType.APPLICATION_JSON, expiresAtNanos);
+  }
+
+  @Test
+  void entriesExpireAfterTheirTimeToLive() {
+    ResponseCache cache = cacheOf(10);
+    CacheKey key = new CacheKey("ACCOUNTS-REFERENCE-DATA", "org-1", "REMP", "/accounts/v1/roles");
+    cache.put(key, response("[]", 100L));
+
+    assertNotNull(cache.get(key, 99L));
+    assertNull(cache.get(key, 100L));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void leastRecentlyUsedEntryIsDroppedWhenFull() {
+    ResponseCache cache = cacheOf(2);
+    CacheKey first = new CacheKey("route", "org-1", "REMP", "/a");
+    CacheKey second = new CacheKey("route", "org-1", "REMP", "/b");
+    CacheKey third = new CacheKey("route", "org-1", "REMP", "/c");
+    cache.put(first, response("a", Long.MAX_VALUE));
+    cache.put(second, response("b", Long.MAX_VALUE));
+    cache.get(first, 0L);
+    cache.put(third, response("c", Long.MAX_VALUE));
+
+    assertNotNull(cache.get(first, 0L));
+    assertNull(cache.get(second, 0L));
+    assertNotNull(cache.get(third, 0L));
+  }
+
+  @Test
+  void evictingAnOrganizationLeavesOtherTenantsCached() {
+    ResponseCache cache = cacheOf(10);
+    CacheKey roles = new CacheKey("accounts", "org-1", "REMP", "/accounts/v1/roles");
+    CacheKey values = new CacheKey("expenses", "org-1", "REMP", "/expenses/v1/expense-values");
+    CacheKey otherTenant = new CacheKey("accounts", "org-2", "REMP", "/accounts/v1/roles");
+    cache.put(roles, response("[]", Long.MAX_VALUE));
+    cache.put(values, response("[]", Long.MAX_VALUE));
+    cache.put(otherTenant, response("[]", Long.MAX_VALUE));
+
+    cache.evictOrganization("org-1");
+
+    assertNull(cache.get(roles, 0L));
+    assertNull(cache.get(values, 0L));
+    assertNotNull(cache.get(otherTenant, 0L));
+  }
+
+  @Test
+  void callersWithOtherPermissionsDoNotShareEntries() {
+    ResponseCache cache = cacheOf(10);
+    cache.put(
+        new CacheKey("accounts", "org-1", "CEMP,REMP", "/accounts/v1/roles"),
+        response("[]", Long.MAX_VALUE));
+
+    assertNull(cache.get(new CacheKey("accounts", "org-1", "", "/accounts/v1/roles"), 0L));
+    assertNotNull(
+        cache.get(new CacheKey("accounts", "org-1", "CEMP,REMP", "/accounts/v1/roles"), 0L));
+  }
+
+  @Test
+  void eTagIsStrongAndDependsOnlyOnTheBody() {
+    String eTag = response("{\"a\":1}", 0L).eTag();
+
+    assertEquals(eTag, response("{\"a\":1}", 5L).eTag());
+    assertNotEquals(eTag, response("{\"a\":2}", 0L).eTag());
+    assertEquals('"', eTag.charAt(0));
+  }
+}
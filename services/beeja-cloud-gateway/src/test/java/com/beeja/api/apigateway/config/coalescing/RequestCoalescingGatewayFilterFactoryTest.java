@@ -0,0 +1,100 @@
+package com.beeja.api.apigateway.config.coalescing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.beeja.api.apigateway.user.UserClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import reactor.core.publisher.Mono;
+
+class RequestCoalescingGatewayFilterFactoryTest {
+
+  private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+  private GatewayFilter filter;
+
+  /** Answers after a delay, so that the second caller arrives while the first is in flight. */
+  private final GatewayFilterChain upstream =
+      exchange -> {
+        upstreamCalls.incrementAndGet();
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+        return Mono.delay(Duration.ofMillis(200))
+            .then(
+                Mono.defer(
+                    () -> response.writeWith(Mono.just(response.bufferFactory().wrap(body)))));
+      };
+
+  @BeforeEach
+  void setUp() {
+    RequestCoalescingGatewayFilterFactory factory =
+        new RequestCoalescingGatewayFilterFactory(
+            new SimpleMeterRegistry(), new RequestCoalescingProperties());
+    RequestCoalescingGatewayFilterFactory.Config config =
+        new RequestCoalescingGatewayFilterFactory.Config();
+    config.setScope(RequestCoalescingGatewayFilterFactory.Scope.ORGANIZATION);
+    filter = factory.apply(config);
+  }
+
+  @Test
+  void callersWithTheSamePermissionsShareOneRequest() {
+    MockServerWebExchange follower = exchange();
+
+    Mono.when(
+            call(exchange(), caller("a@beeja.io", Set.of("REMP", "UEMP"))),
+            call(follower, caller("b@beeja.io", Set.of("UEMP", "REMP"))))
+        .block(Duration.ofSeconds(5));
+
+    assertEquals(1, upstreamCalls.get());
+    assertEquals("[]", follower.getResponse().getBodyAsString().block());
+  }
+
+  @Test
+  void callersWithDifferentPermissionsAreNotCoalesced() {
+    Mono.when(
+            call(exchange(), caller("a@beeja.io", Set.of("REMP", "UEMP"))),
+            call(exchange(), caller("b@beeja.io", Set.of("REMP"))))
+        .block(Duration.ofSeconds(5));
+
+    assertEquals(2, upstreamCalls.get());
+  }
+
+  private Mono<Void> call(
+      MockServerWebExchange exchange, UsernamePasswordAuthenticationToken caller) {
+    return filter
+        .filter(exchange, upstream)
+        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(caller));
+  }
+
+  private static MockServerWebExchange exchange() {
+    return MockServerWebExchange.from(MockServerHttpRequest.get("/accounts/v1/roles"));
+  }
+
+  private static UsernamePasswordAuthenticationToken caller(String email, Set<String> permissions) {
+    UsernamePasswordAuthenticationToken authentication =
+        new UsernamePasswordAuthenticationToken(email, null, List.of());
+    UserClaims claims = new UserClaims();
+    claims.setEmail(email);
+    claims.setOrganizationId("org-1");
+    claims.setPermissions(permissions);
+    authentication.setDetails(claims);
+    return authentication;
+  }
+}
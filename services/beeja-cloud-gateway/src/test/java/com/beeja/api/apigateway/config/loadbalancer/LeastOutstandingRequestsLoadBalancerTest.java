@@ -0,0 +1,80 @@
+package com.beeja.api.apigateway.config.loadbalancer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+class LeastOutstandingRequestsLoadBalancerTest {
+
+  private final InstanceLoadTracker tracker = new InstanceLoadTracker();
+
+  private final LeastOutstandingRequestsLoadBalancer loadBalancer =
+      new LeastOutstandingRequestsLoadBalancer(null, tracker);
+
+  private static ServiceInstance instance(String host) {
+    return new DefaultServiceInstance(host, "FINANCE-SERVICE", host, 8080, false);
+  }
+
+  /** Routes a request to the instance that stays in flight until the result is disposed. */
+  private Disposable startRequest(ServiceInstance instance) {
+    MockServerWebExchange exchange =
+        MockServerWebExchange.from(MockServerHttpRequest.get("/finance/v1/loans"));
+    DefaultResponse lbResponse = new DefaultResponse(instance);
+    exchange.getAttributes().put(GATEWAY_LOADBALANCER_RESPONSE_ATTR, lbResponse);
+    return tracker.filter(exchange, ignored -> Mono.never()).subscribe();
+  }
+
+  @Test
+  void busyInstanceIsAvoidedWhenThereAreTwoCandidates() {
+    ServiceInstance busy = instance("finance-1");
+    ServiceInstance idle = instance("finance-2");
+    for (int i = 0; i < 5; i++) {
+      startRequest(busy);
+    }
+
+    for (int i = 0; i < 100; i++) {
+      assertSame(idle, loadBalancer.choose(List.of(busy, idle)).getServer());
+    }
+  }
+
+  @Test
+  void mostLoadedInstanceIsNeverPickedFromALargerPool() {
+    ServiceInstance busiest = instance("finance-1");
+    List<ServiceInstance> instances =
+        List.of(busiest, instance("finance-2"), instance("finance-3"), instance("finance-4"));
+    for (int i = 0; i < 3; i++) {
+      startRequest(busiest);
+    }
+
+    for (int i = 0; i < 100; i++) {
+      assertNotSame(busiest, loadBalancer.choose(instances).getServer());
+    }
+  }
+
+  @Test
+  void emptyInstanceListYieldsNoServer() {
+    assertFalse(loadBalancer.choose(List.of()).hasServer());
+  }
+
+  @Test
+  void cancelledRequestsAreNoLongerCounted() {
+    ServiceInstance instance = instance("finance-1");
+    double idleCost = tracker.costOf(instance);
+
+    startRequest(instance).dispose();
+
+    assertEquals(idleCost, tracker.costOf(instance));
+  }
+}
@@ -0,0 +1,71 @@
+package com.beeja.api.apigateway.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.beeja.api.apigateway.config.security.properties.JwtProperties;
+import com.beeja.api.apigateway.utils.JwtUtil;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+  private static final String SECRET = "verified-token-cache-test-secret";
+  private static final Duration VALIDITY = Duration.ofMinutes(15);
+
+  private VerifiedTokenCache cache;
+
+  @BeforeEach
+  void setUp() {
+    JwtProperties jwtProperties = new JwtProperties();
+    jwtProperties.setSecret(SECRET);
+    cache = new VerifiedTokenCache(jwtProperties, new SimpleMeterRegistry());
+  }
+
+  @Test
+  void verifiedClaimsAreServedFromTheCache() {
+    String token = JwtUtil.generateToken("user@beeja.io", SECRET, VALIDITY);
+
+    assertEquals("user@beeja.io", cache.getVerifiedClaims(token).getSubject());
+    assertSame(cache.getVerifiedClaims(token), cache.getVerifiedClaims(token));
+  }
+
+  @Test
+  void tokensSignedWithAnotherKeyAreRejected() {
+    String token = JwtUtil.generateToken("user@beeja.io", "some-other-secret", VALIDITY);
+
+    assertThrows(JwtException.class, () -> cache.getVerifiedClaims(token));
+  }
+
+  @Test
+  void revokedTokensAreRejectedEvenWhenAlreadyCached() {
+    String token = JwtUtil.generateToken("user@beeja.io", SECRET, VALIDITY);
+    cache.getVerifiedClaims(token);
+
+    cache.revoke(token);
+
+    assertThrows(JwtException.class, () -> cache.getVerifiedClaims(token));
+  }
+
+  @Test
+  void revocationsOutliveEvictionOfTheCachedClaims() {
+    JwtProperties jwtProperties = new JwtProperties();
+    jwtProperties.setSecret(SECRET);
+    jwtProperties.setVerifiedTokenCacheSize(1);
+    VerifiedTokenCache smallCache =
+        new VerifiedTokenCache(jwtProperties, new SimpleMeterRegistry());
+    String token = JwtUtil.generateToken("user@beeja.io", SECRET, VALIDITY);
+    smallCache.revoke(token);
+
+    for (int i = 0; i < 10; i++) {
+      String other = JwtUtil.generateToken("other" + i + "@beeja.io", SECRET, VALIDITY);
+      smallCache.getVerifiedClaims(other);
+    }
+
+    assertThrows(JwtException.class, () -> smallCache.getVerifiedClaims(token));
+  }
+}
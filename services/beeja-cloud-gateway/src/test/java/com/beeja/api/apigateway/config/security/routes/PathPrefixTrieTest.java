@@ -0,0 +1,57 @@
+package com.beeja.api.apigateway.config.security.routes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PathPrefixTrieTest {
+
+  @Test
+  void literalPrefixesBehaveLikeStartsWith() {
+    PathPrefixTrie trie =
+        PathPrefixTrie.compile(List.of("/accounts/public", "/employees/v1/users/me"));
+
+    assertTrue(trie.matches("/accounts/public"));
+    assertTrue(trie.matches("/accounts/public/organizations"));
+    assertTrue(trie.matches("/accounts/publicity"));
+    assertTrue(trie.matches("/employees/v1/users/me"));
+    assertFalse(trie.matches("/accounts/pub"));
+    assertFalse(trie.matches("/employees/v1/users"));
+    assertFalse(trie.matches("/finance/v1/loans"));
+  }
+
+  @Test
+  void wildcardMatchesExactlyOneNonEmptySegment() {
+    PathPrefixTrie trie = PathPrefixTrie.compile(List.of("/files/*/public"));
+
+    assertTrue(trie.matches("/files/v1/public"));
+    assertTrue(trie.matches("/files/v2/public/logo.png"));
+    assertFalse(trie.matches("/files//public"));
+    assertFalse(trie.matches("/files/v1/private"));
+    assertFalse(trie.matches("/files/v1/v2/public"));
+  }
+
+  @Test
+  void literalAndWildcardBranchesAreBothExplored() {
+    PathPrefixTrie trie =
+        PathPrefixTrie.compile(List.of("/recruitments/v1/*/resume", "/recruitments/v1/referrals"));
+
+    assertTrue(trie.matches("/recruitments/v1/referrals"));
+    assertTrue(trie.matches("/recruitments/v1/APP001/resume"));
+    assertFalse(trie.matches("/recruitments/v1/applicants"));
+  }
+
+  @Test
+  void blankEntriesAreIgnored() {
+    PathPrefixTrie trie = PathPrefixTrie.compile(Arrays.asList(" /accounts/public ", "", null));
+
+    assertEquals(1, trie.size());
+    assertTrue(trie.matches("/accounts/public/organizations"));
+    assertFalse(trie.matches("/employees"));
+    assertFalse(PathPrefixTrie.empty().matches("/accounts/public"));
+  }
+}
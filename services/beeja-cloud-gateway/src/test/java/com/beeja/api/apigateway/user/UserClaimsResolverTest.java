@@ -0,0 +1,91 @@
+package com.beeja.api.apigateway.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.DBRef;
+import java.util.List;
+import java.util.Set;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class UserClaimsResolverTest {
+
+  private static final ObjectId ORGANIZATION_ID = new ObjectId();
+
+  @Mock private ReactiveMongoTemplate reactiveMongoTemplate;
+
+  @InjectMocks private UserClaimsResolver userClaimsResolver;
+
+  @Test
+  void claimsAreReadFromEmbeddedRolesAndOrganization() {
+    Document user =
+        user()
+            .append(
+                "roles",
+                List.of(
+                    new Document("_id", new ObjectId()).append("permissions", List.of("REMP")),
+                    new Document("_id", new ObjectId())
+                        .append("permissions", List.of("UEMP", "REMP"))))
+            .append(
+                "organizations",
+                new Document("_id", ORGANIZATION_ID)
+                    .append("name", "Beeja")
+                    .append("email", "admin@beeja.io"));
+    when(reactiveMongoTemplate.findOne(any(Query.class), eq(Document.class), eq("users")))
+        .thenReturn(Mono.just(user));
+
+    UserClaims claims = userClaimsResolver.resolve("a@beeja.io").block();
+
+    assertEquals(Set.of("REMP", "UEMP"), claims.getPermissions());
+    assertEquals(ORGANIZATION_ID.toHexString(), claims.getOrganizationId());
+    assertEquals("Beeja", claims.getOrganizationName());
+    assertEquals("admin@beeja.io", claims.getOrganizationEmail());
+    assertEquals(4L, claims.getPermissionVersion());
+    verify(reactiveMongoTemplate, never()).find(any(Query.class), eq(Document.class), anyString());
+    verify(reactiveMongoTemplate, never()).findById(any(), eq(Document.class), anyString());
+  }
+
+  @Test
+  void referencedRolesAndOrganizationAreStillFetched() {
+    ObjectId roleId = new ObjectId();
+    Document user =
+        user()
+            .append("roles", List.of(new DBRef("roles", roleId)))
+            .append("organizations", new DBRef("organizations", ORGANIZATION_ID));
+    when(reactiveMongoTemplate.findOne(any(Query.class), eq(Document.class), eq("users")))
+        .thenReturn(Mono.just(user));
+    when(reactiveMongoTemplate.find(any(Query.class), eq(Document.class), eq("roles")))
+        .thenReturn(Flux.just(new Document("_id", roleId).append("permissions", List.of("REMP"))));
+    when(reactiveMongoTemplate.findById(ORGANIZATION_ID, Document.class, "organizations"))
+        .thenReturn(Mono.just(new Document("_id", ORGANIZATION_ID).append("name", "Beeja")));
+
+    UserClaims claims = userClaimsResolver.resolve("a@beeja.io").block();
+
+    assertEquals(Set.of("REMP"), claims.getPermissions());
+    assertEquals(ORGANIZATION_ID.toHexString(), claims.getOrganizationId());
+    assertEquals("Beeja", claims.getOrganizationName());
+  }
+
+  private static Document user() {
+    return new Document("email", "a@beeja.io")
+        .append("firstName", "Ann")
+        .append("employeeId", "E1")
+        .append("permissionVersion", 4L);
+  }
+}
@@ -0,0 +1,72 @@
+package com.beeja.api.commons.principal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps a service's principal cache in step with accounts. Each {@link #poll()} reads which users'
+ * roles, permissions or status changed since the last poll and evicts only those users. When
+ * accounts can no longer say what changed, or its history was restarted, the whole cache is
+ * dropped instead.
+ */
+public class PrincipalInvalidationFollower {
+
+  private static final Logger log = LoggerFactory.getLogger(PrincipalInvalidationFollower.class);
+
+  /** Reads the events after a version, normally from accounts. */
+  @FunctionalInterface
+  public interface InvalidationSource {
+    PrincipalInvalidations after(long version);
+  }
+
+  /** The cache the events are applied to. */
+  public interface EvictionTarget {
+    void evict(String email);
+
+    void evictAll();
+  }
+
+  private final InvalidationSource source;
+  private final EvictionTarget target;
+
+  /** Last change applied to the cache; {@code -1} until accounts has been reached once. */
+  private long lastVersion = -1;
+
+  public PrincipalInvalidationFollower(InvalidationSource source, EvictionTarget target) {
+    this.source = source;
+    this.target = target;
+  }
+
+  public synchronized void poll() {
+    PrincipalInvalidations batch;
+    try {
+      batch = source.after(lastVersion);
+    } catch (Exception e) {
+      log.warn("Could not read principal invalidations from accounts: {}", e.getMessage());
+      return;
+    }
+    if (batch == null) {
+      return;
+    }
+    if (lastVersion < 0) {
+      // Nothing cached so far can predate this version by much, so start following from here.
+      lastVersion = batch.latestVersion();
+    } else if (batch.reset() || batch.latestVersion() < lastVersion) {
+      target.evictAll();
+      lastVersion = batch.latestVersion();
+    } else if (batch.invalidations() != null) {
+      for (PrincipalInvalidations.Invalidation change : batch.invalidations()) {
+        // Never step over a version, even if accounts sent one out of order.
+        if (change.version() != lastVersion + 1) {
+          return;
+        }
+        change.emails().forEach(target::evict);
+        lastVersion = change.version();
+      }
+    }
+  }
+
+  public synchronized long lastVersion() {
+    return lastVersion;
+  }
+}
@@ -0,0 +1,19 @@
+package com.beeja.api.commons.principal;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Page of accounts' principal invalidation events, as served by {@code GET
+ * /v1/principal-invalidations}.
+ *
+ * @param latestVersion the newest version accounts has handed out
+ * @param reset set when events the caller has not seen are gone, so every principal is stale
+ * @param invalidations the unbroken run of events right after the requested version
+ */
+public record PrincipalInvalidations(
+    long latestVersion, boolean reset, List<Invalidation> invalidations) {
+
+  /** Users whose roles, permissions or status changed at this version. */
+  public record Invalidation(long version, Set<String> emails) {}
+}
@@ -0,0 +1,83 @@
+package com.beeja.api.commons.principal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.beeja.api.commons.principal.PrincipalInvalidations.Invalidation;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PrincipalInvalidationFollowerTest {
+
+  private final Deque<PrincipalInvalidations> responses = new ArrayDeque<>();
+  private final List<String> evicted = new ArrayList<>();
+  private int evictedAll;
+
+  private PrincipalInvalidationFollower follower;
+
+  @BeforeEach
+  void setUp() {
+    follower =
+        new PrincipalInvalidationFollower(
+            version -> responses.poll(),
+            new PrincipalInvalidationFollower.EvictionTarget() {
+              @Override
+              public void evict(String email) {
+                evicted.add(email);
+              }
+
+              @Override
+              public void evictAll() {
+                evictedAll++;
+              }
+            });
+    responses.add(new PrincipalInvalidations(4, false, List.of()));
+    follower.poll();
+  }
+
+  @Test
+  void changedUsersAreEvictedAndTheVersionAdvances() {
+    responses.add(
+        new PrincipalInvalidations(
+            6,
+            false,
+            List.of(
+                new Invalidation(5, Set.of("a@beeja.io")),
+                new Invalidation(6, Set.of("b@beeja.io")))));
+
+    follower.poll();
+
+    assertEquals(List.of("a@beeja.io", "b@beeja.io"), evicted);
+    assertEquals(6, follower.lastVersion());
+  }
+
+  @Test
+  void followerStopsAtAGapInsideTheBatch() {
+    responses.add(
+        new PrincipalInvalidations(
+            7,
+            false,
+            List.of(
+                new Invalidation(5, Set.of("a@beeja.io")),
+                new Invalidation(7, Set.of("c@beeja.io")))));
+
+    follower.poll();
+
+    assertEquals(List.of("a@beeja.io"), evicted);
+    assertEquals(5, follower.lastVersion());
+  }
+
+  @Test
+  void resetDropsTheWholeCache() {
+    responses.add(new PrincipalInvalidations(9, true, List.of()));
+
+    follower.poll();
+
+    assertEquals(1, evictedAll);
+    assertEquals(9, follower.lastVersion());
+  }
+}
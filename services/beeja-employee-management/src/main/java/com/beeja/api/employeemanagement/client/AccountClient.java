@@ -1,15 +1,19 @@
 package com.beeja.api.employeemanagement.client;
 
+import com.beeja.api.commons.principal.PrincipalInvalidations;
 import com.beeja.api.employeemanagement.requests.EmployeeOrgRequest;
 import com.beeja.api.employeemanagement.requests.EmployeeUpdateRequest;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
 @FeignClient(value = "account-service", url = "${client-urls.accountsService}")
@@ -22,6 +26,16 @@ public interface AccountClient {
   @GetMapping("v1/users/email/{email}")
   ResponseEntity<?> getEmployeeByEmail(@PathVariable String email);
 
+  @GetMapping("v1/users/email/{email}")
+  ResponseEntity<?> getEmployeeByEmail(
+      @PathVariable String email, @RequestHeader("Authorization") String authorizationHeader);
+
+  @GetMapping("v1/users/organizations/{organizationId}/email/{email}")
+  ResponseEntity<?> getUserOfOrganizationByEmail(
+      @PathVariable String organizationId,
+      @PathVariable String email,
+      @RequestHeader("Authorization") String authorizationHeader);
+
   @GetMapping("v1/users/{employeeId}")
   ResponseEntity<Object> getUserByEmployeeId(@PathVariable String employeeId);
 
@@ -35,4 +49,14 @@ public interface AccountClient {
   @RequestMapping(value = "/v1/users/emp-ids", method = RequestMethod.POST)
   @ResponseBody
   ResponseEntity<Object> getUsersByEmployeeIds(@RequestBody EmployeeOrgRequest employeeOrgRequest);
+
+  @PostMapping("/v1/users/organizations/{organizationId}/emp-ids")
+  ResponseEntity<Object> getUsersOfOrganizationByEmployeeIds(
+      @PathVariable String organizationId,
+      @RequestBody EmployeeOrgRequest employeeOrgRequest,
+      @RequestHeader("Authorization") String authorizationHeader);
+
+  @GetMapping("/v1/principal-invalidations")
+  ResponseEntity<PrincipalInvalidations> getPrincipalInvalidations(
+      @RequestParam long after, @RequestHeader("Authorization") String authorizationHeader);
 }
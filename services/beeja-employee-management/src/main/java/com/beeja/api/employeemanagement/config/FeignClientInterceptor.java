@@ -1,5 +1,6 @@
 package com.beeja.api.employeemanagement.config;
 
+import com.beeja.api.employeemanagement.utils.UserContext;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
 import org.springframework.stereotype.Component;
@@ -11,6 +12,10 @@ public class FeignClientInterceptor implements RequestInterceptor {
 
   @Override
   public void apply(RequestTemplate template) {
+    // Calls made with the internal endpoint token set it themselves.
+    if (template.headers().containsKey("authorization")) {
+      return;
+    }
     String token = getRequestToken();
     if (token != null) {
       template.header("authorization", token);
@@ -23,6 +28,7 @@ public class FeignClientInterceptor implements RequestInterceptor {
     if (attributes != null) {
       return attributes.getRequest().getHeader("authorization");
     }
-    return null;
+    // Outside a request thread, e.g. in @Async work, fall back to the propagated user's token.
+    return UserContext.getAccessToken();
   }
 }
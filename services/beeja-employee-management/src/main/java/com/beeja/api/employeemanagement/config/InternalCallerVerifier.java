@@ -0,0 +1,39 @@
+package com.beeja.api.employeemanagement.config;
+
+import static com.beeja.api.employeemanagement.utils.Constants.UNAUTHORISED_ACCESS;
+
+import com.beeja.api.employeemanagement.config.properties.SecretProperties;
+import com.beeja.api.employeemanagement.enums.ErrorCode;
+import com.beeja.api.employeemanagement.enums.ErrorType;
+import com.beeja.api.employeemanagement.exceptions.UnAuthorisedException;
+import com.beeja.api.employeemanagement.utils.BuildErrorMessage;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/** Admits the other services, which call internal endpoints with the internal endpoint token. */
+@Component
+public class InternalCallerVerifier {
+
+  @Autowired SecretProperties secretProperties;
+
+  /**
+   * @throws UnAuthorisedException unless the header carries the internal endpoint token
+   */
+  public void verify(String authorization) {
+    String openEndpointToken = secretProperties.getOpenEndpointToken();
+    boolean internalCaller =
+        openEndpointToken != null
+            && !openEndpointToken.isBlank()
+            && authorization != null
+            && MessageDigest.isEqual(
+                ("Bearer " + openEndpointToken).getBytes(StandardCharsets.UTF_8),
+                authorization.getBytes(StandardCharsets.UTF_8));
+    if (!internalCaller) {
+      throw new UnAuthorisedException(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.AUTHORIZATION_ERROR, ErrorCode.PERMISSION_MISSING, UNAUTHORISED_ACCESS));
+    }
+  }
+}
@@ -8,25 +8,32 @@ import com.beeja.api.employeemanagement.enums.ErrorType;
 import com.beeja.api.employeemanagement.exceptions.UnAuthorisedException;
 import com.beeja.api.employeemanagement.utils.BuildErrorMessage;
 import com.beeja.api.employeemanagement.utils.UserContext;
-import java.util.ArrayList;
+import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Aspect
 @Component
 public class PermissionAspect {
 
+  @Autowired PermissionRegistry permissionRegistry;
+
+  private final Map<Method, long[]> anyOfMasks = new ConcurrentHashMap<>();
+
   @Before("@annotation(hasPermission)")
-  public void checkPermission(HasPermission hasPermission) {
-    String[] requiredPermissions = hasPermission.value();
-    List<String> userPermissions = getUserPermissions();
+  public void checkPermission(JoinPoint joinPoint, HasPermission hasPermission) {
+    long[] requiredPermissions = requiredMask(anyOfMasks, joinPoint, hasPermission.value());
+    long[] userPermissions = getUserPermissionMask();
 
     boolean hasRequiredPermission =
-        Arrays.stream(requiredPermissions).anyMatch(userPermissions::contains);
+        PermissionRegistry.intersects(userPermissions, requiredPermissions);
 
     if (!hasRequiredPermission) {
       throw new UnAuthorisedException(
@@ -35,8 +42,31 @@ public class PermissionAspect {
     }
   }
 
-  private List<String> getUserPermissions() {
-    Set<String> loggedInUserPermissions = UserContext.getLoggedInUserPermissions();
-    return new ArrayList<>(loggedInUserPermissions);
+  /**
+   * Returns the mask of permissions required by the advised method, compiling it on the first
+   * call and reusing it afterwards.
+   */
+  private long[] requiredMask(
+      Map<Method, long[]> masks, JoinPoint joinPoint, String... requiredPermissions) {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    long[] mask = masks.get(method);
+    if (mask == null) {
+      mask = permissionRegistry.compile(Arrays.asList(requiredPermissions));
+      masks.put(method, mask);
+    }
+    return mask;
+  }
+
+  /**
+   * Returns the logged-in user's permission mask, compiling it once per request from {@link
+   * UserContext}.
+   */
+  private long[] getUserPermissionMask() {
+    long[] mask = UserContext.getLoggedInUserPermissionMask();
+    if (mask == null) {
+      mask = permissionRegistry.compile(UserContext.getLoggedInUserPermissions());
+      UserContext.setLoggedInUserPermissionMask(mask);
+    }
+    return mask;
   }
 }
@@ -1,12 +1,9 @@
 package com.beeja.api.employeemanagement.config.filters;
 
-import com.beeja.api.employeemanagement.client.AccountClient;
 import com.beeja.api.employeemanagement.model.clients.accounts.OrganizationDTO;
-import com.beeja.api.employeemanagement.model.clients.accounts.RoleDTO;
 import com.beeja.api.employeemanagement.model.clients.accounts.UserDTO;
 import com.beeja.api.employeemanagement.utils.JwtUtils;
 import com.beeja.api.employeemanagement.utils.UserContext;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -14,14 +11,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -30,10 +24,12 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Slf4j
 public class AuthorizationFilter extends OncePerRequestFilter {
 
-  @Autowired AccountClient accountClient;
-
   @Autowired JwtProperties jwtProperties;
 
+  @Autowired PermissionVersionRegistry permissionVersionRegistry;
+
+  @Autowired PrincipalCache principalCache;
+
   @Override
   protected void doFilterInternal(
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -42,7 +38,10 @@ public class AuthorizationFilter extends OncePerRequestFilter {
     if (request.getRequestURI().startsWith("/employees/actuator/")
         || request.getRequestURI().equals("/employees/api-docs/swagger-config")
         || request.getRequestURI().startsWith("/employees/swagger-ui/")
-        || request.getRequestURI().startsWith("/employees/openApi.yaml")) {
+        || request.getRequestURI().startsWith("/employees/openApi.yaml")
+        // Internal endpoints, called without a user; the controllers check the token.
+        || request.getRequestURI().equals("/employees/v1/users/accounts/changes")
+        || request.getRequestURI().equals("/employees/v1/principal-cache")) {
       filterChain.doFilter(request, response);
       return;
     }
@@ -60,45 +59,29 @@ public class AuthorizationFilter extends OncePerRequestFilter {
 
   private boolean isValidAccessToken(String accessToken) {
     try {
-      ObjectMapper objectMapper = new ObjectMapper();
       Claims claims = JwtUtils.decodeJWT(accessToken, jwtProperties.getSecret());
       String email = claims.get("sub").toString();
-      ResponseEntity<LinkedHashMap<String, Object>> userIsPresent =
-          (ResponseEntity<LinkedHashMap<String, Object>>) accountClient.getEmployeeByEmail(email);
-      LinkedHashMap<String, Object> responseBodyMap = userIsPresent.getBody();
-      UserDTO responseBody = objectMapper.convertValue(responseBodyMap, UserDTO.class);
-
-      if (userIsPresent.getStatusCode().is2xxSuccessful() && responseBody != null) {
-        boolean userIsActive = responseBody.isActive();
-        if (userIsActive) {
-          Set<RoleDTO> roles = responseBody.getRoles();
-          Set<String> permissions = new HashSet<>();
-          for (RoleDTO role : roles) {
-            Collection<String> rolePermissions = role.getPermissions();
-            if (rolePermissions != null) {
-              permissions.addAll(rolePermissions);
-            }
-          }
-
-          Map<String, Object> userOrganization = new HashMap<>();
-          OrganizationDTO organizations = responseBody.getOrganizations();
-
-          if (organizations != null) {
-            userOrganization.put("id", organizations.getId());
-            userOrganization.put("name", organizations.getName());
-            userOrganization.put("email", organizations.getEmail());
-          }
-          UserContext.setLoggedInUser(
-              responseBody.getEmail(),
-              responseBody.getFirstName(),
-              responseBody.getEmployeeId(),
-              responseBody.getOrganizations(),
-              permissions,
-              responseBody,
-              "Bearer " + accessToken);
-        }
-        return userIsActive;
+      if (JwtUtils.hasPermissionClaims(claims)
+          && permissionVersionRegistry.isCurrent(email, JwtUtils.getPermissionVersion(claims))) {
+        setLoggedInUserFromClaims(claims, accessToken);
+        return true;
       }
+      CachedPrincipal principal =
+          principalCache.get(email, JwtUtils.getOrganizationId(claims), "Bearer " + accessToken);
+      if (principal == null || !principal.user().isActive()) {
+        return false;
+      }
+      UserDTO user = principal.user();
+      UserContext.setLoggedInUser(
+          user.getEmail(),
+          user.getFirstName(),
+          user.getEmployeeId(),
+          user.getOrganizations(),
+          new HashSet<>(principal.permissions()),
+          user,
+          "Bearer " + accessToken);
+      permissionVersionRegistry.recordVerified(email, user.getPermissionVersion());
+      return true;
     } catch (HttpClientErrorException e) {
       log.error("HTTP Error: {}", e.getStatusCode());
       return false;
@@ -106,6 +89,33 @@ public class AuthorizationFilter extends OncePerRequestFilter {
       log.error("Token Validation Exception: {}", e.getMessage());
       return false;
     }
-    return false;
+  }
+
+  private void setLoggedInUserFromClaims(Claims claims, String accessToken) {
+    Map<String, Object> organizationClaims =
+        (Map<String, Object>) claims.get(JwtUtils.CLAIM_ORGANIZATION);
+    OrganizationDTO organization = new OrganizationDTO();
+    organization.setId((String) organizationClaims.get("id"));
+    organization.setName((String) organizationClaims.get("name"));
+    organization.setEmail((String) organizationClaims.get("email"));
+
+    UserDTO userDTO = new UserDTO();
+    userDTO.setEmail(claims.getSubject());
+    userDTO.setFirstName((String) claims.get(JwtUtils.CLAIM_NAME));
+    userDTO.setEmployeeId((String) claims.get(JwtUtils.CLAIM_EMPLOYEE_ID));
+    userDTO.setOrganizations(organization);
+    userDTO.setActive(true);
+    userDTO.setPermissionVersion(JwtUtils.getPermissionVersion(claims));
+
+    Set<String> permissions =
+        new HashSet<>((Collection<String>) claims.get(JwtUtils.CLAIM_PERMISSIONS));
+    UserContext.setLoggedInUser(
+        userDTO.getEmail(),
+        userDTO.getFirstName(),
+        userDTO.getEmployeeId(),
+        organization,
+        permissions,
+        userDTO,
+        "Bearer " + accessToken);
   }
 }
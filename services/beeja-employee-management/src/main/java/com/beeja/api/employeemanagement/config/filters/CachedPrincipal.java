@@ -0,0 +1,29 @@
+package com.beeja.api.employeemanagement.config.filters;
+
+import com.beeja.api.employeemanagement.model.clients.accounts.RoleDTO;
+import com.beeja.api.employeemanagement.model.clients.accounts.UserDTO;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A user as reported by accounts, handed out by {@link PrincipalCache}. Every call gets its own
+ * {@link UserDTO}, so a request changing it cannot leak into another request; the permissions are
+ * computed once and shared unmodifiable.
+ */
+public record CachedPrincipal(UserDTO user, Set<String> permissions) {
+
+  static Set<String> permissionsOf(UserDTO user) {
+    Set<String> permissions = new HashSet<>();
+    if (user.getRoles() != null) {
+      for (RoleDTO role : user.getRoles()) {
+        Collection<String> rolePermissions = role.getPermissions();
+        if (rolePermissions != null) {
+          permissions.addAll(rolePermissions);
+        }
+      }
+    }
+    return Collections.unmodifiableSet(permissions);
+  }
+}
@@ -0,0 +1,117 @@
+package com.beeja.api.employeemanagement.config.filters;
+
+import com.beeja.api.commons.principal.PrincipalInvalidationFollower;
+import com.beeja.api.employeemanagement.client.AccountClient;
+import com.beeja.api.employeemanagement.model.clients.accounts.UserDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.util.Set;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Principals of recently seen users, keyed by email and organization, so that requests whose
+ * token claims cannot be trusted on their own are usually answered from memory instead of a call
+ * to accounts. Entries still in use are reloaded in the background before they expire. No request
+ * is running then, so accounts is asked with the internal endpoint token, and the version it
+ * reports is recorded in {@link PermissionVersionRegistry} so that token claims stay trusted.
+ */
+@Component
+public class PrincipalCache implements PrincipalInvalidationFollower.EvictionTarget {
+
+  private final AccountClient accountClient;
+  private final PermissionVersionRegistry permissionVersionRegistry;
+  private final ObjectMapper objectMapper;
+  private final PrincipalCacheProperties properties;
+  private final LoadingCache<PrincipalKey, Entry> principals;
+
+  public PrincipalCache(
+      AccountClient accountClient,
+      PermissionVersionRegistry permissionVersionRegistry,
+      ObjectMapper objectMapper,
+      PrincipalCacheProperties properties) {
+    this.accountClient = accountClient;
+    this.permissionVersionRegistry = permissionVersionRegistry;
+    this.objectMapper = objectMapper;
+    this.properties = properties;
+    this.principals =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTimeToLive())
+            .refreshAfterWrite(properties.getRefreshAfter())
+            // Entries are first loaded by get() with the caller's authorization; the loader only
+            // runs for background reloads.
+            .build(this::reload);
+  }
+
+  /**
+   * @param organizationId the organization claimed by the access token, if any
+   * @param authorization the caller's authorization header, used when accounts must be asked
+   * @return the principal, or {@code null} when accounts does not know the user
+   */
+  public CachedPrincipal get(String email, String organizationId, String authorization) {
+    Entry entry =
+        principals.get(new PrincipalKey(email, organizationId), key -> fetch(email, authorization));
+    if (entry == null) {
+      return null;
+    }
+    return new CachedPrincipal(
+        objectMapper.convertValue(entry.account(), UserDTO.class), entry.permissions());
+  }
+
+  /** Forgets everything known about the user, so the next request is verified with accounts. */
+  @Override
+  public void evict(String email) {
+    principals.asMap().keySet().removeIf(key -> key.email().equals(email));
+    permissionVersionRegistry.forget(email);
+  }
+
+  @Override
+  public void evictAll() {
+    principals.invalidateAll();
+    permissionVersionRegistry.forgetAll();
+  }
+
+  private Entry fetch(String email, String authorization) {
+    return entryOf(
+        authorization == null
+            ? accountClient.getEmployeeByEmail(email)
+            : accountClient.getEmployeeByEmail(email, authorization));
+  }
+
+  /**
+   * @return the principal as accounts reports it now, or {@code null} to drop the entry when the
+   *     internal endpoint token is not configured or the token claimed no organization
+   */
+  private Entry reload(PrincipalKey key) {
+    String invalidationToken = properties.getInvalidationToken();
+    if (invalidationToken == null || invalidationToken.isBlank() || key.organizationId() == null) {
+      return null;
+    }
+    Entry entry =
+        entryOf(
+            accountClient.getUserOfOrganizationByEmail(
+                key.organizationId(), key.email(), "Bearer " + invalidationToken));
+    if (entry != null) {
+      permissionVersionRegistry.recordVerified(
+          key.email(), entry.account().path("permissionVersion").asLong());
+    }
+    return entry;
+  }
+
+  private Entry entryOf(ResponseEntity<?> response) {
+    if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+      return null;
+    }
+    JsonNode account = objectMapper.valueToTree(response.getBody());
+    UserDTO user = objectMapper.convertValue(account, UserDTO.class);
+    return new Entry(account, CachedPrincipal.permissionsOf(user));
+  }
+
+  private record PrincipalKey(String email, String organizationId) {}
+
+  /** The account as read from accounts, kept as a tree that is never handed out. */
+  private record Entry(JsonNode account, Set<String> permissions) {}
+}
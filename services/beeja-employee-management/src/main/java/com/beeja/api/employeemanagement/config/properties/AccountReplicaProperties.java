@@ -0,0 +1,19 @@
+package com.beeja.api.employeemanagement.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "account-replica")
+public class AccountReplicaProperties {
+  /**
+   * How often every organization's account copies are rewritten. Accounts reports changes as they
+   * happen, so this only bounds how long a missed report leaves a copy stale.
+   */
+  private Duration resyncInterval = Duration.ofHours(6);
+}
@@ -0,0 +1,16 @@
+package com.beeja.api.employeemanagement.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "employee-export")
+public class EmployeeExportProperties {
+  /** How long an export may take to write; large organizations take minutes. */
+  private Duration timeout = Duration.ofMinutes(30);
+}
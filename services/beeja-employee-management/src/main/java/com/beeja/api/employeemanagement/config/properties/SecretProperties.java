@@ -0,0 +1,15 @@
+package com.beeja.api.employeemanagement.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "secrets")
+public class SecretProperties {
+  /** Token the services share for calls made without a user. */
+  private String openEndpointToken;
+}
@@ -1,19 +1,26 @@
 package com.beeja.api.employeemanagement.controller;
 
 import com.beeja.api.employeemanagement.annotations.HasPermission;
+import com.beeja.api.employeemanagement.config.InternalCallerVerifier;
 import com.beeja.api.employeemanagement.constants.PermissionConstants;
+import com.beeja.api.employeemanagement.enums.ExportFormat;
 import com.beeja.api.employeemanagement.model.Employee;
+import com.beeja.api.employeemanagement.requests.AccountChangesRequest;
 import com.beeja.api.employeemanagement.requests.EmployeeUpdateRequest;
 import com.beeja.api.employeemanagement.requests.UpdateKYCRequest;
 import com.beeja.api.employeemanagement.response.EmployeeResponse;
 import com.beeja.api.employeemanagement.response.EmployeeValues;
+import com.beeja.api.employeemanagement.service.EmployeeExportService;
 import com.beeja.api.employeemanagement.service.EmployeeService;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.ObjectError;
@@ -23,9 +30,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 @RestController
 @RequestMapping("/v1/users")
@@ -33,6 +42,10 @@ public class EmployeeController {
 
   @Autowired private EmployeeService employeeService;
 
+  @Autowired private EmployeeExportService employeeExportService;
+
+  @Autowired private InternalCallerVerifier internalCallerVerifier;
+
   @GetMapping
   @HasPermission(PermissionConstants.READ_EMPLOYEE)
   public ResponseEntity<EmployeeResponse> getAllEmployees(
@@ -49,6 +62,28 @@ public class EmployeeController {
     return ResponseEntity.ok(combinedDataList);
   }
 
+  @GetMapping("/export")
+  @HasPermission(PermissionConstants.READ_EMPLOYEE)
+  public ResponseEntity<ResponseBodyEmitter> exportEmployees(
+      @RequestParam(name = "format", defaultValue = "csv") String format,
+      @RequestParam(name = "department", required = false) String department,
+      @RequestParam(name = "designation", required = false) String designation,
+      @RequestParam(name = "employmentType", required = false) String employmentType,
+      @RequestParam(name = "status", required = false) String status) {
+    ExportFormat exportFormat = employeeExportService.parseFormat(format);
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment()
+                .filename("employees." + exportFormat.getExtension())
+                .build()
+                .toString())
+        .body(
+            employeeExportService.exportEmployees(
+                department, designation, employmentType, status, exportFormat));
+  }
+
   @GetMapping("/{employeeID}")
   @HasPermission(PermissionConstants.READ_EMPLOYEE)
   public ResponseEntity<Map<String, Object>> getEmployeeByEmployeeId(
@@ -62,6 +97,13 @@ public class EmployeeController {
     return new ResponseEntity<>(employeeService.createEmployee(user), HttpStatus.CREATED);
   }
 
+  @PostMapping("/bulk")
+  @HasPermission(PermissionConstants.CREATE_EMPLOYEE)
+  public ResponseEntity<List<Employee>> createEmployees(
+      @RequestBody List<Map<String, Object>> users) throws Exception {
+    return new ResponseEntity<>(employeeService.createEmployees(users), HttpStatus.CREATED);
+  }
+
   @PutMapping("/{employeeId}")
   @HasPermission(PermissionConstants.READ_EMPLOYEE)
   public ResponseEntity<Object> updateEmployee(
@@ -92,4 +134,22 @@ public class EmployeeController {
   ResponseEntity<EmployeeValues> getEmployeeValues() throws Exception {
     return ResponseEntity.ok(employeeService.getEmployeeValues());
   }
+
+  /** Called by accounts with the internal endpoint token, whoever made the change. */
+  @PostMapping("/accounts/changes")
+  public ResponseEntity<Void> accountsChanged(
+      @RequestHeader("authorization") String authorization,
+      @RequestBody AccountChangesRequest changedAccounts)
+      throws Exception {
+    internalCallerVerifier.verify(authorization);
+    employeeService.accountsChanged(
+        changedAccounts.getOrganizationId(), changedAccounts.getEmployeeIds());
+    return ResponseEntity.noContent().build();
+  }
+
+  @PostMapping("/accounts/resync")
+  @HasPermission(PermissionConstants.UPDATE_ALL_EMPLOYEES)
+  public ResponseEntity<Long> resyncAccounts() throws Exception {
+    return ResponseEntity.ok(employeeService.resyncAccounts());
+  }
 }
@@ -0,0 +1,17 @@
+package com.beeja.api.employeemanagement.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ExportFormat {
+  CSV("text/csv", "csv"),
+  XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+  private final String contentType;
+  private final String extension;
+
+  ExportFormat(String contentType, String extension) {
+    this.contentType = contentType;
+    this.extension = extension;
+  }
+}
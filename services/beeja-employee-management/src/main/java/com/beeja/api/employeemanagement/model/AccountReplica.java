@@ -0,0 +1,32 @@
+package com.beeja.api.employeemanagement.model;
+
+import com.beeja.api.employeemanagement.model.clients.accounts.OrganizationDTO;
+import com.beeja.api.employeemanagement.model.clients.accounts.RoleDTO;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.Date;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Copy of the account-level attributes of an employee, kept next to the employee so that reads
+ * and filters do not need accounts. Refreshed when accounts reports a change and by a resync.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AccountReplica {
+  private String id;
+  private String firstName;
+  private String lastName;
+  private String email;
+  private Set<RoleDTO> roles;
+  private String employeeId;
+  private String employmentType;
+  private OrganizationDTO organizations;
+  private boolean active;
+  private long permissionVersion;
+  private Date syncedAt;
+}
@@ -27,6 +27,8 @@ import org.springframework.data.mongodb.core.mapping.Document;
     def = "{'kycDetails.passportNumber': 1}",
     unique = true,
     sparse = true)
+@CompoundIndex(name = "directory_page", def = "{'organizationId': 1, 'employeeNumber': 1}")
+@CompoundIndex(name = "account_replica", def = "{'organizationId': 1, 'account.syncedAt': 1}")
 public class Employee {
   @Id private String id;
   private String beejaAccountId;
@@ -42,4 +44,7 @@ public class Employee {
   private KYCDetails kycDetails;
   private BankDetails bankDetails;
   private String profilePictureId;
+
+  /** {@code null} until the employee's account has been read from accounts. */
+  @JsonIgnore private AccountReplica account;
 }
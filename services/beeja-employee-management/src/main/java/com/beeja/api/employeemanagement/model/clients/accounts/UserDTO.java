@@ -25,5 +25,6 @@ public class UserDTO {
   private String createdAt;
   private String modifiedAt;
   private boolean active;
+  private long permissionVersion;
   private String password;
 }
@@ -0,0 +1,14 @@
+package com.beeja.api.employeemanagement.requests;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountChangesRequest {
+  private String organizationId;
+  private List<String> employeeIds;
+}
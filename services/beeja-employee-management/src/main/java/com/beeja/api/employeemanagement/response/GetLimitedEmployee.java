@@ -1,6 +1,8 @@
 package com.beeja.api.employeemanagement.response;
 
+import com.beeja.api.employeemanagement.model.AccountReplica;
 import com.beeja.api.employeemanagement.model.JobDetails;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 
 @Data
@@ -9,4 +11,5 @@ public class GetLimitedEmployee {
   private String employeeId;
   private JobDetails jobDetails;
   private String profilePictureId;
+  @JsonIgnore private AccountReplica account;
 }
@@ -0,0 +1,29 @@
+package com.beeja.api.employeemanagement.service;
+
+import com.beeja.api.employeemanagement.model.AccountReplica;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Maintains the copies of account attributes stored on employees, so that employee reads and
+ * filters are answered from the employee database alone.
+ */
+public interface AccountReplicaService {
+  /**
+   * Re-reads the accounts of the given employees and stores them on the employees.
+   *
+   * @return the accounts read
+   */
+  List<AccountReplica> refresh(String organizationId, Collection<String> employeeIds)
+      throws Exception;
+
+  /** Copies the accounts of the organization's employees that have no copy yet. */
+  void fillMissing(String organizationId) throws Exception;
+
+  /**
+   * Rewrites the copy on every employee of the organization. Repeating it is harmless.
+   *
+   * @return the number of employees whose account was copied
+   */
+  long resync(String organizationId) throws Exception;
+}
@@ -0,0 +1,21 @@
+package com.beeja.api.employeemanagement.service;
+
+import com.beeja.api.employeemanagement.enums.ExportFormat;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+public interface EmployeeExportService {
+  /**
+   * Returns an emitter that sends the organization's employees matching the directory filters as
+   * they are read, so the export never holds more than one chunk of employees in memory. The
+   * response has the export's own timeout rather than the service's async request timeout.
+   */
+  ResponseBodyEmitter exportEmployees(
+      String department,
+      String designation,
+      String employmentType,
+      String status,
+      ExportFormat format);
+
+  /** Reads an export format name, such as {@code csv}, whatever its case. */
+  ExportFormat parseFormat(String format);
+}
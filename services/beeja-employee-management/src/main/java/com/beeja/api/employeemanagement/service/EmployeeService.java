@@ -13,6 +13,8 @@ import org.springframework.web.multipart.MultipartFile;
 public interface EmployeeService {
   Employee createEmployee(Map<String, Object> employee) throws Exception;
 
+  List<Employee> createEmployees(List<Map<String, Object>> employees) throws Exception;
+
   Map<String, Object> getEmployeeByEmployeeId(String employeeId) throws Exception;
 
   Employee updateEmployee(String id, EmployeeUpdateRequest updatedEmployee) throws Exception;
@@ -39,4 +41,10 @@ public interface EmployeeService {
   Employee uploadOrUpdateProfilePic(MultipartFile file, String employeeId) throws Exception;
 
   EmployeeValues getEmployeeValues() throws Exception;
+
+  /** Refreshes the stored copies of the accounts accounts reported as changed. */
+  void accountsChanged(String organizationId, List<String> employeeIds) throws Exception;
+
+  /** Rewrites the stored copy of every account of the organization, for recovery. */
+  long resyncAccounts() throws Exception;
 }
@@ -0,0 +1,44 @@
+package com.beeja.api.employeemanagement.serviceImpl;
+
+import com.beeja.api.employeemanagement.config.properties.SecretProperties;
+import com.beeja.api.employeemanagement.model.Employee;
+import com.beeja.api.employeemanagement.service.AccountReplicaService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rewrites the account copies of every organization, so that a change accounts failed to report
+ * is corrected within one interval.
+ */
+@Slf4j
+@Component
+public class AccountReplicaResyncJob {
+
+  @Autowired MongoTemplate mongoTemplate;
+
+  @Autowired AccountReplicaService accountReplicaService;
+
+  @Autowired SecretProperties secretProperties;
+
+  @Scheduled(
+      initialDelayString = "#{@accountReplicaProperties.resyncInterval.toMillis()}",
+      fixedDelayString = "#{@accountReplicaProperties.resyncInterval.toMillis()}")
+  public void resyncAll() {
+    String openEndpointToken = secretProperties.getOpenEndpointToken();
+    if (openEndpointToken == null || openEndpointToken.isBlank()) {
+      return;
+    }
+    for (String organizationId :
+        mongoTemplate.findDistinct(new Query(), "organizationId", Employee.class, String.class)) {
+      try {
+        accountReplicaService.resync(organizationId);
+      } catch (Exception e) {
+        log.warn("Could not resync accounts of {}: {}", organizationId, e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package com.beeja.api.employeemanagement.serviceImpl;
+
+import static com.beeja.api.employeemanagement.utils.Constants.ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE;
+
+import com.beeja.api.employeemanagement.client.AccountClient;
+import com.beeja.api.employeemanagement.config.properties.SecretProperties;
+import com.beeja.api.employeemanagement.enums.ErrorCode;
+import com.beeja.api.employeemanagement.enums.ErrorType;
+import com.beeja.api.employeemanagement.model.AccountReplica;
+import com.beeja.api.employeemanagement.model.Employee;
+import com.beeja.api.employeemanagement.requests.EmployeeOrgRequest;
+import com.beeja.api.employeemanagement.service.AccountReplicaService;
+import com.beeja.api.employeemanagement.utils.BuildErrorMessage;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class AccountReplicaServiceImpl implements AccountReplicaService {
+
+  /** Employee ids sent to accounts in one request. */
+  private static final int BATCH_SIZE = 500;
+
+  @Autowired MongoTemplate mongoTemplate;
+
+  @Autowired AccountClient accountClient;
+
+  @Autowired ObjectMapper objectMapper;
+
+  @Autowired SecretProperties secretProperties;
+
+  @Override
+  public List<AccountReplica> refresh(String organizationId, Collection<String> employeeIds)
+      throws Exception {
+    List<AccountReplica> accounts = new ArrayList<>();
+    List<String> batch = new ArrayList<>(BATCH_SIZE);
+    for (String employeeId : employeeIds) {
+      batch.add(employeeId);
+      if (batch.size() == BATCH_SIZE) {
+        accounts.addAll(copyAccounts(organizationId, batch));
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      accounts.addAll(copyAccounts(organizationId, batch));
+    }
+    return accounts;
+  }
+
+  @Override
+  public void fillMissing(String organizationId) throws Exception {
+    Query missing =
+        new Query(
+            Criteria.where("organizationId").is(organizationId).and("account.syncedAt").is(null));
+    missing.fields().include("employeeId");
+    List<String> employeeIds =
+        mongoTemplate.find(missing, Employee.class).stream()
+            .map(Employee::getEmployeeId)
+            .toList();
+    if (!employeeIds.isEmpty()) {
+      refresh(organizationId, employeeIds);
+    }
+  }
+
+  @Override
+  public long resync(String organizationId) throws Exception {
+    Query employees = new Query(Criteria.where("organizationId").is(organizationId));
+    employees.fields().include("employeeId");
+    long copiedAccounts = 0;
+    List<String> batch = new ArrayList<>(BATCH_SIZE);
+    try (Stream<Employee> stream = mongoTemplate.stream(employees, Employee.class)) {
+      for (Employee employee : (Iterable<Employee>) stream::iterator) {
+        batch.add(employee.getEmployeeId());
+        if (batch.size() == BATCH_SIZE) {
+          copiedAccounts += copyAccounts(organizationId, batch).size();
+          batch.clear();
+        }
+      }
+    }
+    if (!batch.isEmpty()) {
+      copiedAccounts += copyAccounts(organizationId, batch).size();
+    }
+    log.info("Resynced {} accounts of organization {}", copiedAccounts, organizationId);
+    return copiedAccounts;
+  }
+
+  private List<AccountReplica> copyAccounts(String organizationId, List<String> employeeIds)
+      throws Exception {
+    Date readAt = new Date();
+    List<AccountReplica> accounts = readAccounts(organizationId, employeeIds);
+    if (accounts.isEmpty()) {
+      return accounts;
+    }
+    BulkOperations bulkOperations =
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Employee.class);
+    for (AccountReplica account : accounts) {
+      account.setSyncedAt(readAt);
+      // A copy read earlier than the stored one is out of date by the time it arrives.
+      bulkOperations.updateOne(
+          new Query(
+              Criteria.where("organizationId")
+                  .is(organizationId)
+                  .and("employeeId")
+                  .is(account.getEmployeeId())
+                  .orOperator(
+                      Criteria.where("account.syncedAt").is(null),
+                      Criteria.where("account.syncedAt").lte(readAt))),
+          new Update().set("account", account));
+    }
+    bulkOperations.execute();
+    return accounts;
+  }
+
+  /**
+   * Reads with the internal endpoint token, as copies are also refreshed for accounts reports and
+   * scheduled resyncs, where there is no user.
+   */
+  private List<AccountReplica> readAccounts(String organizationId, List<String> employeeIds)
+      throws Exception {
+    ResponseEntity<?> accountResponse;
+    try {
+      accountResponse =
+          accountClient.getUsersOfOrganizationByEmployeeIds(
+              organizationId,
+              new EmployeeOrgRequest(employeeIds),
+              "Bearer " + secretProperties.getOpenEndpointToken());
+    } catch (Exception e) {
+      log.error(ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE + " {}", e.getMessage());
+      throw new Exception(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.API_ERROR,
+              ErrorCode.SERVER_ERROR,
+              ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE));
+    }
+    if (accountResponse == null
+        || !accountResponse.getStatusCode().is2xxSuccessful()
+        || accountResponse.getBody() == null) {
+      throw new Exception(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.API_ERROR,
+              ErrorCode.SERVER_ERROR,
+              ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE));
+    }
+    return objectMapper.convertValue(
+        accountResponse.getBody(), new TypeReference<List<AccountReplica>>() {});
+  }
+}
@@ -0,0 +1,109 @@
+package com.beeja.api.employeemanagement.serviceImpl;
+
+import com.beeja.api.employeemanagement.response.GetLimitedEmployee;
+import com.beeja.api.employeemanagement.service.AccountReplicaService;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+/**
+ * Answers a page of the employee directory, and the number of employees matching its filters, with
+ * one {@code $facet} aggregation over the employees collection. Account attributes, including the
+ * status filtered on, come from the copies stored on the employees.
+ */
+@Slf4j
+@Component
+public class EmployeeDirectoryQuery {
+
+  @Autowired MongoTemplate mongoTemplate;
+
+  @Autowired AccountReplicaService accountReplicaService;
+
+  public record DirectoryPage(List<GetLimitedEmployee> employees, long totalSize) {}
+
+  /**
+   * @param active {@code null} for employees of either status
+   */
+  public DirectoryPage findPage(
+      String organizationId,
+      String department,
+      String designation,
+      String employmentType,
+      Boolean active,
+      int pageNumber,
+      int pageSize) {
+    try {
+      accountReplicaService.fillMissing(organizationId);
+    } catch (Exception e) {
+      // Employees still without a copy are left out until accounts can be read.
+      log.warn("Could not copy missing accounts of {}: {}", organizationId, e.getMessage());
+    }
+
+    Aggregation aggregation =
+        Aggregation.newAggregation(
+            Aggregation.match(
+                directoryCriteria(
+                    organizationId, department, designation, employmentType, active)),
+            Aggregation.facet(
+                    Aggregation.sort(Sort.by(Sort.Direction.ASC, "employeeNumber")),
+                    Aggregation.skip((long) Math.max(pageNumber - 1, 0) * pageSize),
+                    Aggregation.limit(pageSize),
+                    Aggregation.project(
+                        "employeeId", "jobDetails", "profilePictureId", "account"))
+                .as("employees")
+                .and(Aggregation.count().as("total"))
+                .as("total"));
+    Document result =
+        mongoTemplate.aggregate(aggregation, "employees", Document.class).getUniqueMappedResult();
+    if (result == null) {
+      return new DirectoryPage(List.of(), 0L);
+    }
+
+    List<GetLimitedEmployee> employees =
+        result.getList("employees", Document.class).stream()
+            .map(employee -> mongoTemplate.getConverter().read(GetLimitedEmployee.class, employee))
+            .toList();
+    List<Document> total = result.getList("total", Document.class);
+    long totalSize = total.isEmpty() ? 0L : ((Number) total.get(0).get("total")).longValue();
+    return new DirectoryPage(employees, totalSize);
+  }
+
+  /** Matches the organization's employees that pass the directory filters. */
+  static Criteria directoryCriteria(
+      String organizationId,
+      String department,
+      String designation,
+      String employmentType,
+      Boolean active) {
+    Criteria criteria = Criteria.where("organizationId").is(organizationId);
+    if (department != null && !department.isEmpty()) {
+      criteria.and("jobDetails.department").is(department);
+    }
+    if (designation != null && !designation.isEmpty()) {
+      criteria.and("jobDetails.designation").is(designation);
+    }
+    if (employmentType != null && !employmentType.isEmpty()) {
+      criteria.and("jobDetails.employementType").is(employmentType);
+    }
+    if (active != null) {
+      criteria.and("account.active").is(active);
+    }
+    return criteria;
+  }
+
+  /**
+   * @return {@code null} when the directory is not filtered by status
+   */
+  static Boolean statusFilter(String status) {
+    if (status == null || status.isEmpty() || status.equals("-")) {
+      return null;
+    }
+    return "active".equalsIgnoreCase(status);
+  }
+}
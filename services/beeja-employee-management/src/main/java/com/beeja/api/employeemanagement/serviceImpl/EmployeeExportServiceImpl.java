@@ -0,0 +1,402 @@
+package com.beeja.api.employeemanagement.serviceImpl;
+
+import com.beeja.api.employeemanagement.config.properties.EmployeeExportProperties;
+import com.beeja.api.employeemanagement.enums.ErrorCode;
+import com.beeja.api.employeemanagement.enums.ErrorType;
+import com.beeja.api.employeemanagement.enums.ExportFormat;
+import com.beeja.api.employeemanagement.exceptions.BadRequestException;
+import com.beeja.api.employeemanagement.model.AccountReplica;
+import com.beeja.api.employeemanagement.model.Employee;
+import com.beeja.api.employeemanagement.model.JobDetails;
+import com.beeja.api.employeemanagement.model.clients.accounts.RoleDTO;
+import com.beeja.api.employeemanagement.service.AccountReplicaService;
+import com.beeja.api.employeemanagement.service.EmployeeExportService;
+import com.beeja.api.employeemanagement.utils.BuildErrorMessage;
+import com.beeja.api.employeemanagement.utils.Constants;
+import com.beeja.api.employeemanagement.utils.UserContext;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Slf4j
+@Service
+public class EmployeeExportServiceImpl implements EmployeeExportService {
+
+  /** Employees read from the cursor, and accounts requested, per chunk. */
+  private static final int CHUNK_SIZE = 500;
+
+  /** Rows an XLSX export keeps in memory before spilling them to a temporary file. */
+  private static final int XLSX_ROW_WINDOW = 100;
+
+  private static final List<String> HEADER =
+      List.of(
+          "Employee ID",
+          "First Name",
+          "Last Name",
+          "Email",
+          "Department",
+          "Designation",
+          "Employment Type",
+          "Joining Date",
+          "Roles",
+          "Status");
+
+  private static final DateTimeFormatter DATE_FORMAT =
+      DateTimeFormatter.ISO_LOCAL_DATE.withZone(ZoneOffset.UTC);
+
+  @Autowired MongoTemplate mongoTemplate;
+
+  @Autowired AccountReplicaService accountReplicaService;
+
+  @Autowired EmployeeExportProperties exportProperties;
+
+  @Autowired
+  @Qualifier("applicationTaskExecutor")
+  AsyncTaskExecutor taskExecutor;
+
+  @Override
+  public ResponseBodyEmitter exportEmployees(
+      String department,
+      String designation,
+      String employmentType,
+      String status,
+      ExportFormat format) {
+    StreamingResponseBody body =
+        exportBody(department, designation, employmentType, status, format);
+    ResponseBodyEmitter emitter = new ResponseBodyEmitter(exportProperties.getTimeout().toMillis());
+    taskExecutor.execute(
+        () -> {
+          try (EmitterOutputStream outputStream = new EmitterOutputStream(emitter)) {
+            body.writeTo(outputStream);
+            outputStream.flush();
+            emitter.complete();
+          } catch (Exception e) {
+            log.warn("Could not export employees: {}", e.getMessage());
+            emitter.completeWithError(e);
+          }
+        });
+    return emitter;
+  }
+
+  /** Writes the export to the given stream, on whichever thread runs it. */
+  StreamingResponseBody exportBody(
+      String department,
+      String designation,
+      String employmentType,
+      String status,
+      ExportFormat format) {
+    // The body is written on another thread once this request thread has returned.
+    UserContext.Snapshot user = UserContext.capture();
+    String organizationId = UserContext.getLoggedInUserOrganization().getId();
+    Boolean active = EmployeeDirectoryQuery.statusFilter(status);
+    Criteria criteria =
+        EmployeeDirectoryQuery.directoryCriteria(
+            organizationId, department, designation, employmentType, active);
+    return outputStream -> {
+      try {
+        UserContext.runWith(
+            user,
+            () -> {
+              try {
+                writeEmployees(organizationId, criteria, active != null, format, outputStream);
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    };
+  }
+
+  @Override
+  public ExportFormat parseFormat(String format) {
+    for (ExportFormat exportFormat : ExportFormat.values()) {
+      if (exportFormat.name().equalsIgnoreCase(format)) {
+        return exportFormat;
+      }
+    }
+    throw new BadRequestException(
+        BuildErrorMessage.buildErrorMessage(
+            ErrorType.VALIDATION_ERROR,
+            ErrorCode.FIELD_VALIDATION_MISSING,
+            Constants.INVALID_EXPORT_FORMAT + format));
+  }
+
+  private void writeEmployees(
+      String organizationId,
+      Criteria criteria,
+      boolean filteredByStatus,
+      ExportFormat format,
+      OutputStream outputStream)
+      throws IOException {
+    if (filteredByStatus) {
+      // Employees without a copy of their account have no status to match.
+      try {
+        accountReplicaService.fillMissing(organizationId);
+      } catch (Exception e) {
+        log.warn("Could not copy missing accounts of {}: {}", organizationId, e.getMessage());
+      }
+    }
+    Query query =
+        new Query(criteria)
+            .with(Sort.by(Sort.Direction.ASC, "employeeNumber"))
+            .cursorBatchSize(CHUNK_SIZE);
+    query.fields().include("employeeId", "jobDetails", "account");
+
+    try (RowWriter rows =
+            format == ExportFormat.XLSX
+                ? new XlsxRowWriter(outputStream)
+                : new CsvRowWriter(outputStream);
+        Stream<Employee> employees = mongoTemplate.stream(query, Employee.class)) {
+      rows.write(HEADER);
+      rows.flush();
+      List<Employee> chunk = new ArrayList<>(CHUNK_SIZE);
+      Iterator<Employee> iterator = employees.iterator();
+      while (iterator.hasNext()) {
+        chunk.add(iterator.next());
+        if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+          writeChunk(organizationId, chunk, rows);
+          rows.flush();
+          chunk.clear();
+        }
+      }
+      rows.finish();
+    }
+  }
+
+  private void writeChunk(String organizationId, List<Employee> chunk, RowWriter rows)
+      throws IOException {
+    Map<String, AccountReplica> missingAccounts = new HashMap<>();
+    List<String> withoutAccount =
+        chunk.stream()
+            .filter(employee -> employee.getAccount() == null)
+            .map(Employee::getEmployeeId)
+            .toList();
+    if (!withoutAccount.isEmpty()) {
+      try {
+        accountReplicaService
+            .refresh(organizationId, withoutAccount)
+            .forEach(account -> missingAccounts.put(account.getEmployeeId(), account));
+      } catch (Exception e) {
+        // The rows are still exported, without their account columns.
+        log.warn("Could not read accounts for export: {}", e.getMessage());
+      }
+    }
+    for (Employee employee : chunk) {
+      AccountReplica account =
+          employee.getAccount() != null
+              ? employee.getAccount()
+              : missingAccounts.get(employee.getEmployeeId());
+      rows.write(toRow(employee, account));
+    }
+  }
+
+  private static List<String> toRow(Employee employee, AccountReplica account) {
+    JobDetails jobDetails =
+        employee.getJobDetails() == null ? new JobDetails() : employee.getJobDetails();
+    List<String> row = new ArrayList<>(HEADER.size());
+    row.add(employee.getEmployeeId());
+    row.add(account == null ? null : account.getFirstName());
+    row.add(account == null ? null : account.getLastName());
+    row.add(account == null ? null : account.getEmail());
+    row.add(jobDetails.getDepartment());
+    row.add(jobDetails.getDesignation());
+    row.add(jobDetails.getEmployementType());
+    row.add(format(jobDetails.getJoiningDate()));
+    row.add(account == null || account.getRoles() == null ? null : roleNames(account));
+    row.add(account == null ? null : account.isActive() ? "Active" : "Inactive");
+    return row;
+  }
+
+  private static String roleNames(AccountReplica account) {
+    return account.getRoles().stream()
+        .map(RoleDTO::getName)
+        .filter(Objects::nonNull)
+        .sorted()
+        .collect(Collectors.joining("; "));
+  }
+
+  private static String format(Date date) {
+    return date == null ? null : DATE_FORMAT.format(date.toInstant());
+  }
+
+  private interface RowWriter extends Closeable {
+    void write(List<String> row) throws IOException;
+
+    /** Sends what has been written so far, where the format allows it. */
+    void flush() throws IOException;
+
+    /** Completes the document after the last row. */
+    void finish() throws IOException;
+  }
+
+  private static final class CsvRowWriter implements RowWriter {
+    private final Writer writer;
+
+    CsvRowWriter(OutputStream outputStream) {
+      this.writer =
+          new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void write(List<String> row) throws IOException {
+      for (int column = 0; column < row.size(); column++) {
+        if (column > 0) {
+          writer.write(',');
+        }
+        writer.write(escape(row.get(column)));
+      }
+      writer.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+      writer.flush();
+    }
+
+    @Override
+    public void finish() throws IOException {
+      writer.flush();
+    }
+
+    @Override
+    public void close() {
+      // The servlet container owns the response stream.
+    }
+
+    private static String escape(String value) {
+      if (value == null) {
+        return "";
+      }
+      // Spreadsheets would run a leading =, +, - or @ as a formula, also after a tab or CR.
+      if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+        value = "'" + value;
+      }
+      if (value.contains(",")
+          || value.contains("\"")
+          || value.contains("\n")
+          || value.contains("\r")) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+      }
+      return value;
+    }
+  }
+
+  /**
+   * XLSX cannot be sent before the workbook is complete, but the streaming workbook keeps only
+   * {@link #XLSX_ROW_WINDOW} rows in memory and spills the rest to a temporary file.
+   */
+  private static final class XlsxRowWriter implements RowWriter {
+    private final OutputStream outputStream;
+    private final SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_ROW_WINDOW);
+    private final SXSSFSheet sheet;
+    private int rowNumber;
+
+    XlsxRowWriter(OutputStream outputStream) {
+      this.outputStream = outputStream;
+      this.workbook.setCompressTempFiles(true);
+      this.sheet = workbook.createSheet("Employees");
+    }
+
+    @Override
+    public void write(List<String> row) {
+      Row sheetRow = sheet.createRow(rowNumber++);
+      for (int column = 0; column < row.size(); column++) {
+        if (row.get(column) != null) {
+          sheetRow.createCell(column).setCellValue(row.get(column));
+        }
+      }
+    }
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void finish() throws IOException {
+      workbook.write(outputStream);
+    }
+
+    @Override
+    public void close() throws IOException {
+      workbook.dispose();
+      workbook.close();
+    }
+  }
+
+  /**
+   * Sends what is written through the emitter, whenever the writer flushes or {@link
+   * #SEND_SIZE} bytes have collected, such as while a workbook is written out.
+   */
+  private static final class EmitterOutputStream extends OutputStream {
+    private static final int SEND_SIZE = 64 * 1024;
+
+    private final ResponseBodyEmitter emitter;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(SEND_SIZE);
+
+    EmitterOutputStream(ResponseBodyEmitter emitter) {
+      this.emitter = emitter;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      buffer.write(b);
+      if (buffer.size() >= SEND_SIZE) {
+        flush();
+      }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+      buffer.write(bytes, offset, length);
+      if (buffer.size() >= SEND_SIZE) {
+        flush();
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      if (buffer.size() == 0) {
+        return;
+      }
+      try {
+        emitter.send(buffer.toByteArray());
+      } catch (IllegalStateException e) {
+        // The response timed out or the client went away.
+        throw new IOException(e.getMessage(), e);
+      }
+      buffer.reset();
+    }
+  }
+}
@@ -31,7 +31,6 @@ import com.beeja.api.employeemanagement.model.NomineeDetails;
 import com.beeja.api.employeemanagement.model.PFDetails;
 import com.beeja.api.employeemanagement.model.PersonalInformation;
 import com.beeja.api.employeemanagement.repository.EmployeeRepository;
-import com.beeja.api.employeemanagement.requests.EmployeeOrgRequest;
 import com.beeja.api.employeemanagement.requests.EmployeeUpdateRequest;
 import com.beeja.api.employeemanagement.requests.FileUploadRequest;
 import com.beeja.api.employeemanagement.requests.UpdateKYCRequest;
@@ -39,6 +38,7 @@ import com.beeja.api.employeemanagement.response.EmployeeDefaultValues;
 import com.beeja.api.employeemanagement.response.EmployeeResponse;
 import com.beeja.api.employeemanagement.response.EmployeeValues;
 import com.beeja.api.employeemanagement.response.GetLimitedEmployee;
+import com.beeja.api.employeemanagement.service.AccountReplicaService;
 import com.beeja.api.employeemanagement.service.EmployeeService;
 import com.beeja.api.employeemanagement.service.FileService;
 import com.beeja.api.employeemanagement.utils.BuildErrorMessage;
@@ -47,11 +47,13 @@ import com.beeja.api.employeemanagement.utils.ExtractEmpNumUtil;
 import com.beeja.api.employeemanagement.utils.UserContext;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteError;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -61,12 +63,9 @@ import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DuplicateKeyException;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.aggregation.Aggregation;
-import org.springframework.data.mongodb.core.aggregation.AggregationResults;
-import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -81,6 +80,10 @@ public class EmployeeServiceImpl implements EmployeeService {
 
   @Autowired MongoTemplate mongoTemplate;
 
+  @Autowired EmployeeDirectoryQuery employeeDirectoryQuery;
+
+  @Autowired AccountReplicaService accountReplicaService;
+
   @Autowired FileService fileService;
 
   public EmployeeServiceImpl(EmployeeRepository employeeRepository, AccountClient accountClient) {
@@ -90,6 +93,55 @@ public class EmployeeServiceImpl implements EmployeeService {
 
   @Override
   public Employee createEmployee(Map<String, Object> employee) throws Exception {
+    Employee emp = toEmployee(employee);
+    try {
+      return employeeRepository.save(emp);
+    } catch (Exception e) {
+      throw new Exception(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.DB_ERROR,
+              ErrorCode.CANNOT_SAVE_CHANGES,
+              Constants.ERROR_IN_SAVING_DETAILS));
+    }
+  }
+
+  @Override
+  public List<Employee> createEmployees(List<Map<String, Object>> employees) throws Exception {
+    List<Employee> newEmployees = new ArrayList<>();
+    for (Map<String, Object> employee : employees) {
+      newEmployees.add(toEmployee(employee));
+    }
+    if (newEmployees.isEmpty()) {
+      return newEmployees;
+    }
+    try {
+      mongoTemplate
+          .bulkOps(BulkOperations.BulkMode.UNORDERED, Employee.class)
+          .insert(newEmployees)
+          .execute();
+      return newEmployees;
+    } catch (BulkOperationException e) {
+      // Unordered, so every employee not reported here was written.
+      Set<Integer> failed =
+          e.getErrors().stream().map(BulkWriteError::getIndex).collect(Collectors.toSet());
+      List<Employee> created = new ArrayList<>();
+      for (int i = 0; i < newEmployees.size(); i++) {
+        if (!failed.contains(i)) {
+          created.add(newEmployees.get(i));
+        }
+      }
+      log.error("{} of {} employees were not saved", failed.size(), newEmployees.size());
+      return created;
+    } catch (Exception e) {
+      throw new Exception(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.DB_ERROR,
+              ErrorCode.CANNOT_SAVE_CHANGES,
+              Constants.ERROR_IN_SAVING_DETAILS));
+    }
+  }
+
+  private Employee toEmployee(Map<String, Object> employee) {
     Employee emp = new Employee();
     emp.setBeejaAccountId(((String) employee.get("id")));
     emp.setEmployeeId(((String) employee.get("employeeId")));
@@ -100,21 +152,15 @@ public class EmployeeServiceImpl implements EmployeeService {
       emp.setOrganizationId((String) organizationsMap.get("id"));
     }
 
-    if (employee.get("department") != null || employee.get("employmentType")!=null) {
+    Object department = employee.get("department");
+    Object employmentType = employee.get("employmentType");
+    if (department != null || employmentType != null) {
       JobDetails jobDetails = new JobDetails();
-      jobDetails.setDepartment(employee.get("department").toString());
-      jobDetails.setEmployementType(employee.get("employmentType").toString());
+      jobDetails.setDepartment(department == null ? null : department.toString());
+      jobDetails.setEmployementType(employmentType == null ? null : employmentType.toString());
       emp.setJobDetails(jobDetails);
     }
-    try {
-      return employeeRepository.save(emp);
-    } catch (Exception e) {
-      throw new Exception(
-          BuildErrorMessage.buildErrorMessage(
-              ErrorType.DB_ERROR,
-              ErrorCode.CANNOT_SAVE_CHANGES,
-              Constants.ERROR_IN_SAVING_DETAILS));
-    }
+    return emp;
   }
 
   @Override
@@ -129,37 +175,16 @@ public class EmployeeServiceImpl implements EmployeeService {
             ? employeeRepository.findByEmployeeIdAndOrganizationId(employeeId, organizationId)
             : employeeRepository.getLimitedDataFindByEmployeeId(employeeId, organizationId);
     if (employee != null) {
-      ResponseEntity<?> accountResponse;
-      try {
-        accountResponse = accountClient.getUserByEmployeeId(employeeId.toUpperCase());
-      } catch (Exception e) {
-        log.error(
-            ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE
-                + " Organization Id: {} , EmployeeID: {} {}",
-            UserContext.getLoggedInUserOrganization().getId(),
-            employeeId,
-            e.getMessage());
-        throw new Exception(
-            BuildErrorMessage.buildErrorMessage(
-                ErrorType.API_ERROR,
-                ErrorCode.SERVER_ERROR,
-                Constants.ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE));
-      }
-
-      if (accountResponse.getStatusCode().is2xxSuccessful()) {
-        Map<String, Object> combinedData = new HashMap<>();
-        combinedData.put("employee", employee);
-        combinedData.put("account", accountResponse.getBody());
-
-        return combinedData;
-      } else {
-        throw new Exception(
-            BuildErrorMessage.buildErrorMessage(
-                ErrorType.API_ERROR,
-                ErrorCode.SERVER_ERROR,
-                Constants.ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE));
-      }
-
+      if (employee.getAccount() == null) {
+        // Not copied yet, e.g. accounts could not be read when the employee was created.
+        accountReplicaService.refresh(organizationId, List.of(employee.getEmployeeId())).stream()
+            .findFirst()
+            .ifPresent(employee::setAccount);
+      }
+      Map<String, Object> combinedData = new HashMap<>();
+      combinedData.put("employee", employee);
+      combinedData.put("account", employee.getAccount());
+      return combinedData;
     } else {
       throw new ResourceNotFound(
           BuildErrorMessage.buildErrorMessage(
@@ -248,68 +273,24 @@ public class EmployeeServiceImpl implements EmployeeService {
 
   @Override
   public List<GetLimitedEmployee> getLimitedDataOfEmployees(
-          String department,
-          String designation,
-          String employmentType,
-          int pageNumber,
-          int pageSize,
-          String status) {
-    String organizationId = UserContext.getLoggedInUserOrganization().getId();
-
-    Criteria criteria = Criteria.where("organizationId").is(organizationId);
-    if (department != null && !department.isEmpty()) {
-      criteria.and("jobDetails.department").is(department);
-    }
-    if (designation != null && !designation.isEmpty()) {
-      criteria.and("jobDetails.designation").is(designation);
-    }
-    if (employmentType != null && !employmentType.isEmpty()) {
-      criteria.and("jobDetails.employementType").is(employmentType);
-    }
-
-    Query baseQuery = new Query(criteria);
-    List<Employee> filteredEmployees = mongoTemplate.find(baseQuery, Employee.class);
-    List<String> employeeIds = filteredEmployees.stream()
-            .map(Employee::getEmployeeId)
-            .collect(Collectors.toList());
-
-    ResponseEntity<?> accountResponse =
-            accountClient.getUsersByEmployeeIds(new EmployeeOrgRequest(employeeIds));
-
-    if (accountResponse == null || !accountResponse.getStatusCode().is2xxSuccessful()) {
-      return Collections.emptyList();
-    }
-
-    List<Map<String, Object>> accountDataList = (List<Map<String, Object>>) accountResponse.getBody();
-
-    List<String> matchedEmployeeIds = accountDataList.stream()
-            .filter(account -> {
-              if (status == null || status.equals("-") || status.isEmpty()) return true;
-              boolean isActive = "active".equalsIgnoreCase(status);
-              return Boolean.TRUE.equals(account.get("active")) == isActive;
-            })
-            .map(account -> (String) account.get("employeeId"))
-            .collect(Collectors.toList());
-
-    if (matchedEmployeeIds.isEmpty()) return Collections.emptyList();
-    Criteria finalCriteria = Criteria.where("organizationId").is(organizationId)
-            .and("employeeId").in(matchedEmployeeIds);
-
-    Aggregation aggregation = Aggregation.newAggregation(
-            Aggregation.match(finalCriteria),
-            Aggregation.project("id", "employeeId", "jobDetails", "employeeNumber"),
-            Aggregation.sort(Sort.by(Sort.Direction.ASC, "employeeNumber")),
-            Aggregation.skip((long) (pageNumber - 1) * pageSize),
-            Aggregation.limit(pageSize)
-    );
-
-    AggregationResults<GetLimitedEmployee> results =
-            mongoTemplate.aggregate(aggregation, "employees", GetLimitedEmployee.class);
-
-    return results.getMappedResults();
+      String department,
+      String designation,
+      String employmentType,
+      int pageNumber,
+      int pageSize,
+      String status) {
+    return employeeDirectoryQuery
+        .findPage(
+            UserContext.getLoggedInUserOrganization().getId(),
+            department,
+            designation,
+            employmentType,
+            EmployeeDirectoryQuery.statusFilter(status),
+            pageNumber,
+            pageSize)
+        .employees();
   }
 
-
   public EmployeeResponse getCombinedLimitedDataOfEmployees(
       String department,
       String designation,
@@ -318,135 +299,49 @@ public class EmployeeServiceImpl implements EmployeeService {
       int pageSize,
       String status)
       throws Exception {
-    List<GetLimitedEmployee> employeesWithLimitedData =
-        getLimitedDataOfEmployees(
-            department, designation, employementType, pageNumber, pageSize, status);
-    if (employeesWithLimitedData == null || employeesWithLimitedData.isEmpty()) {
+    EmployeeDirectoryQuery.DirectoryPage page =
+        employeeDirectoryQuery.findPage(
+            UserContext.getLoggedInUserOrganization().getId(),
+            department,
+            designation,
+            employementType,
+            EmployeeDirectoryQuery.statusFilter(status),
+            pageNumber,
+            pageSize);
+    if (page.employees().isEmpty()) {
       EmployeeResponse emptyResponse = new EmployeeResponse();
       emptyResponse.setEmployeeList(Collections.emptyList());
-      emptyResponse.setTotalSize(0L);
+      emptyResponse.setTotalSize(page.totalSize());
       return emptyResponse;
     }
-    if (employeesWithLimitedData != null && !employeesWithLimitedData.isEmpty()) {
-      ResponseEntity<?> accountResponse = null;
-      List<String> employeeIds =
-          employeesWithLimitedData.stream()
-              .map(GetLimitedEmployee::getEmployeeId)
-              .collect(Collectors.toList());
-
-      try {
-        accountResponse = accountClient.getUsersByEmployeeIds(new EmployeeOrgRequest(employeeIds));
-      } catch (Exception e) {
-        log.error(
-            ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE + " Organization Id: {} {} ",
-            UserContext.getLoggedInUserOrganization().getId(),
-            e.getMessage());
-        throw new Exception(
-            BuildErrorMessage.buildErrorMessage(
-                ErrorType.API_ERROR,
-                ErrorCode.SERVER_ERROR,
-                Constants.ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE));
-      }
-
-      assert accountResponse != null;
-      if (accountResponse.getStatusCode().is2xxSuccessful()) {
-        List<Map<String, Object>> combinedDataList = new ArrayList<>();
-        List<Map<String, Object>> accountDataList =
-            (List<Map<String, Object>>) accountResponse.getBody();
-
-        for (GetLimitedEmployee employee : employeesWithLimitedData) {
-          Optional<Map<String, Object>> accountDataOptional =
-              accountDataList.stream()
-                      .filter(accountData ->
-                              employee.getEmployeeId().equals(accountData.get("employeeId")) &&
-                                      (status == null || status.equals("-") || status.isEmpty() ||
-                                              accountData.get("active").equals("active".equalsIgnoreCase(status)))
-                      )
-                  .findFirst();
-
-          if (accountDataOptional.isPresent()) {
-            Map<String, Object> combinedData = new HashMap<>();
-            combinedData.put("employee", employee);
-            combinedData.put("account", accountDataOptional.get());
-            combinedDataList.add(combinedData);
-          }
-        }
-        Long totalCount =
-            getFilteredEmployeeCount(department, designation, employementType, status);
-        EmployeeResponse response = new EmployeeResponse();
-        response.setEmployeeList(combinedDataList);
-        response.setTotalSize(totalCount);
-        return response;
 
-      } else {
-        throw new Exception(
-            BuildErrorMessage.buildErrorMessage(
-                ErrorType.API_ERROR,
-                ErrorCode.SERVER_ERROR,
-                Constants.ERROR_IN_FETCHING_DATA_FROM_ACCOUNT_SERVICE));
-      }
-    } else {
-      throw new ResourceNotFound(
-          BuildErrorMessage.buildErrorMessage(
-              ErrorType.RESOURCE_NOT_FOUND_ERROR, ErrorCode.USER_NOT_FOUND, EMPLOYEE_NOT_FOUND));
-    }
-  }
-
-  private Long getFilteredEmployeeCount(
-          String department, String designation, String employementType, String status) {
-
-    Criteria criteria = new Criteria();
-    if (department != null && !department.isEmpty()) {
-      criteria.and("jobDetails.department").is(department);
-    }
-    if (designation != null && !designation.isEmpty()) {
-      criteria.and("jobDetails.designation").is(designation);
-    }
-    if (employementType != null && !employementType.isEmpty()) {
-      criteria.and("jobDetails.employementType").is(employementType);
-    }
-
-    List<Employee> employees = mongoTemplate.find(new Query(criteria), Employee.class);
-    List<String> employeeIds = employees.stream()
-            .map(Employee::getEmployeeId)
-            .collect(Collectors.toList());
-
-    ResponseEntity<?> accountResponse =
-            accountClient.getUsersByEmployeeIds(new EmployeeOrgRequest(employeeIds));
-
-    if (accountResponse != null && accountResponse.getStatusCode().is2xxSuccessful()) {
-      List<Map<String, Object>> accountDataList =
-              (List<Map<String, Object>>) accountResponse.getBody();
-
-      // Index account data by employeeId for fast lookup
-      Map<String, Map<String, Object>> accountMap = accountDataList.stream()
-              .collect(Collectors.toMap(
-                      acc -> (String) acc.get("employeeId"),
-                      acc -> acc,
-                      (existing, replacement) -> existing // handle duplicates
-              ));
-
-      boolean isFilterApplied = status != null && !status.equals("-") && !status.isEmpty();
-      boolean isActive = "active".equalsIgnoreCase(status);
-
-      long count = 0;
-      for (Employee employee : employees) {
-        Map<String, Object> account = accountMap.get(employee.getEmployeeId());
-        if (account == null) continue;
-
-        Object activeObj = account.get("active");
-
-        if (!isFilterApplied || (Boolean.TRUE.equals(activeObj) == isActive)) {
-          count++;
-        }
+    List<Map<String, Object>> combinedDataList = new ArrayList<>();
+    for (GetLimitedEmployee employee : page.employees()) {
+      if (employee.getAccount() == null) {
+        continue;
       }
-      return count;
+      Map<String, Object> combinedData = new HashMap<>();
+      combinedData.put("employee", employee);
+      combinedData.put("account", employee.getAccount());
+      combinedDataList.add(combinedData);
     }
 
-    return 0L;
+    EmployeeResponse response = new EmployeeResponse();
+    response.setEmployeeList(combinedDataList);
+    response.setTotalSize(page.totalSize());
+    return response;
   }
 
+  @Override
+  public void accountsChanged(String organizationId, List<String> employeeIds)
+      throws Exception {
+    accountReplicaService.refresh(organizationId, new HashSet<>(employeeIds));
+  }
 
+  @Override
+  public long resyncAccounts() throws Exception {
+    return accountReplicaService.resync(UserContext.getLoggedInUserOrganization().getId());
+  }
 
   public void updateJobDetails(Employee existingEmployee, JobDetails updatedJobDetails) {
     if (updatedJobDetails != null) {
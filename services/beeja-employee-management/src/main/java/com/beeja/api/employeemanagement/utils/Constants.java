@@ -45,6 +45,7 @@ public class Constants {
   public static final String PAGE_NUMBER_INVALID = "Page number must be greater than 0.";
   public static final String PAGE_SIZE_INVALID = "Page size must be greater than 0.";
   public static final String PAGE_SIZE_EXCEEDS_LIMIT = "Page size must not exceed 100.";
+  public static final String INVALID_EXPORT_FORMAT = "Export format must be csv or xlsx, not ";
 
   public static final String DOC_URL_RESOURCE_NOT_FOUND = "https://beeja-dev.techatcore.com/";
 
@@ -3,8 +3,17 @@ package com.beeja.api.employeemanagement.utils;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
 
 public class JwtUtils {
+  public static final String CLAIM_EMPLOYEE_ID = "eid";
+  public static final String CLAIM_NAME = "name";
+  public static final String CLAIM_ORGANIZATION = "org";
+  public static final String CLAIM_PERMISSIONS = "perms";
+  public static final String CLAIM_PERMISSION_VERSION = "pv";
+
   public static Claims decodeJWT(String jwtToken, String secret) throws Exception {
 
     try {
@@ -14,4 +23,23 @@ public class JwtUtils {
       throw new Exception(e.getMessage());
     }
   }
+
+  /** Returns whether the token carries the user's organization, permissions and their version. */
+  public static boolean hasPermissionClaims(Claims claims) {
+    return claims.get(CLAIM_PERMISSION_VERSION) instanceof Number
+        && claims.get(CLAIM_ORGANIZATION) instanceof Map
+        && claims.get(CLAIM_PERMISSIONS) instanceof Collection;
+  }
+
+  public static long getPermissionVersion(Claims claims) {
+    return ((Number) claims.get(CLAIM_PERMISSION_VERSION)).longValue();
+  }
+
+  /** Returns the organization id claimed by the token, or {@code null} when it has none. */
+  public static String getOrganizationId(Claims claims) {
+    if (claims.get(CLAIM_ORGANIZATION) instanceof Map<?, ?> organization) {
+      return Objects.toString(organization.get("id"), null);
+    }
+    return null;
+  }
 }
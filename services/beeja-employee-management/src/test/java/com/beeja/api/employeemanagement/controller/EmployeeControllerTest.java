@@ -17,6 +17,7 @@ import com.beeja.api.employeemanagement.model.*;
 import com.beeja.api.employeemanagement.requests.EmployeeUpdateRequest;
 import com.beeja.api.employeemanagement.requests.UpdateKYCRequest;
 import com.beeja.api.employeemanagement.response.EmployeeResponse;
+import com.beeja.api.employeemanagement.service.EmployeeExportService;
 import com.beeja.api.employeemanagement.service.EmployeeService;
 import com.beeja.api.employeemanagement.service.FileService;
 import com.beeja.api.employeemanagement.utils.Constants;
@@ -53,6 +54,8 @@ class EmployeeControllerTest {
 
   @MockBean EmployeeService employeeService;
 
+  @MockBean EmployeeExportService employeeExportService;
+
   @MockBean FileService fileService;
 
   @MockBean AccountClient accountClient;
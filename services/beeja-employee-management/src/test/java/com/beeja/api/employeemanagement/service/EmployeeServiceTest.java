@@ -13,10 +13,10 @@ import com.beeja.api.employeemanagement.model.*;
 import com.beeja.api.employeemanagement.model.clients.accounts.OrganizationDTO;
 import com.beeja.api.employeemanagement.model.clients.accounts.UserDTO;
 import com.beeja.api.employeemanagement.repository.EmployeeRepository;
-import com.beeja.api.employeemanagement.requests.EmployeeOrgRequest;
 import com.beeja.api.employeemanagement.requests.EmployeeUpdateRequest;
 import com.beeja.api.employeemanagement.requests.UpdateKYCRequest;
 import com.beeja.api.employeemanagement.response.GetLimitedEmployee;
+import com.beeja.api.employeemanagement.serviceImpl.EmployeeDirectoryQuery;
 import com.beeja.api.employeemanagement.serviceImpl.EmployeeServiceImpl;
 import com.beeja.api.employeemanagement.utils.UserContext;
 import java.util.HashMap;
@@ -34,10 +34,6 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.aggregation.Aggregation;
-import org.springframework.data.mongodb.core.aggregation.AggregationResults;
-import org.springframework.data.mongodb.core.query.Query;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 /** */
@@ -55,6 +51,7 @@ public class EmployeeServiceTest {
   private Employee mockEmployee;
   private MockedStatic<UserContext> userContextMock;
   @Mock private MongoTemplate mongoTemplate;
+  @Mock private EmployeeDirectoryQuery employeeDirectoryQuery;
 
   @BeforeEach
   void setUp() {
@@ -138,15 +135,13 @@ public class EmployeeServiceTest {
     address.setCity("City");
     address.setState("State");
     employee.setAddress(address);
+    AccountReplica account = new AccountReplica();
+    account.setId(employeeId);
+    account.setEmail("user123@gmail.com");
+    employee.setAccount(account);
     when(employeeRepository.findByEmployeeIdAndOrganizationId(employeeId, organizationId))
         .thenReturn(employee);
 
-    UserDTO mockUserDTO = new UserDTO();
-    mockUserDTO.setId(employeeId);
-    mockUserDTO.setEmail("user123@gmail.com");
-    ResponseEntity<Object> accountResponse = ResponseEntity.ok(mockUserDTO);
-    when(accountClient.getUserByEmployeeId(employeeId.toUpperCase())).thenReturn(accountResponse);
-
     OrganizationDTO mockOrganization = new OrganizationDTO();
     mockOrganization.setId(organizationId);
     Set<String> mockPermissions = Set.of("READ_COMPLETE_EMPLOYEE_DETAILS");
@@ -171,14 +166,14 @@ public class EmployeeServiceTest {
     assertEquals("Full-Time", resultEmployee.getEmploymentType());
     assertEquals(organizationId, resultEmployee.getOrganizationId());
     assertEquals("Software Engineer", resultEmployee.getPosition());
-    UserDTO resultUserDTO = (UserDTO) result.get("account");
-    assertNotNull(resultUserDTO);
-    assertEquals(employeeId, resultUserDTO.getId());
-    assertEquals("user123@gmail.com", resultUserDTO.getEmail());
+    AccountReplica resultAccount = (AccountReplica) result.get("account");
+    assertNotNull(resultAccount);
+    assertEquals(employeeId, resultAccount.getId());
+    assertEquals("user123@gmail.com", resultAccount.getEmail());
 
     verify(employeeRepository, times(1))
         .findByEmployeeIdAndOrganizationId(employeeId, organizationId);
-    verify(accountClient, times(1)).getUserByEmployeeId(employeeId.toUpperCase());
+    Mockito.verifyNoInteractions(accountClient);
   }
 
   @Test
@@ -307,32 +302,15 @@ public class EmployeeServiceTest {
     int pageSize = 10;
     String status = "Active";
 
-    Employee mockEmployee = new Employee();
-    mockEmployee.setEmployeeId("EMP001");
-    mockEmployee.setJobDetails(new JobDetails());
-    List<Employee> employees = List.of(mockEmployee);
-
-    Mockito.when(mongoTemplate.find(Mockito.any(Query.class), Mockito.eq(Employee.class)))
-        .thenReturn(employees);
-
-    Map<String, Object> accountResponseData = Map.of("employeeId", "EMP001", "active", true);
-    List<Map<String, Object>> accountResponseList = List.of(accountResponseData);
-    Mockito.when(accountClient.getUsersByEmployeeIds(Mockito.any(EmployeeOrgRequest.class)))
-        .thenReturn(new ResponseEntity<>(accountResponseList, HttpStatus.OK));
     GetLimitedEmployee limitedEmployee = new GetLimitedEmployee();
     limitedEmployee.setId("1");
     limitedEmployee.setEmployeeId("EMP001");
     limitedEmployee.setJobDetails(new JobDetails());
     limitedEmployee.setProfilePictureId("pic1");
-    AggregationResults<GetLimitedEmployee> aggregationResults =
-        Mockito.mock(AggregationResults.class);
-    Mockito.when(aggregationResults.getMappedResults()).thenReturn(List.of(limitedEmployee));
     Mockito.when(
-            mongoTemplate.aggregate(
-                Mockito.any(Aggregation.class),
-                Mockito.eq("employees"),
-                Mockito.eq(GetLimitedEmployee.class)))
-        .thenReturn(aggregationResults);
+            employeeDirectoryQuery.findPage(
+                organizationId, department, designation, employmentType, true, 1, 10))
+        .thenReturn(new EmployeeDirectoryQuery.DirectoryPage(List.of(limitedEmployee), 1));
 
     List<GetLimitedEmployee> result =
         employeeService.getLimitedDataOfEmployees(
@@ -341,11 +319,7 @@ public class EmployeeServiceTest {
     assertNotNull(result, "Result should not be null");
     assertEquals(1, result.size(), "Result size should be 1");
     assertEquals("EMP001", result.get(0).getEmployeeId(), "First employee ID should match");
-    Mockito.verify(mongoTemplate, Mockito.times(1))
-        .aggregate(
-            Mockito.any(Aggregation.class),
-            Mockito.eq("employees"),
-            Mockito.eq(GetLimitedEmployee.class));
+    Mockito.verifyNoInteractions(accountClient);
   }
 
   @AfterEach
@@ -0,0 +1,137 @@
+package com.beeja.api.employeemanagement.serviceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.beeja.api.employeemanagement.model.AccountReplica;
+import com.beeja.api.employeemanagement.model.Employee;
+import com.beeja.api.employeemanagement.model.JobDetails;
+import com.beeja.api.employeemanagement.response.GetLimitedEmployee;
+import com.beeja.api.employeemanagement.service.AccountReplicaService;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/** Runs the directory aggregation against an embedded Mongo. */
+class EmployeeDirectoryQueryTest {
+
+  private static final String ORGANIZATION = "org-1";
+
+  private static TransitionWalker.ReachedState<RunningMongodProcess> mongod;
+  private static MongoClient mongoClient;
+  private static MongoTemplate mongoTemplate;
+
+  private EmployeeDirectoryQuery directoryQuery;
+
+  @BeforeAll
+  static void startMongo() {
+    mongod = Mongod.instance().start(Version.Main.V6_0);
+    mongoClient = MongoClients.create("mongodb://" + mongod.current().getServerAddress());
+    mongoTemplate = new MongoTemplate(mongoClient, "employee-directory-test");
+  }
+
+  @AfterAll
+  static void stopMongo() {
+    mongoClient.close();
+    mongod.close();
+  }
+
+  @BeforeEach
+  void setUp() {
+    mongoTemplate.dropCollection(Employee.class);
+    // Inserted out of order, so that the page has to come from the sort.
+    mongoTemplate.insert(employee(ORGANIZATION, 5, "Engineering", true));
+    mongoTemplate.insert(employee(ORGANIZATION, 2, "Engineering", false));
+    mongoTemplate.insert(employee(ORGANIZATION, 4, "Sales", true));
+    mongoTemplate.insert(employee(ORGANIZATION, 1, "Engineering", true));
+    mongoTemplate.insert(employee(ORGANIZATION, 3, "Engineering", true));
+    mongoTemplate.insert(employee("org-2", 6, "Engineering", true));
+
+    directoryQuery = new EmployeeDirectoryQuery();
+    directoryQuery.mongoTemplate = mongoTemplate;
+    directoryQuery.accountReplicaService = mock(AccountReplicaService.class);
+  }
+
+  @Test
+  void testPageAndTotalComeFromOneAggregation() {
+    EmployeeDirectoryQuery.DirectoryPage page =
+        directoryQuery.findPage(ORGANIZATION, null, null, null, null, 2, 2);
+
+    assertEquals(List.of("E3", "E4"), employeeIds(page));
+    assertEquals(5, page.totalSize());
+    GetLimitedEmployee first = page.employees().get(0);
+    assertEquals("Engineering", first.getJobDetails().getDepartment());
+    assertEquals("e3@beeja.io", first.getAccount().getEmail());
+  }
+
+  @Test
+  void testTotalCountsEveryMatchNotOnlyThePage() {
+    EmployeeDirectoryQuery.DirectoryPage page =
+        directoryQuery.findPage(ORGANIZATION, "Engineering", null, null, true, 1, 2);
+
+    assertEquals(List.of("E1", "E3"), employeeIds(page));
+    assertEquals(3, page.totalSize());
+  }
+
+  @Test
+  void testInactiveEmployeesAreFilteredByTheirCopiedStatus() {
+    EmployeeDirectoryQuery.DirectoryPage page =
+        directoryQuery.findPage(ORGANIZATION, null, null, null, false, 1, 10);
+
+    assertEquals(List.of("E2"), employeeIds(page));
+    assertEquals(1, page.totalSize());
+  }
+
+  @Test
+  void testPageBeyondTheLastKeepsTheTotal() {
+    EmployeeDirectoryQuery.DirectoryPage page =
+        directoryQuery.findPage(ORGANIZATION, null, null, null, null, 4, 2);
+
+    assertTrue(page.employees().isEmpty());
+    assertEquals(5, page.totalSize());
+  }
+
+  @Test
+  void testNoMatchesGivesAnEmptyPage() {
+    EmployeeDirectoryQuery.DirectoryPage page =
+        directoryQuery.findPage("org-3", null, null, null, null, 1, 10);
+
+    assertTrue(page.employees().isEmpty());
+    assertEquals(0, page.totalSize());
+  }
+
+  private static List<String> employeeIds(EmployeeDirectoryQuery.DirectoryPage page) {
+    return page.employees().stream().map(GetLimitedEmployee::getEmployeeId).toList();
+  }
+
+  private static Employee employee(
+      String organizationId, int number, String department, boolean active) {
+    JobDetails jobDetails = new JobDetails();
+    jobDetails.setDepartment(department);
+    jobDetails.setDesignation("Engineer");
+    jobDetails.setEmployementType("Full Time");
+
+    AccountReplica account = new AccountReplica();
+    account.setEmployeeId("E" + number);
+    account.setEmail("e" + number + "@beeja.io");
+    account.setActive(active);
+
+    Employee employee = new Employee();
+    employee.setEmployeeId("E" + number);
+    employee.setEmployeeNumber(number);
+    employee.setOrganizationId(organizationId);
+    employee.setJobDetails(jobDetails);
+    employee.setAccount(account);
+    return employee;
+  }
+}
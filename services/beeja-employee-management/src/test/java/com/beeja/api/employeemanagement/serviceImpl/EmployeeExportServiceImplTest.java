@@ -0,0 +1,223 @@
+package com.beeja.api.employeemanagement.serviceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.beeja.api.employeemanagement.enums.ExportFormat;
+import com.beeja.api.employeemanagement.model.AccountReplica;
+import com.beeja.api.employeemanagement.model.Employee;
+import com.beeja.api.employeemanagement.model.JobDetails;
+import com.beeja.api.employeemanagement.model.clients.accounts.OrganizationDTO;
+import com.beeja.api.employeemanagement.model.clients.accounts.RoleDTO;
+import com.beeja.api.employeemanagement.service.AccountReplicaService;
+import com.beeja.api.employeemanagement.utils.UserContext;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/** Writes exports from an embedded Mongo, with accounts behind a mocked replica service. */
+class EmployeeExportServiceImplTest {
+
+  private static final String ORGANIZATION = "org-1";
+
+  private static final String HEADER =
+      "Employee ID,First Name,Last Name,Email,Department,Designation,Employment Type,"
+          + "Joining Date,Roles,Status\r\n";
+
+  private static TransitionWalker.ReachedState<RunningMongodProcess> mongod;
+  private static MongoClient mongoClient;
+  private static MongoTemplate mongoTemplate;
+
+  private EmployeeExportServiceImpl exportService;
+  private AccountReplicaService accountReplicaService;
+
+  @BeforeAll
+  static void startMongo() {
+    mongod = Mongod.instance().start(Version.Main.V6_0);
+    mongoClient = MongoClients.create("mongodb://" + mongod.current().getServerAddress());
+    mongoTemplate = new MongoTemplate(mongoClient, "employee-export-test");
+  }
+
+  @AfterAll
+  static void stopMongo() {
+    mongoClient.close();
+    mongod.close();
+  }
+
+  @BeforeEach
+  void setUp() {
+    mongoTemplate.dropCollection(Employee.class);
+    accountReplicaService = mock(AccountReplicaService.class);
+    exportService = new EmployeeExportServiceImpl();
+    exportService.mongoTemplate = mongoTemplate;
+    exportService.accountReplicaService = accountReplicaService;
+
+    OrganizationDTO organization = new OrganizationDTO();
+    organization.setId(ORGANIZATION);
+    UserContext.setLoggedInUserOrganization(organization);
+  }
+
+  @AfterEach
+  void tearDown() {
+    UserContext.clear();
+  }
+
+  @Test
+  void testCsvQuotesValuesAndEscapesFormulas() throws Exception {
+    Employee employee = employee(1, account(1, true));
+    employee.getAccount().setFirstName("Ann, Jr");
+    employee.getAccount().setLastName("O\"Neil");
+    employee.getAccount().setEmail("=cmd|' /C calc'!A0");
+    employee.getAccount().setRoles(Set.of(role("HR"), role("Admin")));
+    employee.getJobDetails().setDepartment("\t=1+1");
+    employee.getJobDetails().setDesignation("\r+1");
+    employee.getJobDetails().setEmployementType("-2");
+    mongoTemplate.insert(employee);
+
+    String csv = csv(null);
+
+    assertEquals(
+        HEADER
+            + "E1,\"Ann, Jr\",\"O\"\"Neil\",'=cmd|' /C calc'!A0,'\t=1+1,\"'\r+1\",'-2,,"
+            + "Admin; HR,Active\r\n",
+        csv);
+  }
+
+  @Test
+  void testOnlyMissingAccountsAreReadOncePerChunk() throws Exception {
+    List<Employee> employees = new ArrayList<>();
+    for (int number = 1; number <= 501; number++) {
+      employees.add(employee(number, number % 2 == 0 ? account(number, true) : null));
+    }
+    mongoTemplate.insertAll(employees);
+    when(accountReplicaService.refresh(eq(ORGANIZATION), anyCollection()))
+        .thenAnswer(
+            invocation ->
+                invocation.<Collection<String>>getArgument(1).stream()
+                    .map(
+                        employeeId -> {
+                          AccountReplica account = account(0, true);
+                          account.setEmployeeId(employeeId);
+                          account.setFirstName("Copied");
+                          return account;
+                        })
+                    .toList());
+
+    String csv = csv(null);
+
+    ArgumentCaptor<Collection<String>> requested = ArgumentCaptor.forClass(Collection.class);
+    verify(accountReplicaService, times(2)).refresh(eq(ORGANIZATION), requested.capture());
+    Collection<String> firstChunk = requested.getAllValues().get(0);
+    assertEquals(250, firstChunk.size());
+    assertTrue(firstChunk.stream().allMatch(EmployeeExportServiceImplTest::odd));
+    assertEquals(List.of("E501"), List.copyOf(requested.getAllValues().get(1)));
+    verify(accountReplicaService, never()).fillMissing(ORGANIZATION);
+
+    String[] lines = csv.split("\r\n");
+    assertEquals(502, lines.length);
+    assertTrue(lines[1].startsWith("E1,Copied,"));
+    assertTrue(lines[2].startsWith("E2,First2,"));
+  }
+
+  @Test
+  void testStatusFilterExportsMatchingCopiedStatusOnly() throws Exception {
+    mongoTemplate.insert(employee(1, account(1, true)));
+    mongoTemplate.insert(employee(2, account(2, false)));
+    mongoTemplate.insert(employee(3, account(3, true)));
+
+    String csv = csv("inactive");
+
+    assertEquals(
+        HEADER + "E2,First2,Last2,e2@beeja.io,Engineering,Engineer,,,,Inactive\r\n", csv);
+    verify(accountReplicaService).fillMissing(ORGANIZATION);
+  }
+
+  @Test
+  void testXlsxHasHeaderAndRowsAsText() throws Exception {
+    Employee employee = employee(1, account(1, true));
+    employee.getJobDetails().setDepartment("=1+1");
+    mongoTemplate.insert(employee);
+    mongoTemplate.insert(employee(2, account(2, false)));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    exportService.exportBody(null, null, null, null, ExportFormat.XLSX).writeTo(output);
+
+    try (XSSFWorkbook workbook =
+        new XSSFWorkbook(new ByteArrayInputStream(output.toByteArray()))) {
+      Sheet sheet = workbook.getSheet("Employees");
+      assertEquals(2, sheet.getLastRowNum());
+      assertEquals("Employee ID", sheet.getRow(0).getCell(0).getStringCellValue());
+      assertEquals("E1", sheet.getRow(1).getCell(0).getStringCellValue());
+      assertEquals(CellType.STRING, sheet.getRow(1).getCell(4).getCellType());
+      assertEquals("=1+1", sheet.getRow(1).getCell(4).getStringCellValue());
+      assertEquals("Inactive", sheet.getRow(2).getCell(9).getStringCellValue());
+    }
+  }
+
+  private String csv(String status) throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    exportService.exportBody(null, null, null, status, ExportFormat.CSV).writeTo(output);
+    return output.toString(StandardCharsets.UTF_8);
+  }
+
+  private static boolean odd(String employeeId) {
+    return Integer.parseInt(employeeId.substring(1)) % 2 == 1;
+  }
+
+  private static Employee employee(int number, AccountReplica account) {
+    JobDetails jobDetails = new JobDetails();
+    jobDetails.setDepartment("Engineering");
+    jobDetails.setDesignation("Engineer");
+
+    Employee employee = new Employee();
+    employee.setEmployeeId("E" + number);
+    employee.setEmployeeNumber(number);
+    employee.setOrganizationId(ORGANIZATION);
+    employee.setJobDetails(jobDetails);
+    employee.setAccount(account);
+    return employee;
+  }
+
+  private static AccountReplica account(int number, boolean active) {
+    AccountReplica account = new AccountReplica();
+    account.setEmployeeId("E" + number);
+    account.setFirstName("First" + number);
+    account.setLastName("Last" + number);
+    account.setEmail("e" + number + "@beeja.io");
+    account.setActive(active);
+    return account;
+  }
+
+  private static RoleDTO role(String name) {
+    RoleDTO role = new RoleDTO();
+    role.setName(name);
+    return role;
+  }
+}
@@ -14,6 +14,7 @@ import com.beeja.api.employeemanagement.model.*;
 import com.beeja.api.employeemanagement.model.clients.accounts.OrganizationDTO;
 import com.beeja.api.employeemanagement.repository.EmployeeRepository;
 import com.beeja.api.employeemanagement.requests.EmployeeUpdateRequest;
+import com.beeja.api.employeemanagement.service.AccountReplicaService;
 import com.beeja.api.employeemanagement.service.EmployeeService;
 import com.beeja.api.employeemanagement.utils.UserContext;
 import java.text.ParseException;
@@ -22,6 +23,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
@@ -46,6 +48,7 @@ public class EmployeeServiceImplTest {
   @Mock AccountClient accountClient;
   @Mock MongoTemplate mongoTemplate;
   @Mock EmployeeService employeeService;
+  @Mock AccountReplicaService accountReplicaService;
   private MockedStatic<UserContext> userContextMock;
 
   @BeforeEach
@@ -150,6 +153,7 @@ public class EmployeeServiceImplTest {
   public void testGetEmployeeByEmployeeId() throws Exception {
     Employee mockEmployee = new Employee();
     mockEmployee.setId("1");
+    mockEmployee.setEmployeeId("1");
 
     OrganizationDTO organizationDTO = new OrganizationDTO();
     organizationDTO.setId("orgId");
@@ -168,19 +172,17 @@ public class EmployeeServiceImplTest {
     when(employeeRepository.findByEmployeeIdAndOrganizationId("1", "orgId"))
         .thenReturn(mockEmployee);
 
-    Map<String, Object> mockAccountData = new HashMap<>();
-    mockAccountData.put("accountId", "accountId123");
-
-    ResponseEntity mockAccountResponse = ResponseEntity.ok(mockAccountData);
-
-    when(accountClient.getUserByEmployeeId("1")).thenReturn(mockAccountResponse);
+    AccountReplica account = new AccountReplica();
+    account.setId("accountId123");
+    when(accountReplicaService.refresh("orgId", List.of(mockEmployee.getEmployeeId())))
+        .thenReturn(List.of(account));
 
     Map<String, Object> result = employeeServiceImpl.getEmployeeByEmployeeId("1");
 
     assertNotNull(result);
     assertEquals("1", ((Employee) result.get("employee")).getId());
     assertNotNull(result.get("account"));
-    assertEquals("accountId123", ((Map<String, Object>) result.get("account")).get("accountId"));
+    assertEquals("accountId123", ((AccountReplica) result.get("account")).getId());
   }
 
   @Test
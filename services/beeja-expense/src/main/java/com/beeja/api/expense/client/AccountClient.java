@@ -1,12 +1,15 @@
 package com.beeja.api.expense.client;
 
+import com.beeja.api.commons.principal.PrincipalInvalidations;
 import com.beeja.api.expense.response.CountryResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
 @FeignClient(value = "account-service", url = "${client-urls.accountsService}")
@@ -23,6 +26,16 @@ public interface AccountClient {
   @GetMapping("v1/users/email/{email}")
   ResponseEntity<?> getEmployeeByEmail(@PathVariable String email);
 
+  @GetMapping("v1/users/email/{email}")
+  ResponseEntity<?> getEmployeeByEmail(
+      @PathVariable String email, @RequestHeader("Authorization") String authorizationHeader);
+
+  @GetMapping("v1/users/organizations/{organizationId}/email/{email}")
+  ResponseEntity<?> getUserOfOrganizationByEmail(
+      @PathVariable String organizationId,
+      @PathVariable String email,
+      @RequestHeader("Authorization") String authorizationHeader);
+
   @GetMapping("/v1/organizations/{organizationId}/country")
   ResponseEntity<String> getCountryByOrganizationId(@PathVariable String organizationId);
 
@@ -31,4 +44,8 @@ public interface AccountClient {
 
   @GetMapping("/api/country/mode-of-payment/{countryName}")
   ResponseEntity<CountryResponse> getModeOfPaymentByCountry(@PathVariable String countryName);
+
+  @GetMapping("/v1/principal-invalidations")
+  ResponseEntity<PrincipalInvalidations> getPrincipalInvalidations(
+      @RequestParam long after, @RequestHeader("Authorization") String authorizationHeader);
 }
@@ -6,25 +6,37 @@ import com.beeja.api.expense.annotations.HasPermission;
 import com.beeja.api.expense.annotations.RequireAllPermissions;
 import com.beeja.api.expense.exceptions.CustomAccessDeniedException;
 import com.beeja.api.expense.utils.UserContext;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Aspect
 @Component
 public class PermissionAspect {
 
+  @Autowired PermissionRegistry permissionRegistry;
+
+  private final Map<Method, long[]> anyOfMasks = new ConcurrentHashMap<>();
+
+  private final Map<Method, long[]> allOfMasks = new ConcurrentHashMap<>();
+
   @Before("@annotation(hasPermission)")
-  public void checkPermission(HasPermission hasPermission) throws CustomAccessDeniedException {
-    String[] requiredPermissions = hasPermission.value();
-    List<String> userPermissions = getUserPermissions();
+  public void checkPermission(JoinPoint joinPoint, HasPermission hasPermission)
+      throws CustomAccessDeniedException {
+    long[] requiredPermissions = requiredMask(anyOfMasks, joinPoint, hasPermission.value());
+    long[] userPermissions = getUserPermissionMask();
 
     boolean hasRequiredPermission =
-        Arrays.stream(requiredPermissions).anyMatch(userPermissions::contains);
+        PermissionRegistry.intersects(userPermissions, requiredPermissions);
 
     if (!hasRequiredPermission) {
       throw new CustomAccessDeniedException(NO_REQUIRED_PERMISSIONS);
@@ -32,25 +44,52 @@ public class PermissionAspect {
   }
 
   @Before("@annotation(requireAllPermissions)")
-  public void checkAllPermissions(RequireAllPermissions requireAllPermissions)
+  public void checkAllPermissions(JoinPoint joinPoint, RequireAllPermissions requireAllPermissions)
       throws CustomAccessDeniedException {
-    HasPermission[] requiredPermissions = requireAllPermissions.value();
-    List<String> userPermissions = getUserPermissions();
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    long[] requiredPermissions = allOfMasks.get(method);
+    if (requiredPermissions == null) {
+      List<String> permissions = new ArrayList<>();
+      for (HasPermission permissionAnnotation : requireAllPermissions.value()) {
+        permissions.addAll(Arrays.asList(permissionAnnotation.value()));
+      }
+      requiredPermissions = permissionRegistry.compile(permissions);
+      allOfMasks.put(method, requiredPermissions);
+    }
 
-    for (HasPermission permissionAnnotation : requiredPermissions) {
-      String[] permissions = permissionAnnotation.value();
+    boolean hasRequiredPermissions =
+        PermissionRegistry.containsAll(getUserPermissionMask(), requiredPermissions);
 
-      boolean hasRequiredPermissions =
-          Arrays.stream(permissions).allMatch(userPermissions::contains);
+    if (!hasRequiredPermissions) {
+      throw new CustomAccessDeniedException(NO_REQUIRED_PERMISSIONS);
+    }
+  }
 
-      if (!hasRequiredPermissions) {
-        throw new CustomAccessDeniedException(NO_REQUIRED_PERMISSIONS);
-      }
+  /**
+   * Returns the mask of permissions required by the advised method, compiling it on the first
+   * call and reusing it afterwards.
+   */
+  private long[] requiredMask(
+      Map<Method, long[]> masks, JoinPoint joinPoint, String... requiredPermissions) {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    long[] mask = masks.get(method);
+    if (mask == null) {
+      mask = permissionRegistry.compile(Arrays.asList(requiredPermissions));
+      masks.put(method, mask);
     }
+    return mask;
   }
 
-  private List<String> getUserPermissions() {
-    Set<String> loggedInUserPermissions = UserContext.getLoggedInUserPermissions();
-    return new ArrayList<>(loggedInUserPermissions);
+  /**
+   * Returns the logged-in user's permission mask, compiling it once per request from {@link
+   * UserContext}.
+   */
+  private long[] getUserPermissionMask() {
+    long[] mask = UserContext.getLoggedInUserPermissionMask();
+    if (mask == null) {
+      mask = permissionRegistry.compile(UserContext.getLoggedInUserPermissions());
+      UserContext.setLoggedInUserPermissionMask(mask);
+    }
+    return mask;
   }
 }
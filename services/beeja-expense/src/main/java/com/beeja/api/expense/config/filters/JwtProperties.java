@@ -1,5 +1,6 @@
 package com.beeja.api.expense.config.filters;
 
+import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -11,4 +12,9 @@ import org.springframework.context.annotation.Configuration;
 @ConfigurationProperties(prefix = "jwt")
 public class JwtProperties {
   private String secret;
+
+  /**
+   * How long permission claims of a user are trusted after accounts last confirmed their version.
+   */
+  private Duration claimsVerificationInterval = Duration.ofMinutes(5);
 }
@@ -0,0 +1,102 @@
+package com.beeja.api.expense.config.filters;
+
+import com.beeja.api.commons.principal.PrincipalInvalidationFollower;
+import com.beeja.api.expense.client.AccountClient;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.util.Map;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Principals of recently seen users, keyed by email and organization, so that requests whose
+ * token claims cannot be trusted on their own are usually answered from memory instead of a call
+ * to accounts. Entries still in use are reloaded in the background before they expire. No request
+ * is running then, so accounts is asked with the internal endpoint token, and the version it
+ * reports is recorded in {@link PermissionVersionRegistry} so that token claims stay trusted.
+ */
+@Component
+public class PrincipalCache implements PrincipalInvalidationFollower.EvictionTarget {
+
+  private final AccountClient accountClient;
+  private final PermissionVersionRegistry permissionVersionRegistry;
+  private final PrincipalCacheProperties properties;
+  private final LoadingCache<PrincipalKey, CachedPrincipal> principals;
+
+  public PrincipalCache(
+      AccountClient accountClient,
+      PermissionVersionRegistry permissionVersionRegistry,
+      PrincipalCacheProperties properties) {
+    this.accountClient = accountClient;
+    this.permissionVersionRegistry = permissionVersionRegistry;
+    this.properties = properties;
+    this.principals =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTimeToLive())
+            .refreshAfterWrite(properties.getRefreshAfter())
+            // Entries are first loaded by get() with the caller's authorization; the loader only
+            // runs for background reloads.
+            .build(this::reload);
+  }
+
+  /**
+   * @param organizationId the organization claimed by the access token, if any
+   * @param authorization the caller's authorization header, used when accounts must be asked
+   * @return the principal, or {@code null} when accounts does not know the user
+   */
+  public CachedPrincipal get(String email, String organizationId, String authorization) {
+    return principals.get(
+        new PrincipalKey(email, organizationId), key -> fetch(email, authorization));
+  }
+
+  /** Forgets everything known about the user, so the next request is verified with accounts. */
+  @Override
+  public void evict(String email) {
+    principals.asMap().keySet().removeIf(key -> key.email().equals(email));
+    permissionVersionRegistry.forget(email);
+  }
+
+  @Override
+  public void evictAll() {
+    principals.invalidateAll();
+    permissionVersionRegistry.forgetAll();
+  }
+
+  @SuppressWarnings("unchecked")
+  private CachedPrincipal fetch(String email, String authorization) {
+    ResponseEntity<?> response =
+        authorization == null
+            ? accountClient.getEmployeeByEmail(email)
+            : accountClient.getEmployeeByEmail(email, authorization);
+    if (!response.getStatusCode().is2xxSuccessful()
+        || !(response.getBody() instanceof Map<?, ?> responseBody)) {
+      return null;
+    }
+    return CachedPrincipal.from((Map<String, Object>) responseBody);
+  }
+
+  /**
+   * @return the principal as accounts reports it now, or {@code null} to drop the entry when the
+   *     internal endpoint token is not configured or the token claimed no organization
+   */
+  @SuppressWarnings("unchecked")
+  private CachedPrincipal reload(PrincipalKey key) {
+    String invalidationToken = properties.getInvalidationToken();
+    if (invalidationToken == null || invalidationToken.isBlank() || key.organizationId() == null) {
+      return null;
+    }
+    ResponseEntity<?> response =
+        accountClient.getUserOfOrganizationByEmail(
+            key.organizationId(), key.email(), "Bearer " + invalidationToken);
+    if (!response.getStatusCode().is2xxSuccessful()
+        || !(response.getBody() instanceof Map<?, ?> responseBody)) {
+      return null;
+    }
+    CachedPrincipal principal = CachedPrincipal.from((Map<String, Object>) responseBody);
+    permissionVersionRegistry.recordVerified(key.email(), principal.permissionVersion());
+    return principal;
+  }
+
+  private record PrincipalKey(String email, String organizationId) {}
+}
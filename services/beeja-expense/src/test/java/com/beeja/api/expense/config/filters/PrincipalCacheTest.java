@@ -0,0 +1,80 @@
+package com.beeja.api.expense.config.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.beeja.api.expense.client.AccountClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+class PrincipalCacheTest {
+
+  private static final String EMAIL = "a@beeja.io";
+  private static final String USER_AUTHORIZATION = "Bearer user-token";
+
+  private AccountClient accountClient;
+  private PermissionVersionRegistry permissionVersionRegistry;
+  private PrincipalCacheProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    accountClient = mock(AccountClient.class);
+    permissionVersionRegistry = mock(PermissionVersionRegistry.class);
+    properties = new PrincipalCacheProperties();
+    properties.setRefreshAfter(Duration.ofMillis(1));
+    properties.setInvalidationToken("internal-token");
+    doReturn(ResponseEntity.ok(account(3)))
+        .when(accountClient)
+        .getEmployeeByEmail(EMAIL, USER_AUTHORIZATION);
+    doReturn(ResponseEntity.ok(account(4)))
+        .when(accountClient)
+        .getUserOfOrganizationByEmail("org-1", EMAIL, "Bearer internal-token");
+  }
+
+  @Test
+  void entriesInUseAreReloadedWithTheInternalToken() throws InterruptedException {
+    PrincipalCache principalCache =
+        new PrincipalCache(accountClient, permissionVersionRegistry, properties);
+
+    assertEquals(3, principalCache.get(EMAIL, "org-1", USER_AUTHORIZATION).permissionVersion());
+    Thread.sleep(10);
+    principalCache.get(EMAIL, "org-1", USER_AUTHORIZATION);
+
+    verify(accountClient, timeout(1000))
+        .getUserOfOrganizationByEmail("org-1", EMAIL, "Bearer internal-token");
+    verify(permissionVersionRegistry, timeout(1000)).recordVerified(EMAIL, 4);
+    verify(accountClient).getEmployeeByEmail(EMAIL, USER_AUTHORIZATION);
+  }
+
+  @Test
+  void entriesAreNotReloadedWithoutTheInternalToken() throws InterruptedException {
+    properties.setInvalidationToken("");
+    PrincipalCache principalCache =
+        new PrincipalCache(accountClient, permissionVersionRegistry, properties);
+
+    principalCache.get(EMAIL, "org-1", USER_AUTHORIZATION);
+    Thread.sleep(10);
+    principalCache.get(EMAIL, "org-1", USER_AUTHORIZATION);
+
+    verify(accountClient, never())
+        .getUserOfOrganizationByEmail(anyString(), anyString(), anyString());
+  }
+
+  private static Map<String, Object> account(long permissionVersion) {
+    return Map.of(
+        "email", EMAIL,
+        "organizations", Map.of("id", "org-1"),
+        "roles", List.of(Map.of("permissions", List.of("REXP"))),
+        "permissionVersion", permissionVersion,
+        "active", true);
+  }
+}
@@ -1,6 +1,7 @@
 package com.beeja.api.filemanagement.config;
 
 import com.beeja.api.filemanagement.utils.Constants;
+import com.beeja.api.filemanagement.utils.UserContext;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
 import feign.codec.Decoder;
@@ -30,7 +31,9 @@ public class FeignClientInterceptor implements RequestInterceptor {
     if (attributes != null) {
       return attributes.getRequest().getHeader(Constants.ACCESS_TOKEN_HEADER);
     }
-    return null;
+    // Outside a request thread, e.g. in @Async work, fall back to the propagated user's token.
+    String accessToken = UserContext.getAccessToken();
+    return accessToken == null ? null : "Bearer " + accessToken;
   }
 
   @Bean
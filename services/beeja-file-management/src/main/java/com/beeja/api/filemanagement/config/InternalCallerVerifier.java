@@ -0,0 +1,40 @@
+package com.beeja.api.filemanagement.config;
+
+import com.beeja.api.filemanagement.config.authentication.PrincipalCacheProperties;
+import com.beeja.api.filemanagement.enums.ErrorCode;
+import com.beeja.api.filemanagement.enums.ErrorType;
+import com.beeja.api.filemanagement.exceptions.UnAuthorisedException;
+import com.beeja.api.filemanagement.utils.BuildErrorMessage;
+import com.beeja.api.filemanagement.utils.Constants;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/** Admits the other services, which call internal endpoints with the internal endpoint token. */
+@Component
+public class InternalCallerVerifier {
+
+  @Autowired PrincipalCacheProperties principalCacheProperties;
+
+  /**
+   * @throws UnAuthorisedException unless the header carries the internal endpoint token
+   */
+  public void verify(String authorization) {
+    String internalToken = principalCacheProperties.getInvalidationToken();
+    boolean internalCaller =
+        internalToken != null
+            && !internalToken.isBlank()
+            && authorization != null
+            && MessageDigest.isEqual(
+                ("Bearer " + internalToken).getBytes(StandardCharsets.UTF_8),
+                authorization.getBytes(StandardCharsets.UTF_8));
+    if (!internalCaller) {
+      throw new UnAuthorisedException(
+          BuildErrorMessage.buildErrorMessage(
+              ErrorType.AUTHORIZATION_ERROR,
+              ErrorCode.PERMISSION_MISSING,
+              Constants.UNAUTHORISED_ACCESS_ERROR));
+    }
+  }
+}
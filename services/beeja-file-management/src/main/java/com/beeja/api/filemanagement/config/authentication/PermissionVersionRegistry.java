@@ -0,0 +1,46 @@
+package com.beeja.api.filemanagement.config.authentication;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers the permission version accounts last reported for each user. Permission claims in an
+ * access token are trusted only while that confirmation is fresh and the token is not older than
+ * the version accounts reported; otherwise the filter falls back to looking the user up.
+ */
+@Component
+public class PermissionVersionRegistry {
+
+  @Autowired JwtProperties jwtProperties;
+
+  private final Map<String, VerifiedVersion> verifiedVersions = new ConcurrentHashMap<>();
+
+  public boolean isCurrent(String email, long tokenPermissionVersion) {
+    VerifiedVersion verifiedVersion = verifiedVersions.get(email);
+    if (verifiedVersion == null) {
+      return false;
+    }
+    long age = System.currentTimeMillis() - verifiedVersion.verifiedAt();
+    if (age > jwtProperties.getClaimsVerificationInterval().toMillis()) {
+      verifiedVersions.remove(email, verifiedVersion);
+      return false;
+    }
+    return tokenPermissionVersion >= verifiedVersion.version();
+  }
+
+  public void recordVerified(String email, long permissionVersion) {
+    verifiedVersions.put(email, new VerifiedVersion(permissionVersion, System.currentTimeMillis()));
+  }
+
+  public void forget(String email) {
+    verifiedVersions.remove(email);
+  }
+
+  public void forgetAll() {
+    verifiedVersions.clear();
+  }
+
+  private record VerifiedVersion(long version, long verifiedAt) {}
+}
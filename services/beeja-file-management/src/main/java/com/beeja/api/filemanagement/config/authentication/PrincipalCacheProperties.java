@@ -0,0 +1,35 @@
+package com.beeja.api.filemanagement.config.authentication;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "principal-cache")
+public class PrincipalCacheProperties {
+  /** Users whose principal is kept in memory. */
+  private long maximumSize = 10_000;
+
+  /**
+   * How long a principal is served without asking accounts again. Changes made in accounts are
+   * applied sooner through {@link PrincipalInvalidationPoller}, so this only bounds staleness when
+   * accounts cannot be reached.
+   */
+  private Duration timeToLive = Duration.ofMinutes(10);
+
+  /** Age after which a principal that is still being used is reloaded in the background. */
+  private Duration refreshAfter = Duration.ofMinutes(5);
+
+  /** How often accounts is asked which users' roles, permissions or status have changed. */
+  private Duration invalidationPollInterval = Duration.ofSeconds(5);
+
+  /**
+   * Internal endpoint token, sent to accounts to read principal invalidations and reload
+   * principals, and required from callers of the principal cache endpoint.
+   */
+  private String invalidationToken;
+}
@@ -0,0 +1,41 @@
+package com.beeja.api.filemanagement.config.authentication;
+
+import com.beeja.api.commons.principal.PrincipalInvalidationFollower;
+import com.beeja.api.filemanagement.client.AccountClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Polls accounts for principal invalidations and applies them to {@link PrincipalCache}; the
+ * bookkeeping is shared by every service in {@link PrincipalInvalidationFollower}.
+ */
+@Component
+public class PrincipalInvalidationPoller {
+
+  private final PrincipalCacheProperties properties;
+  private final PrincipalInvalidationFollower follower;
+
+  public PrincipalInvalidationPoller(
+      AccountClient accountClient,
+      PrincipalCache principalCache,
+      PrincipalCacheProperties properties) {
+    this.properties = properties;
+    this.follower =
+        new PrincipalInvalidationFollower(
+            version ->
+                accountClient
+                    .getPrincipalInvalidations(
+                        version, "Bearer " + properties.getInvalidationToken())
+                    .getBody(),
+            principalCache);
+  }
+
+  @Scheduled(fixedDelayString = "#{@principalCacheProperties.invalidationPollInterval.toMillis()}")
+  public void poll() {
+    String invalidationToken = properties.getInvalidationToken();
+    if (invalidationToken == null || invalidationToken.isBlank()) {
+      return;
+    }
+    follower.poll();
+  }
+}
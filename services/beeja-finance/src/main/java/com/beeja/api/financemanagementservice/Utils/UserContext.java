@@ -2,21 +2,79 @@ package com.beeja.api.financemanagementservice.Utils;
 
 import java.util.Map;
 import java.util.Set;
-import lombok.Getter;
-import lombok.Setter;
+import java.util.concurrent.Executor;
 
+/**
+ * The user on whose behalf the current thread is working. Values are held per thread, so
+ * concurrent requests never see each other's user; the request filter clears them when the
+ * request ends. Work handed to another thread takes a copy along through {@link #wrap(Runnable)},
+ * {@link #propagating(Executor)} or an explicit {@link #capture()} and {@link #runWith}. Only
+ * {@code capture} and {@code runWith} bind values to other threads, which is the shape a
+ * {@code ScopedValue} binding takes, so moving to scoped values changes nothing outside this class.
+ */
 public class UserContext {
-  @Getter @Setter private static String loggedInUserEmail;
+  private static final ThreadLocal<Snapshot> CURRENT = new ThreadLocal<>();
 
-  @Getter @Setter private static String loggedInUserName;
+  private static final Snapshot EMPTY = new Snapshot();
 
-  @Getter @Setter private static String loggedInEmployeeId;
+  public static String getLoggedInUserEmail() {
+    return read().email;
+  }
+
+  public static void setLoggedInUserEmail(String loggedInUserEmail) {
+    current().email = loggedInUserEmail;
+  }
 
-  @Getter @Setter private static Map<String, Object> loggedInUserOrganization;
+  public static String getLoggedInUserName() {
+    return read().name;
+  }
 
-  @Getter @Setter private static Set<String> loggedInUserPermissions;
+  public static void setLoggedInUserName(String loggedInUserName) {
+    current().name = loggedInUserName;
+  }
 
-  @Getter @Setter private static String accessToken;
+  public static String getLoggedInEmployeeId() {
+    return read().employeeId;
+  }
+
+  public static void setLoggedInEmployeeId(String loggedInEmployeeId) {
+    current().employeeId = loggedInEmployeeId;
+  }
+
+  public static Map<String, Object> getLoggedInUserOrganization() {
+    return read().organization;
+  }
+
+  public static void setLoggedInUserOrganization(Map<String, Object> loggedInUserOrganization) {
+    current().organization = loggedInUserOrganization;
+  }
+
+  public static Set<String> getLoggedInUserPermissions() {
+    return read().permissions;
+  }
+
+  public static void setLoggedInUserPermissions(Set<String> loggedInUserPermissions) {
+    Snapshot context = current();
+    context.permissions = loggedInUserPermissions;
+    context.permissionMask = null;
+  }
+
+  /** The permissions compiled by the permission aspect, or {@code null} until it first checks. */
+  public static long[] getLoggedInUserPermissionMask() {
+    return read().permissionMask;
+  }
+
+  public static void setLoggedInUserPermissionMask(long[] loggedInUserPermissionMask) {
+    current().permissionMask = loggedInUserPermissionMask;
+  }
+
+  public static String getAccessToken() {
+    return read().token;
+  }
+
+  public static void setAccessToken(String accessToken) {
+    current().token = accessToken;
+  }
 
   public static void setLoggedInUser(
       String email,
@@ -25,11 +83,88 @@ public class UserContext {
       Map<String, Object> organization,
       Set<String> permissions,
       String token) {
-    loggedInUserEmail = email;
-    loggedInUserName = name;
-    loggedInEmployeeId = employeeId;
-    loggedInUserOrganization = organization;
-    loggedInUserPermissions = permissions;
-    accessToken = token;
+    Snapshot context = current();
+    context.email = email;
+    context.name = name;
+    context.employeeId = employeeId;
+    context.organization = organization;
+    context.permissions = permissions;
+    context.permissionMask = null;
+    context.token = token;
+  }
+
+  /** Returns a copy of the current thread's user, for handing to work run elsewhere. */
+  public static Snapshot capture() {
+    return read().copy();
+  }
+
+  /** Runs the task with the given user as the current one, then restores the previous user. */
+  public static void runWith(Snapshot snapshot, Runnable task) {
+    Snapshot previous = CURRENT.get();
+    CURRENT.set(snapshot.copy());
+    try {
+      task.run();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+
+  /** Binds the task to the current thread's user, wherever it is eventually run. */
+  public static Runnable wrap(Runnable task) {
+    Snapshot snapshot = capture();
+    return () -> runWith(snapshot, task);
+  }
+
+  /**
+   * Returns an executor that runs each task with the user of the thread submitting it, for use
+   * with {@code CompletableFuture.runAsync(task, executor)} and similar.
+   */
+  public static Executor propagating(Executor executor) {
+    return task -> executor.execute(wrap(task));
+  }
+
+  public static void clear() {
+    CURRENT.remove();
+  }
+
+  private static Snapshot read() {
+    Snapshot context = CURRENT.get();
+    return context == null ? EMPTY : context;
+  }
+
+  private static Snapshot current() {
+    Snapshot context = CURRENT.get();
+    if (context == null) {
+      context = new Snapshot();
+      CURRENT.set(context);
+    }
+    return context;
+  }
+
+  /** The values of one user, copied whenever they cross to another thread. */
+  public static final class Snapshot {
+    private String email;
+    private String name;
+    private String employeeId;
+    private Map<String, Object> organization;
+    private Set<String> permissions;
+    private long[] permissionMask;
+    private String token;
+
+    private Snapshot copy() {
+      Snapshot copy = new Snapshot();
+      copy.email = email;
+      copy.name = name;
+      copy.employeeId = employeeId;
+      copy.organization = organization;
+      copy.permissions = permissions;
+      copy.permissionMask = permissionMask;
+      copy.token = token;
+      return copy;
+    }
   }
 }
@@ -1,8 +1,10 @@
 package com.beeja.api.financemanagementservice.client;
 
+import com.beeja.api.commons.principal.PrincipalInvalidations;
 import com.beeja.api.financemanagementservice.modals.clients.finance.EmployeeNameDTO;
 import com.beeja.api.financemanagementservice.modals.clients.finance.OrganizationPattern;
 import java.util.List;
+import java.util.Map;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,6 +20,9 @@ public interface AccountClient {
   @PostMapping("/v1/users/names")
   List<EmployeeNameDTO> getEmployeeNamesByIds(@RequestBody List<String> employeeIds);
 
+  @PostMapping("/v1/users/names/batch")
+  Map<String, String> getEmployeeNameMap(@RequestBody List<String> employeeIds);
+
   @GetMapping("/v1/users/{employeeId}")
   ResponseEntity<?> getUserByEmployeeId(
       @PathVariable String employeeId, @RequestHeader("Authorization") String authorizationHeader);
@@ -25,6 +30,20 @@ public interface AccountClient {
   @GetMapping("v1/users/email/{email}")
   ResponseEntity<?> getEmployeeByEmail(@PathVariable String email);
 
+  @GetMapping("v1/users/email/{email}")
+  ResponseEntity<?> getEmployeeByEmail(
+      @PathVariable String email, @RequestHeader("Authorization") String authorizationHeader);
+
+  @GetMapping("v1/users/organizations/{organizationId}/email/{email}")
+  ResponseEntity<?> getUserOfOrganizationByEmail(
+      @PathVariable String organizationId,
+      @PathVariable String email,
+      @RequestHeader("Authorization") String authorizationHeader);
+
   @GetMapping("/v1/organization/patterns/active")
   ResponseEntity<OrganizationPattern> getActivePatternByType(@RequestParam String patternType);
+
+  @GetMapping("/v1/principal-invalidations")
+  ResponseEntity<PrincipalInvalidations> getPrincipalInvalidations(
+      @RequestParam long after, @RequestHeader("Authorization") String authorizationHeader);
 }
@@ -5,32 +5,63 @@ import static com.beeja.api.financemanagementservice.Utils.Constants.NO_REQUIRED
 import com.beeja.api.financemanagementservice.Utils.UserContext;
 import com.beeja.api.financemanagementservice.annotations.HasPermission;
 import com.beeja.api.financemanagementservice.exceptions.CustomAccessDeniedException;
-import java.util.ArrayList;
+import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Aspect
 @Component
 public class PermissionAspect {
 
+  @Autowired PermissionRegistry permissionRegistry;
+
+  private final Map<Method, long[]> anyOfMasks = new ConcurrentHashMap<>();
+
   @Before("@annotation(hasPermission)")
-  public void checkPermission(HasPermission hasPermission) throws CustomAccessDeniedException {
-    String[] requiredPermissions = hasPermission.value();
-    List<String> userPermissions = getUserPermissions();
+  public void checkPermission(JoinPoint joinPoint, HasPermission hasPermission)
+      throws CustomAccessDeniedException {
+    long[] requiredPermissions = requiredMask(anyOfMasks, joinPoint, hasPermission.value());
+    long[] userPermissions = getUserPermissionMask();
 
     boolean hasRequiredPermission =
-        Arrays.stream(requiredPermissions).anyMatch(userPermissions::contains);
+        PermissionRegistry.intersects(userPermissions, requiredPermissions);
     if (!hasRequiredPermission) {
       throw new CustomAccessDeniedException(NO_REQUIRED_PERMISSIONS);
     }
   }
 
-  private List<String> getUserPermissions() {
-    Set<String> loggedInUserPermissions = UserContext.getLoggedInUserPermissions();
-    return new ArrayList<>(loggedInUserPermissions);
+  /**
+   * Returns the mask of permissions required by the advised method, compiling it on the first
+   * call and reusing it afterwards.
+   */
+  private long[] requiredMask(
+      Map<Method, long[]> masks, JoinPoint joinPoint, String... requiredPermissions) {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    long[] mask = masks.get(method);
+    if (mask == null) {
+      mask = permissionRegistry.compile(Arrays.asList(requiredPermissions));
+      masks.put(method, mask);
+    }
+    return mask;
+  }
+
+  /**
+   * Returns the logged-in user's permission mask, compiling it once per request from {@link
+   * UserContext}.
+   */
+  private long[] getUserPermissionMask() {
+    long[] mask = UserContext.getLoggedInUserPermissionMask();
+    if (mask == null) {
+      mask = permissionRegistry.compile(UserContext.getLoggedInUserPermissions());
+      UserContext.setLoggedInUserPermissionMask(mask);
+    }
+    return mask;
   }
 }
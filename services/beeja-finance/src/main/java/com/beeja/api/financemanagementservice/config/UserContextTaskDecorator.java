@@ -0,0 +1,18 @@
+package com.beeja.api.financemanagementservice.config;
+
+import com.beeja.api.financemanagementservice.Utils.UserContext;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs {@code @Async} and other executor tasks with the user of the thread that submitted them.
+ * Spring Boot applies it to the application task executor automatically.
+ */
+@Component
+public class UserContextTaskDecorator implements TaskDecorator {
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    return UserContext.wrap(runnable);
+  }
+}
@@ -0,0 +1,61 @@
+package com.beeja.api.financemanagementservice.config;
+
+import com.mongodb.MongoClientSettings;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks, when {@code spring.threads.virtual.enabled} is set, that requests can really run on
+ * virtual threads without pinning their carriers. Spring Boot quietly keeps platform threads on a
+ * JVM older than 21, and Mongo drivers before 4.11 hold {@code synchronized} monitors around
+ * pooled connection I/O. Feign's default client uses HttpURLConnection, which stopped pinning in
+ * JDK 18. Start the JVM with {@code -Djdk.tracePinnedThreads=short} to report any pinning left.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadGuard {
+
+  private static final int[] MINIMUM_MONGO_DRIVER_VERSION = {4, 11};
+
+  @Autowired Environment environment;
+
+  @PostConstruct
+  public void verify() {
+    if (!Threading.VIRTUAL.isActive(environment)) {
+      log.warn(
+          "Virtual threads are enabled but Java {} does not support them, using platform threads",
+          Runtime.version().feature());
+      return;
+    }
+    // Read from the driver jar's manifest rather than from the driver's internal packages.
+    String driverVersion = MongoClientSettings.class.getPackage().getImplementationVersion();
+    if (driverVersion == null) {
+      log.warn(
+          "Could not tell the Mongo driver version, run with -Djdk.tracePinnedThreads=short to"
+              + " check for pinning");
+    } else if (!isAtLeast(driverVersion, MINIMUM_MONGO_DRIVER_VERSION)) {
+      throw new IllegalStateException(
+          "Mongo driver "
+              + driverVersion
+              + " pins carrier threads, virtual threads need 4.11 or later");
+    }
+    log.info("Handling requests on virtual threads");
+  }
+
+  static boolean isAtLeast(String version, int[] minimum) {
+    String[] parts = version.split("[.-]");
+    for (int i = 0; i < minimum.length; i++) {
+      int part = i < parts.length && parts[i].matches("\\d+") ? Integer.parseInt(parts[i]) : 0;
+      if (part != minimum[i]) {
+        return part > minimum[i];
+      }
+    }
+    return true;
+  }
+}
@@ -12,7 +12,6 @@ import com.beeja.api.financemanagementservice.enums.ErrorType;
 import com.beeja.api.financemanagementservice.enums.LoanStatus;
 import com.beeja.api.financemanagementservice.exceptions.ResourceNotFoundException;
 import com.beeja.api.financemanagementservice.modals.Loan;
-import com.beeja.api.financemanagementservice.modals.clients.finance.EmployeeNameDTO;
 import com.beeja.api.financemanagementservice.modals.clients.finance.OrganizationPattern;
 import com.beeja.api.financemanagementservice.repository.LoanRepository;
 import com.beeja.api.financemanagementservice.requests.BulkPayslipRequest;
@@ -188,17 +187,12 @@ public class LoanServiceImpl implements LoanService {
       Set<String> employeeIds =
           loans.stream().map(LoanDTO::getEmployeeId).collect(Collectors.toSet());
 
-      List<EmployeeNameDTO> employeeNamesList = null;
-
+      Map<String, String> employeeNamesMap = Map.of();
       try {
-        employeeNamesList = accountClient.getEmployeeNamesByIds(new ArrayList<>(employeeIds));
+        employeeNamesMap = accountClient.getEmployeeNameMap(new ArrayList<>(employeeIds));
       } catch (Exception e) {
         log.warn("failed to fetch employeeNames");
       }
-      Map<String, String> employeeNamesMap =
-          employeeNamesList.stream()
-              .collect(
-                  Collectors.toMap(EmployeeNameDTO::getEmployeeId, EmployeeNameDTO::getFullName));
 
       for (LoanDTO loan : loans) {
         String empId = loan.getEmployeeId();
@@ -1,12 +1,29 @@
 package com.beeja.api.performance_management.client;
 
+import com.beeja.api.commons.principal.PrincipalInvalidations;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @FeignClient(value = "account-service", url = "${client-urls.accountsService}")
 public interface AccountClient {
   @GetMapping("v1/users/email/{email}")
   ResponseEntity<?> getEmployeeByEmail(@PathVariable String email);
+
+  @GetMapping("v1/users/email/{email}")
+  ResponseEntity<?> getEmployeeByEmail(
+      @PathVariable String email, @RequestHeader("Authorization") String authorizationHeader);
+
+  @GetMapping("v1/users/organizations/{organizationId}/email/{email}")
+  ResponseEntity<?> getUserOfOrganizationByEmail(
+      @PathVariable String organizationId,
+      @PathVariable String email,
+      @RequestHeader("Authorization") String authorizationHeader);
+
+  @GetMapping("/v1/principal-invalidations")
+  ResponseEntity<PrincipalInvalidations> getPrincipalInvalidations(
+      @RequestParam long after, @RequestHeader("Authorization") String authorizationHeader);
 }
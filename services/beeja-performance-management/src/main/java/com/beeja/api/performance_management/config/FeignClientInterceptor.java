@@ -1,6 +1,7 @@
 package com.beeja.api.performance_management.config;
 
 import com.beeja.api.performance_management.utils.Constants;
+import com.beeja.api.performance_management.utils.UserContext;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
 import org.springframework.stereotype.Component;
@@ -24,6 +25,8 @@ public class FeignClientInterceptor implements RequestInterceptor {
     if (attributes != null) {
       return attributes.getRequest().getHeader(Constants.AUTHORIZATION);
     }
-    return null;
+    // Outside a request thread, e.g. in @Async work, fall back to the propagated user's token.
+    String accessToken = UserContext.getAccessToken();
+    return accessToken == null ? null : "Bearer " + accessToken;
   }
 }
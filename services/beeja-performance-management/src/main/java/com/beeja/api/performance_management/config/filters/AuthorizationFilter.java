@@ -1,6 +1,5 @@
 package com.beeja.api.performance_management.config.filters;
 
-import com.beeja.api.performance_management.client.AccountClient;
 import com.beeja.api.performance_management.utils.Constants;
 import com.beeja.api.performance_management.utils.JwtUtils;
 import com.beeja.api.performance_management.utils.UserContext;
@@ -13,12 +12,10 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -27,10 +24,12 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class AuthorizationFilter extends OncePerRequestFilter {
 
-  @Autowired AccountClient accountClient;
-
   @Autowired JwtProperties jwtProperties;
 
+  @Autowired PermissionVersionRegistry permissionVersionRegistry;
+
+  @Autowired PrincipalCache principalCache;
+
   @Override
   protected void doFilterInternal(
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -39,7 +38,9 @@ public class AuthorizationFilter extends OncePerRequestFilter {
         || request.getRequestURI().equals("/finance/api-docs/swagger-config")
         || request.getRequestURI().startsWith("/finance/swagger-ui")
         || request.getRequestURI().startsWith("/finance/openApi.yaml")
-        || request.getRequestURI().startsWith("/finance/v3/api-docs")) {
+        || request.getRequestURI().startsWith("/finance/v3/api-docs")
+        // Internal endpoint, called without a user; the controller checks the token.
+        || request.getRequestURI().equals("/performance/v1/principal-cache")) {
       filterChain.doFilter(request, response);
       return;
     }
@@ -71,56 +72,45 @@ public class AuthorizationFilter extends OncePerRequestFilter {
   private boolean validateJWT(String accessToken) throws Exception {
     Claims claims = JwtUtils.decodeJWT(accessToken, jwtProperties.getSecret());
     String email = claims.get("sub").toString();
-    return checkUserPresenceAndSetActive(email, accessToken);
+    if (JwtUtils.hasPermissionClaims(claims)
+        && permissionVersionRegistry.isCurrent(email, JwtUtils.getPermissionVersion(claims))) {
+      setLoggedInUserFromClaims(claims, accessToken);
+      return true;
+    }
+    return checkUserPresenceAndSetActive(email, JwtUtils.getOrganizationId(claims), accessToken);
   }
 
-  private boolean checkUserPresenceAndSetActive(String email, String accessToken) {
-    ResponseEntity<LinkedHashMap<String, Object>> userIsPresent =
-        (ResponseEntity<LinkedHashMap<String, Object>>) accountClient.getEmployeeByEmail(email);
-    LinkedHashMap<String, Object> responseBody = userIsPresent.getBody();
-    if (userIsPresent.getStatusCode().is2xxSuccessful() && responseBody != null) {
-      Boolean userIsActive = (Boolean) responseBody.get("active");
-      if (userIsActive) {
-        setLoggedInUser(responseBody, accessToken);
-      }
-      return userIsActive;
+  private boolean checkUserPresenceAndSetActive(
+      String email, String organizationId, String accessToken) {
+    CachedPrincipal principal =
+        principalCache.get(email, organizationId, "Bearer " + accessToken);
+    if (principal == null || !principal.active()) {
+      return false;
     }
-    return false;
+    setLoggedInUser(principal, accessToken);
+    permissionVersionRegistry.recordVerified(email, principal.permissionVersion());
+    return true;
   }
 
-  private void setLoggedInUser(LinkedHashMap<String, Object> responseBody, String accessToken) {
-    String email = responseBody.get("email").toString();
-    String firstName = responseBody.get("firstName").toString();
-    String employeeId = responseBody.get("employeeId").toString();
-    Map<String, Object> userOrganization = getUserOrganization(responseBody);
-    Set<String> permissions = getPermissions(responseBody);
+  private void setLoggedInUser(CachedPrincipal principal, String accessToken) {
     UserContext.setLoggedInUser(
-        email, firstName, employeeId, userOrganization, permissions, accessToken);
+        principal.email(),
+        principal.firstName(),
+        principal.employeeId(),
+        new HashMap<>(principal.organization()),
+        new HashSet<>(principal.permissions()),
+        accessToken);
   }
 
-  private Map<String, Object> getUserOrganization(LinkedHashMap<String, Object> responseBody) {
-    Map<String, Object> userOrganization = new HashMap<>();
-    Map<String, Object> organizations = (Map<String, Object>) responseBody.get("organizations");
-    if (organizations != null) {
-      userOrganization.put(Constants.ID, organizations.get("id"));
-      userOrganization.put(Constants.NAME, organizations.get("name"));
-      userOrganization.put(Constants.EMAIL, organizations.get("email"));
-    }
-    return userOrganization;
-  }
-
-  private Set<String> getPermissions(LinkedHashMap<String, Object> responseBody) {
-    Set<String> permissions = new HashSet<>();
-    Collection<LinkedHashMap<String, Object>> roles =
-        (Collection<LinkedHashMap<String, Object>>) responseBody.get("roles");
-    if (roles != null) {
-      for (LinkedHashMap<String, Object> role : roles) {
-        Collection<String> rolePermissions = (Collection<String>) role.get("permissions");
-        if (rolePermissions != null) {
-          permissions.addAll(rolePermissions);
-        }
-      }
-    }
-    return permissions;
+  private void setLoggedInUserFromClaims(Claims claims, String accessToken) {
+    String email = claims.getSubject();
+    String firstName = (String) claims.get(JwtUtils.CLAIM_NAME);
+    String employeeId = (String) claims.get(JwtUtils.CLAIM_EMPLOYEE_ID);
+    Map<String, Object> userOrganization =
+        new HashMap<>((Map<String, Object>) claims.get(JwtUtils.CLAIM_ORGANIZATION));
+    Set<String> permissions =
+        new HashSet<>((Collection<String>) claims.get(JwtUtils.CLAIM_PERMISSIONS));
+    UserContext.setLoggedInUser(
+        email, firstName, employeeId, userOrganization, permissions, accessToken);
   }
 }
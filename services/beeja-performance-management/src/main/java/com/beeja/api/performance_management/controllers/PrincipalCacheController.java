@@ -0,0 +1,35 @@
+package com.beeja.api.performance_management.controllers;
+
+import com.beeja.api.performance_management.config.InternalCallerVerifier;
+import com.beeja.api.performance_management.config.filters.PrincipalCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** Lets administrators evict cached principals by hand, with the internal endpoint token. */
+@RestController
+@RequestMapping("/v1/principal-cache")
+public class PrincipalCacheController {
+
+  @Autowired PrincipalCache principalCache;
+
+  @Autowired InternalCallerVerifier internalCallerVerifier;
+
+  /** Evicts the cached principal of one user, or of every user when no email is given. */
+  @DeleteMapping
+  public ResponseEntity<Void> evict(
+      @RequestHeader("Authorization") String authorization,
+      @RequestParam(required = false) String email) {
+    internalCallerVerifier.verify(authorization);
+    if (email == null) {
+      principalCache.evictAll();
+    } else {
+      principalCache.evict(email);
+    }
+    return ResponseEntity.noContent().build();
+  }
+}
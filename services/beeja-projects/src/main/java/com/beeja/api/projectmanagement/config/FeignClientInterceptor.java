@@ -1,5 +1,6 @@
 package com.beeja.api.projectmanagement.config;
 
+import com.beeja.api.projectmanagement.utils.UserContext;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
 import org.springframework.stereotype.Component;
@@ -38,6 +39,8 @@ public class FeignClientInterceptor implements RequestInterceptor {
     if (attributes != null) {
       return attributes.getRequest().getHeader("authorization");
     }
-    return null;
+    // Outside a request thread, e.g. in @Async work, fall back to the propagated user's token.
+    String accessToken = UserContext.getLoggedInUserToken();
+    return accessToken == null ? null : "Bearer " + accessToken;
   }
 }
@@ -0,0 +1,34 @@
+package com.beeja.api.projectmanagement.config;
+
+import static com.beeja.api.projectmanagement.utils.Constants.NO_REQUIRED_PERMISSIONS;
+
+import com.beeja.api.projectmanagement.config.filters.PrincipalCacheProperties;
+import com.beeja.api.projectmanagement.exceptions.CustomAccessDeniedException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/** Admits the other services, which call internal endpoints with the internal endpoint token. */
+@Component
+public class InternalCallerVerifier {
+
+  @Autowired PrincipalCacheProperties principalCacheProperties;
+
+  /**
+   * @throws CustomAccessDeniedException unless the header carries the internal endpoint token
+   */
+  public void verify(String authorization) {
+    String internalToken = principalCacheProperties.getInvalidationToken();
+    boolean internalCaller =
+        internalToken != null
+            && !internalToken.isBlank()
+            && authorization != null
+            && MessageDigest.isEqual(
+                ("Bearer " + internalToken).getBytes(StandardCharsets.UTF_8),
+                authorization.getBytes(StandardCharsets.UTF_8));
+    if (!internalCaller) {
+      throw new CustomAccessDeniedException(NO_REQUIRED_PERMISSIONS);
+    }
+  }
+}
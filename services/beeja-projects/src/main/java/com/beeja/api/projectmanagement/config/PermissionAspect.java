@@ -5,12 +5,15 @@ import static com.beeja.api.projectmanagement.utils.Constants.NO_REQUIRED_PERMIS
 import com.beeja.api.projectmanagement.annotations.HasPermission;
 import com.beeja.api.projectmanagement.exceptions.CustomAccessDeniedException;
 import com.beeja.api.projectmanagement.utils.UserContext;
-import java.util.ArrayList;
+import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
@@ -21,20 +24,26 @@ import org.springframework.stereotype.Component;
 @Component
 public class PermissionAspect {
 
+  @Autowired PermissionRegistry permissionRegistry;
+
+  private final Map<Method, long[]> anyOfMasks = new ConcurrentHashMap<>();
+
   /**
    * Checks if the logged-in user has at least one of the required permissions before proceeding
    * with the method execution.
    *
+   * @param joinPoint the advised call
    * @param hasPermission the {@link HasPermission} annotation containing required permissions
    * @throws CustomAccessDeniedException if the user lacks all required permissions
    */
   @Before("@annotation(hasPermission)")
-  public void checkPermission(HasPermission hasPermission) throws CustomAccessDeniedException {
-    String[] requiredPermissions = hasPermission.value();
-    List<String> userPermissions = getUserPermissions();
+  public void checkPermission(JoinPoint joinPoint, HasPermission hasPermission)
+      throws CustomAccessDeniedException {
+    long[] requiredPermissions = requiredMask(anyOfMasks, joinPoint, hasPermission.value());
+    long[] userPermissions = getUserPermissionMask();
 
     boolean hasRequiredPermission =
-        Arrays.stream(requiredPermissions).anyMatch(userPermissions::contains);
+        PermissionRegistry.intersects(userPermissions, requiredPermissions);
 
     if (!hasRequiredPermission) {
       throw new CustomAccessDeniedException(NO_REQUIRED_PERMISSIONS);
@@ -42,12 +51,30 @@ public class PermissionAspect {
   }
 
   /**
-   * Retrieves the permissions of the currently logged-in user from {@link UserContext}.
-   *
-   * @return a list of permission strings assigned to the user
+   * Returns the mask of permissions required by the advised method, compiling it on the first
+   * call and reusing it afterwards.
    */
-  private List<String> getUserPermissions() {
-    Set<String> loggedInUserPermissions = UserContext.getLoggedInUserPermissions();
-    return new ArrayList<>(loggedInUserPermissions);
+  private long[] requiredMask(
+      Map<Method, long[]> masks, JoinPoint joinPoint, String... requiredPermissions) {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    long[] mask = masks.get(method);
+    if (mask == null) {
+      mask = permissionRegistry.compile(Arrays.asList(requiredPermissions));
+      masks.put(method, mask);
+    }
+    return mask;
+  }
+
+  /**
+   * Returns the logged-in user's permission mask, compiling it once per request from {@link
+   * UserContext}.
+   */
+  private long[] getUserPermissionMask() {
+    long[] mask = UserContext.getLoggedInUserPermissionMask();
+    if (mask == null) {
+      mask = permissionRegistry.compile(UserContext.getLoggedInUserPermissions());
+      UserContext.setLoggedInUserPermissionMask(mask);
+    }
+    return mask;
   }
 }
@@ -1,6 +1,5 @@
 package com.beeja.api.projectmanagement.config.filters;
 
-import com.beeja.api.projectmanagement.client.AccountClient;
 import com.beeja.api.projectmanagement.utils.Constants;
 import com.beeja.api.projectmanagement.utils.JwtUtils;
 import com.beeja.api.projectmanagement.utils.UserContext;
@@ -13,12 +12,10 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -31,10 +28,12 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class AuthorizationFilter extends OncePerRequestFilter {
 
-  @Autowired AccountClient accountClient;
-
   @Autowired JwtProperties jwtProperties;
 
+  @Autowired PermissionVersionRegistry permissionVersionRegistry;
+
+  @Autowired PrincipalCache principalCache;
+
   /**
    * Filters each incoming HTTP request to validate the JWT token and authenticate the user.
    *
@@ -52,7 +51,9 @@ public class AuthorizationFilter extends OncePerRequestFilter {
     if (request.getRequestURI().startsWith("/projects/actuator/")
         || request.getRequestURI().equals("/projects/api-docs/swagger-config")
         || request.getRequestURI().startsWith("/projects/swagger-ui/")
-        || request.getRequestURI().startsWith("/projects/openApi.yaml")) {
+        || request.getRequestURI().startsWith("/projects/openApi.yaml")
+        // Internal endpoint, called without a user; the controller checks the token.
+        || request.getRequestURI().equals("/projects/v1/principal-cache")) {
       filterChain.doFilter(request, response);
       return;
     }
@@ -98,83 +99,66 @@ public class AuthorizationFilter extends OncePerRequestFilter {
   private boolean validateJWT(String accessToken) throws Exception {
     Claims claims = JwtUtils.decodeJWT(accessToken, jwtProperties.getSecret());
     String email = claims.get("sub").toString();
-    return checkUserPresenceAndSetActive(email, accessToken);
+    if (JwtUtils.hasPermissionClaims(claims)
+        && permissionVersionRegistry.isCurrent(email, JwtUtils.getPermissionVersion(claims))) {
+      setLoggedInUserFromClaims(claims, accessToken);
+      return true;
+    }
+    return checkUserPresenceAndSetActive(email, JwtUtils.getOrganizationId(claims), accessToken);
   }
 
   /**
-   * Verifies if the user exists and is active in the system; sets the user context if valid.
+   * Verifies if the user exists and is active in the system; sets the user context if valid. The
+   * user is looked up in {@link PrincipalCache}, which only asks accounts on a miss.
    *
    * @param email the user's email
+   * @param organizationId the organization claimed by the access token, if any
    * @param accessToken the JWT access token
    * @return {@code true} if user exists and is active; {@code false} otherwise
    */
-  private boolean checkUserPresenceAndSetActive(String email, String accessToken) {
-    ResponseEntity<LinkedHashMap<String, Object>> userIsPresent =
-        (ResponseEntity<LinkedHashMap<String, Object>>) accountClient.getEmployeeByEmail(email);
-    LinkedHashMap<String, Object> responseBody = userIsPresent.getBody();
-    if (userIsPresent.getStatusCode().is2xxSuccessful() && responseBody != null) {
-      Boolean userIsActive = (Boolean) responseBody.get("active");
-      if (userIsActive) {
-        setLoggedInUser(responseBody, accessToken);
-      }
-      return userIsActive;
+  private boolean checkUserPresenceAndSetActive(
+      String email, String organizationId, String accessToken) {
+    CachedPrincipal principal =
+        principalCache.get(email, organizationId, "Bearer " + accessToken);
+    if (principal == null || !principal.active()) {
+      return false;
     }
-    return false;
+    setLoggedInUser(principal, accessToken);
+    permissionVersionRegistry.recordVerified(email, principal.permissionVersion());
+    return true;
   }
 
   /**
    * Sets the authenticated user's details into the {@link UserContext}.
    *
-   * @param responseBody the response body containing user details
+   * @param principal the cached principal of the user
    * @param accessToken the JWT access token
    */
-  private void setLoggedInUser(LinkedHashMap<String, Object> responseBody, String accessToken) {
-    String email = responseBody.get("email").toString();
-    String firstName = responseBody.get("firstName").toString();
-    String employeeId = responseBody.get("employeeId").toString();
-    Map<String, Object> userOrganization = getUserOrganization(responseBody);
-    Set<String> permissions = getPermissions(responseBody);
+  private void setLoggedInUser(CachedPrincipal principal, String accessToken) {
     UserContext.setLoggedInUser(
-        email, firstName, employeeId, userOrganization, permissions, accessToken);
-  }
-
-  /**
-   * Extracts the user's organization details from the response.
-   *
-   * @param responseBody the response body containing user details
-   * @return a map containing organization details like id, name, and email
-   */
-  private Map<String, Object> getUserOrganization(LinkedHashMap<String, Object> responseBody) {
-    Map<String, Object> userOrganization = new HashMap<>();
-    Map<String, Object> organizations = (Map<String, Object>) responseBody.get("organizations");
-    if (organizations != null) {
-      userOrganization.put(Constants.ID, organizations.get("id"));
-      userOrganization.put(Constants.NAME, organizations.get("name"));
-      userOrganization.put(Constants.EMAIL, organizations.get("email"));
-      userOrganization.put(Constants.ADDRESS, organizations.get("address"));
-      userOrganization.put(Constants.BANK_DETAILS, organizations.get("bankDetails"));
-    }
-    return userOrganization;
+        principal.email(),
+        principal.firstName(),
+        principal.employeeId(),
+        new HashMap<>(principal.organization()),
+        new HashSet<>(principal.permissions()),
+        accessToken);
   }
 
   /**
-   * Extracts the user's permissions from the response.
+   * Sets the authenticated user's details into the {@link UserContext} from the token claims.
    *
-   * @param responseBody the response body containing user roles and permissions
-   * @return a set of permissions assigned to the user
+   * @param claims the verified claims of the JWT access token
+   * @param accessToken the JWT access token
    */
-  private Set<String> getPermissions(LinkedHashMap<String, Object> responseBody) {
-    Set<String> permissions = new HashSet<>();
-    Collection<LinkedHashMap<String, Object>> roles =
-        (Collection<LinkedHashMap<String, Object>>) responseBody.get("roles");
-    if (roles != null) {
-      for (LinkedHashMap<String, Object> role : roles) {
-        Collection<String> rolePermissions = (Collection<String>) role.get("permissions");
-        if (rolePermissions != null) {
-          permissions.addAll(rolePermissions);
-        }
-      }
-    }
-    return permissions;
+  private void setLoggedInUserFromClaims(Claims claims, String accessToken) {
+    String email = claims.getSubject();
+    String firstName = (String) claims.get(JwtUtils.CLAIM_NAME);
+    String employeeId = (String) claims.get(JwtUtils.CLAIM_EMPLOYEE_ID);
+    Map<String, Object> userOrganization =
+        new HashMap<>((Map<String, Object>) claims.get(JwtUtils.CLAIM_ORGANIZATION));
+    Set<String> permissions =
+        new HashSet<>((Collection<String>) claims.get(JwtUtils.CLAIM_PERMISSIONS));
+    UserContext.setLoggedInUser(
+        email, firstName, employeeId, userOrganization, permissions, accessToken);
   }
 }
@@ -0,0 +1,59 @@
+package com.beeja.api.projectmanagement.config.filters;
+
+import com.beeja.api.projectmanagement.utils.Constants;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable view of a user as reported by accounts, decoded once and shared between requests by
+ * {@link PrincipalCache}.
+ */
+public record CachedPrincipal(
+    String email,
+    String firstName,
+    String employeeId,
+    Map<String, Object> organization,
+    Set<String> permissions,
+    long permissionVersion,
+    boolean active) {
+
+  @SuppressWarnings("unchecked")
+  static CachedPrincipal from(Map<String, Object> responseBody) {
+    Map<String, Object> userOrganization = new HashMap<>();
+    Map<String, Object> organizations = (Map<String, Object>) responseBody.get("organizations");
+    if (organizations != null) {
+      userOrganization.put(Constants.ID, organizations.get("id"));
+      userOrganization.put(Constants.NAME, organizations.get("name"));
+      userOrganization.put(Constants.EMAIL, organizations.get("email"));
+      userOrganization.put(Constants.ADDRESS, organizations.get("address"));
+      userOrganization.put(Constants.BANK_DETAILS, organizations.get("bankDetails"));
+    }
+
+    Set<String> permissions = new HashSet<>();
+    Collection<Map<String, Object>> roles =
+        (Collection<Map<String, Object>>) responseBody.get("roles");
+    if (roles != null) {
+      for (Map<String, Object> role : roles) {
+        Collection<String> rolePermissions = (Collection<String>) role.get("permissions");
+        if (rolePermissions != null) {
+          permissions.addAll(rolePermissions);
+        }
+      }
+    }
+
+    Object permissionVersion = responseBody.get("permissionVersion");
+    return new CachedPrincipal(
+        Objects.toString(responseBody.get("email"), null),
+        Objects.toString(responseBody.get("firstName"), null),
+        Objects.toString(responseBody.get("employeeId"), null),
+        Collections.unmodifiableMap(userOrganization),
+        Collections.unmodifiableSet(permissions),
+        permissionVersion instanceof Number ? ((Number) permissionVersion).longValue() : 0L,
+        Boolean.TRUE.equals(responseBody.get("active")));
+  }
+}
@@ -1,5 +1,6 @@
 package com.beeja.api.projectmanagement.config.filters;
 
+import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -17,4 +18,9 @@ public class JwtProperties {
 
   /** The secret key used to sign and verify JWT tokens. */
   private String secret;
+
+  /**
+   * How long permission claims of a user are trusted after accounts last confirmed their version.
+   */
+  private Duration claimsVerificationInterval = Duration.ofMinutes(5);
 }
@@ -101,6 +101,10 @@ public class InvoiceServiceImpl implements InvoiceService {
     Map<String, Object> responseMap =
         objectMapper.convertValue(
             orgResponse.getBody(), new TypeReference<Map<String, Object>>() {});
+    // tokens only carry the organization's id, name and email
+    UserContext.getLoggedInUserOrganization().putIfAbsent("address", responseMap.get("address"));
+    UserContext.getLoggedInUserOrganization()
+        .putIfAbsent("bankDetails", responseMap.get("bankDetails"));
     Map<String, Object> accountsMap = (Map<String, Object>) responseMap.get("accounts");
     String taxId = accountsMap.get("taxId").toString();
 
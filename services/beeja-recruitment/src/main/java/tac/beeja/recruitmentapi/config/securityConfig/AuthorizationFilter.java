@@ -9,16 +9,13 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.filter.OncePerRequestFilter;
-import tac.beeja.recruitmentapi.client.AccountClient;
 import tac.beeja.recruitmentapi.utils.JwtUtils;
 import tac.beeja.recruitmentapi.utils.UserContext;
 
@@ -26,10 +23,12 @@ import tac.beeja.recruitmentapi.utils.UserContext;
 @Component
 public class AuthorizationFilter extends OncePerRequestFilter {
 
-  @Autowired AccountClient accountClient;
-
   @Autowired JwtProperties jwtProperties;
 
+  @Autowired PermissionVersionRegistry permissionVersionRegistry;
+
+  @Autowired PrincipalCache principalCache;
+
   @Override
   protected void doFilterInternal(
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -38,7 +37,9 @@ public class AuthorizationFilter extends OncePerRequestFilter {
     if (request.getRequestURI().startsWith("/recruitments/actuator/")
         || request.getRequestURI().equals("/recruitments/api-docs/swagger-config")
         || request.getRequestURI().startsWith("/recruitments/swagger-ui/")
-        || request.getRequestURI().startsWith("/recruitments/openApi.yaml")) {
+        || request.getRequestURI().startsWith("/recruitments/openApi.yaml")
+        // Internal endpoint, called without a user; the controller checks the token.
+        || request.getRequestURI().equals("/recruitments/v1/principal-cache")) {
       filterChain.doFilter(request, response);
       return;
     }
@@ -47,6 +48,7 @@ public class AuthorizationFilter extends OncePerRequestFilter {
 
     accessToken = accessToken.substring(7);
     if (isValidAccessToken(accessToken)) {
+      UserContext.setAccessToken(accessToken);
       filterChain.doFilter(request, response);
     } else {
       response.setStatus(HttpServletResponse.SC_FORBIDDEN);
@@ -69,55 +71,43 @@ public class AuthorizationFilter extends OncePerRequestFilter {
   private boolean validateJWT(String accessToken) throws Exception {
     Claims claims = JwtUtils.decodeJWT(accessToken, jwtProperties.getSecret());
     String email = claims.get("sub").toString();
-    return checkUserPresenceAndSetActive(email);
-  }
-
-  private boolean checkUserPresenceAndSetActive(String email) {
-    ResponseEntity<LinkedHashMap<String, Object>> userIsPresent =
-        (ResponseEntity<LinkedHashMap<String, Object>>) accountClient.getEmployeeByEmail(email);
-    LinkedHashMap<String, Object> responseBody = userIsPresent.getBody();
-    if (userIsPresent.getStatusCode().is2xxSuccessful() && responseBody != null) {
-      Boolean userIsActive = (Boolean) responseBody.get("active");
-      if (userIsActive) {
-        setLoggedInUser(responseBody);
-      }
-      return userIsActive;
+    if (JwtUtils.hasPermissionClaims(claims)
+        && permissionVersionRegistry.isCurrent(email, JwtUtils.getPermissionVersion(claims))) {
+      setLoggedInUserFromClaims(claims);
+      return true;
     }
-    return false;
+    return checkUserPresenceAndSetActive(email, JwtUtils.getOrganizationId(claims), accessToken);
   }
 
-  private void setLoggedInUser(LinkedHashMap<String, Object> responseBody) {
-    String email = responseBody.get("email").toString();
-    String firstName = responseBody.get("firstName").toString();
-    String employeeId = responseBody.get("employeeId").toString();
-    Map<String, Object> userOrganization = getUserOrganization(responseBody);
-    Set<String> permissions = getPermissions(responseBody);
-    UserContext.setLoggedInUser(email, firstName, employeeId, userOrganization, permissions);
+  private boolean checkUserPresenceAndSetActive(
+      String email, String organizationId, String accessToken) {
+    CachedPrincipal principal =
+        principalCache.get(email, organizationId, "Bearer " + accessToken);
+    if (principal == null || !principal.active()) {
+      return false;
+    }
+    setLoggedInUser(principal);
+    permissionVersionRegistry.recordVerified(email, principal.permissionVersion());
+    return true;
   }
 
-  private Map<String, Object> getUserOrganization(LinkedHashMap<String, Object> responseBody) {
-    Map<String, Object> userOrganization = new HashMap<>();
-    Map<String, Object> organizations = (Map<String, Object>) responseBody.get("organizations");
-    if (organizations != null) {
-      userOrganization.put("id", organizations.get("id"));
-      userOrganization.put("name", organizations.get("name"));
-      userOrganization.put("email", organizations.get("email"));
-    }
-    return userOrganization;
+  private void setLoggedInUser(CachedPrincipal principal) {
+    UserContext.setLoggedInUser(
+        principal.email(),
+        principal.firstName(),
+        principal.employeeId(),
+        new HashMap<>(principal.organization()),
+        new HashSet<>(principal.permissions()));
   }
 
-  private Set<String> getPermissions(LinkedHashMap<String, Object> responseBody) {
-    Set<String> permissions = new HashSet<>();
-    Collection<LinkedHashMap<String, Object>> roles =
-        (Collection<LinkedHashMap<String, Object>>) responseBody.get("roles");
-    if (roles != null) {
-      for (LinkedHashMap<String, Object> role : roles) {
-        Collection<String> rolePermissions = (Collection<String>) role.get("permissions");
-        if (rolePermissions != null) {
-          permissions.addAll(rolePermissions);
-        }
-      }
-    }
-    return permissions;
+  private void setLoggedInUserFromClaims(Claims claims) {
+    String email = claims.getSubject();
+    String firstName = (String) claims.get(JwtUtils.CLAIM_NAME);
+    String employeeId = (String) claims.get(JwtUtils.CLAIM_EMPLOYEE_ID);
+    Map<String, Object> userOrganization =
+        new HashMap<>((Map<String, Object>) claims.get(JwtUtils.CLAIM_ORGANIZATION));
+    Set<String> permissions =
+        new HashSet<>((Collection<String>) claims.get(JwtUtils.CLAIM_PERMISSIONS));
+    UserContext.setLoggedInUser(email, firstName, employeeId, userOrganization, permissions);
   }
 }